@@ -0,0 +1,97 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.DockerClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.dockerclient.EnvironmentAndSystemPropertyClientProviderStrategy;
+import org.testcontainers.jmh.StubDockerDaemon;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Docker bootstrap (strategy probing, {@code /info} and {@code /version}) against a stub daemon answering
+ * every call after {@code latencyMillis}:
+ * <ul>
+ * <li>{@code constructContainer}: constructing the first container of a fresh JVM, which doesn't connect to Docker</li>
+ * <li>{@code firstContainer}: constructing, starting and stopping the first container of a fresh JVM</li>
+ * <li>{@code client}: obtaining the client from many threads once bootstrapped</li>
+ * </ul>
+ * Requires {@code TESTCONTAINERS_RYUK_DISABLED=true}, which the {@code jmh} task sets.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ContainerBootstrapBenchmark {
+
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    private StubDockerDaemon daemon;
+
+    @Setup
+    public void setUp() throws Exception {
+        daemon = StubDockerDaemon.start()
+            .withLatency(Duration.ofMillis(latencyMillis))
+            .withResponse("/info", "{\"ServerVersion\":\"18.09.0\",\"OperatingSystem\":\"stub\",\"MemTotal\":2147483648}")
+            .withResponse("/version", "{\"Version\":\"18.09.0\",\"ApiVersion\":\"1.37\"}")
+            .withResponse("/images/json", "[{\"Id\":\"sha256:stub\",\"RepoTags\":[\"stub:latest\"],\"Created\":0,\"Size\":0}]")
+            .withResponse("/containers/create", "{\"Id\":\"stub\"}")
+            .withResponse("/containers/stub/json", "{\"Id\":\"stub\",\"Name\":\"/stub\",\"State\":{\"Running\":true,\"ExitCode\":0},\"Config\":{\"Image\":\"stub:latest\"},\"NetworkSettings\":{\"Ports\":{}}}")
+            .withResponse("/events", "");
+
+        System.setProperty("DOCKER_HOST", daemon.getDockerHost());
+        TestcontainersConfiguration.getInstance().getProperties()
+            .setProperty("docker.client.strategy", EnvironmentAndSystemPropertyClientProviderStrategy.class.getName());
+        TestcontainersConfiguration.getInstance().getProperties()
+            .setProperty("checks.disable", "true");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        daemon.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public GenericContainer<?> constructContainer() {
+        return new GenericContainer<>("stub:latest");
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public void firstContainer() {
+        GenericContainer<?> container = new GenericContainer<>("stub:latest");
+        container.start();
+        container.stop();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    @Threads(8)
+    public DockerClient client() {
+        return DockerClientFactory.instance().client();
+    }
+}
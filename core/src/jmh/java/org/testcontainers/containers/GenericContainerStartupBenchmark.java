@@ -0,0 +1,83 @@
+package org.testcontainers.containers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testcontainers.dockerclient.EnvironmentAndSystemPropertyClientProviderStrategy;
+import org.testcontainers.jmh.StubDockerDaemon;
+import org.testcontainers.utility.MountableFile;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of {@link GenericContainer#start()} and {@link GenericContainer#stop()} against a stub daemon answering every
+ * call after {@code latencyMillis}, for a container with files to copy and a log consumer.
+ * <p>
+ * Requires {@code TESTCONTAINERS_RYUK_DISABLED=true}, which the {@code jmh} task sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenericContainerStartupBenchmark {
+
+    @Param({"0", "5"})
+    public int latencyMillis;
+
+    private StubDockerDaemon daemon;
+
+    private MountableFile file;
+
+    @Setup
+    public void setUp() throws Exception {
+        daemon = StubDockerDaemon.start()
+            .withLatency(Duration.ofMillis(latencyMillis))
+            .withResponse("/info", "{\"ServerVersion\":\"18.09.0\",\"OperatingSystem\":\"stub\",\"MemTotal\":2147483648}")
+            .withResponse("/version", "{\"Version\":\"18.09.0\",\"ApiVersion\":\"1.37\"}")
+            .withResponse("/images/json", "[{\"Id\":\"sha256:stub\",\"RepoTags\":[\"stub:latest\"],\"Created\":0,\"Size\":0}]")
+            .withResponse("/containers/create", "{\"Id\":\"stub\"}")
+            .withResponse("/containers/stub/json", "{\"Id\":\"stub\",\"Name\":\"/stub\",\"State\":{\"Running\":true,\"ExitCode\":0},\"Config\":{\"Image\":\"stub:latest\"},\"NetworkSettings\":{\"Ports\":{}}}")
+            .withResponse("/containers/stub/logs", "")
+            .withResponse("/events", "");
+
+        System.setProperty("DOCKER_HOST", daemon.getDockerHost());
+        TestcontainersConfiguration.getInstance().getProperties()
+            .setProperty("docker.client.strategy", EnvironmentAndSystemPropertyClientProviderStrategy.class.getName());
+        TestcontainersConfiguration.getInstance().getProperties()
+            .setProperty("checks.disable", "true");
+
+        Path path = Files.createTempFile("tc-startup-benchmark", ".txt");
+        Files.write(path, "content".getBytes());
+        file = MountableFile.forHostPath(path);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        daemon.close();
+    }
+
+    @Benchmark
+    public void startAndStop() {
+        GenericContainer<?> container = new GenericContainer<>("stub:latest")
+            .withCopyFileToContainer(file, "/tmp/file.txt")
+            .withLogConsumer(frame -> {
+            });
+        container.start();
+        container.stop();
+    }
+}
@@ -0,0 +1,90 @@
+package org.testcontainers.dockerclient;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.dockerclient.transport.okhttp.OkHttpDockerCmdExecFactory;
+import org.testcontainers.jmh.StubDockerDaemon;
+import org.testcontainers.utility.AuditLogger;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of {@link AuditLoggingDockerClient}: {@code raw} uses the client without the wrapper, {@code disabled}
+ * and {@code enabled} use the wrapper with the audit logger at {@code INFO} and {@code TRACE} levels (the latter without
+ * any appender, so that only capturing the actions is measured). Building a command involves no I/O, starting a container
+ * is a call to a stub daemon.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditLoggingDockerClientBenchmark {
+
+    @Param({"raw", "disabled", "enabled"})
+    public String audit;
+
+    private StubDockerDaemon daemon;
+
+    private DockerClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        daemon = StubDockerDaemon.start();
+
+        Logger auditLogger = (Logger) LoggerFactory.getLogger(AuditLogger.class);
+        auditLogger.setLevel("enabled".equals(audit) ? Level.TRACE : Level.INFO);
+        auditLogger.setAdditive(false);
+
+        DockerClient rawClient = DockerClientBuilder
+            .getInstance(
+                DefaultDockerClientConfig.createDefaultConfigBuilder()
+                    .withDockerHost(daemon.getDockerHost())
+                    .withDockerTlsVerify(false)
+                    .build()
+            )
+            .withDockerCmdExecFactory(new OkHttpDockerCmdExecFactory())
+            .build();
+        client = "raw".equals(audit) ? rawClient : new AuditLoggingDockerClient(rawClient);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void buildCreateContainerCommand(Blackhole blackhole) {
+        blackhole.consume(
+            client.createContainerCmd("stub")
+                .withCmd("sleep", "infinity")
+                .withLabels(Collections.singletonMap("org.testcontainers", "true"))
+                .withEnv("KEY=value")
+        );
+    }
+
+    @Benchmark
+    public void startContainer() {
+        client.startContainerCmd("stub").exec();
+    }
+}
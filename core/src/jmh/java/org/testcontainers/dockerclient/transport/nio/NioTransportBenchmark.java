@@ -0,0 +1,108 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientBuilder;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.dockerclient.transport.okhttp.OkHttpDockerCmdExecFactory;
+import org.testcontainers.jmh.StubDockerDaemon;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call latency of the {@code okhttp} and {@code nio} transports against a stub daemon listening on a unix socket,
+ * for simple calls and for many concurrent log streams.
+ * <p>
+ * The {@code nio} transport requires JDK 16+ to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NioTransportBenchmark {
+
+    private static final String LOGS;
+
+    static {
+        StringBuilder logs = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            logs.append("2019-07-01T00:00:00.000000000Z line ").append(i).append(" of the container output\n");
+        }
+        LOGS = logs.toString();
+    }
+
+    @Param({"okhttp", "nio"})
+    public String transport;
+
+    private StubDockerDaemon daemon;
+
+    private DockerClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        if ("nio".equals(transport) && !NioDockerCmdExecFactory.isSupported()) {
+            throw new IllegalStateException("The nio transport requires JDK 16+");
+        }
+
+        daemon = StubDockerDaemon.start()
+            .withResponse("/containers/stub/logs", LOGS)
+            .withResponse("/containers/", "{\"Id\":\"stub\",\"State\":{\"Running\":true}}");
+
+        client = DockerClientBuilder
+            .getInstance(
+                DefaultDockerClientConfig.createDefaultConfigBuilder()
+                    .withDockerHost(daemon.getDockerHost())
+                    .withDockerTlsVerify(false)
+                    .build()
+            )
+            .withDockerCmdExecFactory("nio".equals(transport) ? new NioDockerCmdExecFactory() : new OkHttpDockerCmdExecFactory())
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void ping() {
+        client.pingCmd().exec();
+    }
+
+    @Benchmark
+    public void inspectContainer(Blackhole blackhole) {
+        blackhole.consume(client.inspectContainerCmd("stub").exec());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void concurrentLogs(Blackhole blackhole) throws InterruptedException {
+        client.logContainerCmd("stub")
+            .withStdOut(true)
+            .exec(new ResultCallbackTemplate<ResultCallbackTemplate<?, Frame>, Frame>() {
+                @Override
+                public void onNext(Frame frame) {
+                    blackhole.consume(frame);
+                }
+            })
+            .awaitCompletion();
+    }
+}
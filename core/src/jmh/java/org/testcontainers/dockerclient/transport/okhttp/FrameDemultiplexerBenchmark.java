@@ -0,0 +1,158 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import okio.Buffer;
+import okio.BufferedSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.dockerclient.transport.FramePayloadConsumer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Demultiplexing of a chatty log stream (many small frames).
+ * Run with {@code -Pjmh.profilers=gc} to compare the allocation rate ({@code gc.alloc.rate.norm}) of:
+ * <ul>
+ *     <li>{@code legacyFramedSink}: the previous sink, allocating a payload array and a {@link Frame} per frame</li>
+ *     <li>{@code frameCallback}: {@link FrameDemultiplexer} with a plain {@code ResultCallback<Frame>} (adapter path)</li>
+ *     <li>{@code payloadConsumer}: {@link FrameDemultiplexer} with a {@link FramePayloadConsumer} (no allocation per frame)</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FrameDemultiplexerBenchmark {
+
+    @Param({"80", "1024"})
+    public int payloadSize;
+
+    @Param("10000")
+    public int frameCount;
+
+    private Buffer stream;
+
+    @Setup
+    public void setUp() {
+        byte[] payload = new byte[payloadSize];
+        for (int i = 0; i < payload.length; i++) {
+            payload[i] = (byte) ('a' + i % 26);
+        }
+
+        stream = new Buffer();
+        for (int i = 0; i < frameCount; i++) {
+            stream.writeByte(i % 2 == 0 ? 1 : 2).writeByte(0).writeByte(0).writeByte(0).writeInt(payloadSize).write(payload);
+        }
+    }
+
+    @Benchmark
+    public void legacyFramedSink(Blackhole blackhole) {
+        new LegacyFramedSink(new BlackholeCallback(blackhole)).accept(stream.clone());
+    }
+
+    @Benchmark
+    public void frameCallback(Blackhole blackhole) {
+        FrameDemultiplexer.forCallback(new BlackholeCallback(blackhole)).accept(stream.clone());
+    }
+
+    @Benchmark
+    public void payloadConsumer(Blackhole blackhole) {
+        FrameDemultiplexer.forCallback(new BlackholePayloadCallback(blackhole)).accept(stream.clone());
+    }
+
+    private static class BlackholeCallback extends ResultCallbackTemplate<BlackholeCallback, Frame> {
+
+        final Blackhole blackhole;
+
+        BlackholeCallback(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onNext(Frame frame) {
+            blackhole.consume(frame.getPayload());
+        }
+    }
+
+    private static class BlackholePayloadCallback extends BlackholeCallback implements FramePayloadConsumer {
+
+        BlackholePayloadCallback(Blackhole blackhole) {
+            super(blackhole);
+        }
+
+        @Override
+        public void onFrame(StreamType streamType, byte[] buffer, int offset, int length) {
+            blackhole.consume(buffer[offset + length - 1]);
+        }
+    }
+
+    /**
+     * Copy of the sink used before {@link FrameDemultiplexer}
+     */
+    private static class LegacyFramedSink implements Consumer<BufferedSource> {
+
+        private static final int HEADER_SIZE = 8;
+
+        private final ResultCallback<Frame> resultCallback;
+
+        LegacyFramedSink(ResultCallback<Frame> resultCallback) {
+            this.resultCallback = resultCallback;
+        }
+
+        @Override
+        public void accept(BufferedSource source) {
+            try {
+                while (!source.exhausted()) {
+                    if (!source.request(HEADER_SIZE)) {
+                        return;
+                    }
+                    StreamType streamType = streamType(source.readByte());
+                    source.skip(3);
+                    int payloadSize = source.readInt();
+
+                    if (streamType != StreamType.RAW) {
+                        if (!source.request(payloadSize)) {
+                            return;
+                        }
+                        byte[] payload = source.readByteArray(payloadSize);
+
+                        resultCallback.onNext(new Frame(streamType, payload));
+                    } else {
+                        resultCallback.onNext(new Frame(streamType, source.readByteArray()));
+                    }
+                }
+            } catch (Exception e) {
+                resultCallback.onError(e);
+            }
+        }
+
+        private static StreamType streamType(byte streamType) {
+            switch (streamType) {
+                case 0:
+                    return StreamType.STDIN;
+                case 1:
+                    return StreamType.STDOUT;
+                case 2:
+                    return StreamType.STDERR;
+                default:
+                    return StreamType.RAW;
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.core.DefaultDockerClientConfig;
+import com.github.dockerjava.core.DockerClientBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.jmh.StubDockerDaemon;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call latency of simple Docker API calls over a unix socket, with ({@code poolSize > 0})
+ * and without ({@code poolSize = 0}) keep-alive connection pooling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UnixSocketConnectionPoolBenchmark {
+
+    @Param({"0", "5"})
+    public int poolSize;
+
+    private StubDockerDaemon daemon;
+
+    private DockerClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        daemon = StubDockerDaemon.start()
+            .withResponse("/containers/", "{\"Id\":\"stub\",\"State\":{\"Running\":true}}");
+
+        TestcontainersConfiguration.getInstance().getProperties()
+            .setProperty("transport.unix.pool.size", String.valueOf(poolSize));
+
+        client = DockerClientBuilder
+            .getInstance(
+                DefaultDockerClientConfig.createDefaultConfigBuilder()
+                    .withDockerHost(daemon.getDockerHost())
+                    .withDockerTlsVerify(false)
+                    .build()
+            )
+            .withDockerCmdExecFactory(new OkHttpDockerCmdExecFactory())
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        daemon.close();
+    }
+
+    @Benchmark
+    public void ping() {
+        client.pingCmd().exec();
+    }
+
+    @Benchmark
+    public void inspectContainer(Blackhole blackhole) {
+        blackhole.consume(client.inspectContainerCmd("stub").exec());
+    }
+
+    @Benchmark
+    public void startContainer() {
+        // POST requests make OkHttp run its extensive health check on pooled connections
+        client.startContainerCmd("stub").exec();
+    }
+}
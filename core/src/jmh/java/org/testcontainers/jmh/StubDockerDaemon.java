@@ -0,0 +1,236 @@
+package org.testcontainers.jmh;
+
+import org.scalasbt.ipcsocket.UnixDomainServerSocket;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Minimal HTTP/1.1 server listening on a unix socket which answers Docker API calls with canned responses.
+ * Connections are kept alive until the client closes them, like the real Docker daemon does.
+ */
+public class StubDockerDaemon implements Closeable {
+
+    private final Path socketPath;
+
+    private final UnixDomainServerSocket serverSocket;
+
+    private final Map<String, String> responses = new LinkedHashMap<>();
+
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger acceptedConnections = new AtomicInteger();
+
+    private volatile long latencyNanos;
+
+    private volatile boolean running = true;
+
+    public static StubDockerDaemon start() throws IOException {
+        return new StubDockerDaemon(Files.createTempDirectory("tc-stub-daemon").resolve("docker.sock"));
+    }
+
+    private StubDockerDaemon(Path socketPath) throws IOException {
+        this.socketPath = socketPath;
+        this.serverSocket = new UnixDomainServerSocket(socketPath.toString());
+
+        responses.put("/_ping", "OK");
+
+        Thread acceptor = new Thread(this::acceptLoop, "stub-docker-daemon-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Respond to every request whose path starts with {@code pathPrefix} with the given body (status 200).
+     * Unknown paths are answered with an empty JSON object.
+     */
+    public StubDockerDaemon withResponse(String pathPrefix, String body) {
+        synchronized (responses) {
+            responses.put(pathPrefix, body);
+        }
+        return this;
+    }
+
+    /**
+     * Delay every response by {@code latency}, to emulate the processing time of a real daemon.
+     */
+    public StubDockerDaemon withLatency(Duration latency) {
+        this.latencyNanos = latency.toNanos();
+        return this;
+    }
+
+    public String getDockerHost() {
+        return "unix://" + socketPath;
+    }
+
+    public Path getSocketPath() {
+        return socketPath;
+    }
+
+    /**
+     * @return number of connections accepted since the daemon was started
+     */
+    public int getAcceptedConnections() {
+        return acceptedConnections.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        for (Socket connection : connections) {
+            connection.close();
+        }
+        Files.deleteIfExists(socketPath);
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                acceptedConnections.incrementAndGet();
+                connections.add(socket);
+
+                Thread handler = new Thread(() -> handle(socket), "stub-docker-daemon-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                if (running) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (
+            InputStream in = new BufferedInputStream(socket.getInputStream());
+            OutputStream out = socket.getOutputStream()
+        ) {
+            String requestLine;
+            while ((requestLine = readLine(in)) != null) {
+                if (requestLine.isEmpty()) {
+                    continue;
+                }
+
+                String path = requestLine.split(" ")[1];
+                long contentLength = 0;
+                boolean chunked = false;
+                boolean close = false;
+
+                String header;
+                while ((header = readLine(in)) != null && !header.isEmpty()) {
+                    String lowerCaseHeader = header.toLowerCase();
+                    if (lowerCaseHeader.startsWith("content-length:")) {
+                        contentLength = Long.parseLong(header.substring("content-length:".length()).trim());
+                    } else if (lowerCaseHeader.startsWith("transfer-encoding:") && lowerCaseHeader.contains("chunked")) {
+                        chunked = true;
+                    } else if (lowerCaseHeader.startsWith("connection:") && lowerCaseHeader.contains("close")) {
+                        close = true;
+                    }
+                }
+
+                if (chunked) {
+                    skipChunkedBody(in);
+                } else {
+                    skip(in, contentLength);
+                }
+
+                if (latencyNanos > 0) {
+                    LockSupport.parkNanos(latencyNanos);
+                }
+
+                byte[] body = responseFor(path).getBytes(StandardCharsets.UTF_8);
+                out.write((
+                    "HTTP/1.1 200 OK\r\n" +
+                        "Content-Type: application/json\r\n" +
+                        "Api-Version: 1.37\r\n" +
+                        "Content-Length: " + body.length + "\r\n" +
+                        "\r\n"
+                ).getBytes(StandardCharsets.US_ASCII));
+                out.write(body);
+                out.flush();
+
+                if (close) {
+                    break;
+                }
+            }
+        } catch (IOException ignored) {
+            // Client went away
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private String responseFor(String path) {
+        int queryIndex = path.indexOf('?');
+        if (queryIndex >= 0) {
+            path = path.substring(0, queryIndex);
+        }
+
+        synchronized (responses) {
+            for (Map.Entry<String, String> entry : responses.entrySet()) {
+                if (path.startsWith(entry.getKey()) || path.matches("/v[0-9.]+" + entry.getKey() + ".*")) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return "{}";
+    }
+
+    private static void skipChunkedBody(InputStream in) throws IOException {
+        while (true) {
+            String sizeLine = readLine(in);
+            if (sizeLine == null) {
+                return;
+            }
+            int chunkSize = Integer.parseInt(sizeLine.split(";")[0].trim(), 16);
+            skip(in, chunkSize);
+            readLine(in);
+            if (chunkSize == 0) {
+                return;
+            }
+        }
+    }
+
+    private static void skip(InputStream in, long count) throws IOException {
+        while (count > 0) {
+            long skipped = in.skip(count);
+            if (skipped <= 0) {
+                if (in.read() == -1) {
+                    return;
+                }
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                String result = line.toString("US-ASCII");
+                return result.endsWith("\r") ? result.substring(0, result.length() - 1) : result;
+            }
+            line.write(b);
+        }
+        return line.size() > 0 ? line.toString("US-ASCII") : null;
+    }
+}
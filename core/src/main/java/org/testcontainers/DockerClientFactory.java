@@ -15,12 +15,13 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import lombok.Getter;
 import lombok.SneakyThrows;
-import lombok.Synchronized;
 import lombok.extern.slf4j.Slf4j;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.rnorth.visibleassertions.VisibleAssertions;
+import org.testcontainers.dockerclient.ContainerStateCache;
 import org.testcontainers.dockerclient.DockerClientProviderStrategy;
+import org.testcontainers.dockerclient.DockerEventBus;
 import org.testcontainers.dockerclient.DockerMachineClientProviderStrategy;
 import org.testcontainers.images.TimeLimitedLoggedPullImageResultCallback;
 import org.testcontainers.utility.ComparableVersion;
@@ -30,6 +31,7 @@ import org.testcontainers.utility.TestcontainersConfiguration;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -42,7 +44,8 @@ import java.util.function.Consumer;
 /**
  * Singleton class that provides initialized Docker clients.
  * <p>
- * The correct client configuration to use will be determined on first use, and cached thereafter.
+ * The correct client configuration to use will be determined on first use, and cached thereafter. Once initialized,
+ * the client is handed out without locking.
  */
 @Slf4j
 public class DockerClientFactory {
@@ -59,13 +62,22 @@ public class DockerClientFactory {
     );
 
     private static final String TINY_IMAGE = TestcontainersConfiguration.getInstance().getTinyImage();
-    private static DockerClientFactory instance;
+    private static volatile DockerClientFactory instance;
 
     // Cached client configuration
-    private DockerClientProviderStrategy strategy;
-    private boolean initialized = false;
+    private volatile DockerClientProviderStrategy strategy;
+    private volatile boolean initialized = false;
     private String activeApiVersion;
     private String activeExecutionDriver;
+    private volatile DockerEventBus eventBus;
+    private volatile ContainerStateCache containerStateCache;
+
+    /**
+     * Client handed out once initialized, published last so that reading it is enough to skip the initialization
+     */
+    private volatile DockerClient client;
+
+    private final Object lock = new Object();
 
     @Getter(lazy = true)
     private final boolean fileMountingSupported = checkMountableFile();
@@ -86,20 +98,42 @@ public class DockerClientFactory {
      *
      * @return the singleton instance of DockerClientFactory
      */
-    public synchronized static DockerClientFactory instance() {
-        if (instance == null) {
-            instance = new DockerClientFactory();
+    public static DockerClientFactory instance() {
+        DockerClientFactory result = instance;
+        if (result != null) {
+            return result;
         }
 
-        return instance;
+        synchronized (DockerClientFactory.class) {
+            if (instance == null) {
+                instance = new DockerClientFactory();
+            }
+            return instance;
+        }
     }
 
     /**
      *
-     * @return a new initialized Docker client
+     * @return the initialized Docker client
      */
-    @Synchronized
     public DockerClient client() {
+        DockerClient result = client;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (lock) {
+            return initializeClient();
+        }
+    }
+
+    /**
+     * Must be called with the lock held, which is reentrant for the checks needing a client while initializing.
+     */
+    private DockerClient initializeClient() {
+        if (client != null) {
+            return client;
+        }
 
         if (strategy != null) {
             return strategy.getClient();
@@ -157,9 +191,51 @@ public class DockerClientFactory {
             initialized = true;
         }
 
+        this.client = client;
         return client;
     }
 
+    /**
+     *
+     * @return the events subscription shared by the containers of this session, started on first use
+     */
+    public DockerEventBus eventBus() {
+        DockerEventBus result = eventBus;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (lock) {
+            if (eventBus == null) {
+                eventBus = new DockerEventBus(client());
+            }
+            return eventBus;
+        }
+    }
+
+    /**
+     *
+     * @return the cache of the container states of this daemon, kept up to date by {@link #eventBus()}
+     */
+    public ContainerStateCache containerStateCache() {
+        ContainerStateCache result = containerStateCache;
+        if (result != null) {
+            return result;
+        }
+
+        synchronized (lock) {
+            if (containerStateCache == null) {
+                ContainerStateCache cache = new ContainerStateCache(
+                    client(),
+                    Duration.ofMillis(TestcontainersConfiguration.getInstance().getContainerStateCacheTtl())
+                );
+                eventBus().addListener(cache);
+                containerStateCache = cache;
+            }
+            return containerStateCache;
+        }
+    }
+
     private void checkDockerVersion(String dockerVersion) {
         VisibleAssertions.assertThat("Docker version", dockerVersion, new BaseMatcher<String>() {
             @Override
@@ -233,6 +309,9 @@ public class DockerClientFactory {
      * @return the IP address of the host running Docker
      */
     public String dockerHostIpAddress() {
+        if (strategy == null) {
+            client();
+        }
         return strategy.getDockerHostIpAddress();
     }
 
@@ -310,6 +389,9 @@ public class DockerClientFactory {
      * @return whether or not the currently active strategy is of the provided type
      */
     public boolean isUsing(Class<? extends DockerClientProviderStrategy> providerStrategyClass) {
+        if (strategy == null) {
+            client();
+        }
         return providerStrategyClass.isAssignableFrom(this.strategy.getClass());
     }
 
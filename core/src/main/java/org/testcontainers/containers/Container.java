@@ -13,6 +13,8 @@ import org.testcontainers.containers.startupcheck.StartupCheckStrategy;
 import org.testcontainers.containers.traits.LinkableContainer;
 import org.testcontainers.containers.wait.strategy.WaitStrategy;
 import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.ArchiveEntryConsumer;
+import org.testcontainers.utility.ArchiveEntryFilter;
 import org.testcontainers.utility.LogUtils;
 import org.testcontainers.utility.MountableFile;
 import org.testcontainers.utility.ThrowingFunction;
@@ -430,6 +432,17 @@ public interface Container<SELF extends Container<SELF>> extends LinkableContain
     ExecResult execInContainer(Charset outputCharset, String... command)
                     throws UnsupportedOperationException, IOException, InterruptedException;
 
+    /**
+     * Run a command inside a running container, as though using "docker exec -i", streaming {@code stdin}
+     * to the command and interpreting the output as UTF8.
+     * <p>
+     * @see ExecInContainerPattern#execInContainer(com.github.dockerjava.api.command.InspectContainerResponse, InputStream, Charset, String...)
+     */
+    default ExecResult execInContainer(InputStream stdin, String... command)
+            throws UnsupportedOperationException, IOException, InterruptedException {
+        return ExecInContainerPattern.execInContainer(getContainerInfo(), stdin, Charset.forName("UTF-8"), command);
+    }
+
     /**
      *
      * Copies a file or directory to the container.
@@ -468,6 +481,37 @@ public interface Container<SELF extends Container<SELF>> extends LinkableContain
      */
     <T> T copyFileFromContainer(String containerPath, ThrowingFunction<InputStream, T> function);
 
+    /**
+     * Copies a directory which resides inside the container, with its permissions and links, to a host directory
+     *
+     * @param containerPath path to the directory which is copied from container
+     * @param hostDirectory directory into which the content of the directory is copied
+     * @throws IOException if there's an issue communicating with Docker or writing the files
+     * @throws InterruptedException if the thread waiting for the writes is interrupted
+     */
+    default void copyDirectoryFromContainer(String containerPath, String hostDirectory) throws IOException, InterruptedException {
+        copyDirectoryFromContainer(containerPath, hostDirectory, ArchiveEntryFilter.ALL);
+    }
+
+    /**
+     * Copies the entries of a directory which resides inside the container selected by {@code filter} to a host directory
+     *
+     * @param containerPath path to the directory which is copied from container
+     * @param hostDirectory directory into which the content of the directory is copied
+     * @param filter selects the entries to copy by their path relative to {@code containerPath}
+     * @throws IOException if there's an issue communicating with Docker or writing the files
+     * @throws InterruptedException if the thread waiting for the writes is interrupted
+     */
+    void copyDirectoryFromContainer(String containerPath, String hostDirectory, ArchiveEntryFilter filter) throws IOException, InterruptedException;
+
+    /**
+     * Streams every entry of a file or directory which resides inside the container
+     *
+     * @param containerPath path to the file or directory which is copied from container
+     * @param entryConsumer consumer called for each entry of the archive
+     */
+    void copyFromContainer(String containerPath, ArchiveEntryConsumer entryConsumer);
+
     List<String> getPortBindings();
 
     List<String> getExtraHosts();
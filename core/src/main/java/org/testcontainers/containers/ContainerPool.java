@@ -0,0 +1,421 @@
+package org.testcontainers.containers;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.lifecycle.Startable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Keeps up to {@code size} started instances of a container ready, so that tests needing a fresh container don't wait for
+ * it to be created, started and ready.
+ * <p>
+ * {@link #checkout()} hands out a ready instance, and {@link #release(GenericContainer)} gives it back: it is then either
+ * reset with the {@link #withResetHook(ResetHook) reset hook} and made available again, or stopped and replaced in the
+ * background. Instances are started (and reset) by at most {@link #withRefillConcurrency(int) refillConcurrency} threads.
+ * <pre>
+ * ContainerPool&lt;PostgreSQLContainer&gt; pool = new ContainerPool&lt;&gt;(PostgreSQLContainer::new, 3);
+ * pool.start();
+ *
+ * PostgreSQLContainer postgres = pool.checkout();
+ * try {
+ *     ...
+ * } finally {
+ *     pool.release(postgres);
+ * }
+ * </pre>
+ *
+ * @param <T> type of the pooled containers
+ */
+@Slf4j
+public class ContainerPool<T extends GenericContainer<?>> implements Startable {
+
+    private final Supplier<T> factory;
+
+    private final int size;
+
+    private ResetHook<? super T> resetHook;
+
+    private int refillConcurrency = 2;
+
+    private ThreadPoolExecutor executor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Signalled whenever an instance becomes available, an instance fails to start, or the pool is stopped
+     */
+    private final Condition changed = lock.newCondition();
+
+    private final Deque<T> idle = new ArrayDeque<>();
+
+    private final Set<T> checkedOut = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Instances being started or reset, guarded by the lock like all the state below
+     */
+    private int pending;
+
+    private long startFailures;
+
+    private Throwable lastStartFailure;
+
+    private boolean started;
+
+    private boolean stopped;
+
+    private long hits;
+
+    private long misses;
+
+    private long totalWaitNanos;
+
+    private long maxWaitNanos;
+
+    /**
+     * @param factory creates a new, not yet started, instance of the container
+     * @param size    maximum number of instances, idle or checked out
+     */
+    public ContainerPool(@NonNull Supplier<T> factory, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.factory = factory;
+        this.size = size;
+    }
+
+    /**
+     * Resets released instances so that they can be checked out again instead of being replaced.
+     * If the hook throws, the instance is replaced.
+     */
+    public ContainerPool<T> withResetHook(ResetHook<? super T> resetHook) {
+        checkNotStarted();
+        this.resetHook = resetHook;
+        return this;
+    }
+
+    /**
+     * @param refillConcurrency maximum number of instances started or reset at the same time (2 by default)
+     */
+    public ContainerPool<T> withRefillConcurrency(int refillConcurrency) {
+        checkNotStarted();
+        if (refillConcurrency <= 0) {
+            throw new IllegalArgumentException("refillConcurrency must be positive: " + refillConcurrency);
+        }
+        this.refillConcurrency = refillConcurrency;
+        return this;
+    }
+
+    /**
+     * Starts filling the pool in the background.
+     */
+    @Override
+    public void start() {
+        lock.lock();
+        try {
+            if (started) {
+                return;
+            }
+            started = true;
+
+            AtomicLong counter = new AtomicLong(0);
+            executor = new ThreadPoolExecutor(
+                refillConcurrency,
+                refillConcurrency,
+                1,
+                TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-pool-" + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            executor.allowCoreThreadTimeOut(true);
+
+            refill();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits as long as needed for an instance to be available.
+     *
+     * @see #checkout(Duration)
+     */
+    public T checkout() {
+        return checkout(Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    /**
+     * @return a started instance, which must be given back with {@link #release(GenericContainer)}
+     * @throws TimeoutException         if no instance is available after {@code timeout}
+     * @throws ContainerLaunchException if an instance fails to start while waiting
+     */
+    public T checkout(Duration timeout) {
+        long startedAt = System.nanoTime();
+        lock.lock();
+        try {
+            checkStarted();
+
+            T container = idle.poll();
+            if (container != null) {
+                hits++;
+            } else {
+                misses++;
+                // Overflows for the default timeout, which is fine as only differences are compared
+                long deadline = startedAt + timeout.toNanos();
+                long failuresBefore = startFailures;
+                // Replaces the instances which failed to start before, once: if all the instances started from now on
+                // fail too, the failure is reported instead of starting new ones forever
+                refill();
+                while ((container = idle.poll()) == null) {
+                    checkStarted();
+                    if (startFailures != failuresBefore && pending == 0) {
+                        throw new ContainerLaunchException("Could not start a pooled container", lastStartFailure);
+                    }
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException("No pooled container available after " + timeout, null);
+                    }
+
+                    changed.awaitNanos(remaining);
+                }
+            }
+
+            checkedOut.add(container);
+            long waitNanos = System.nanoTime() - startedAt;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            return container;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives back an instance obtained with {@link #checkout()}, which is reset or replaced in the background.
+     */
+    public void release(T container) {
+        lock.lock();
+        try {
+            if (!checkedOut.remove(container)) {
+                throw new IllegalArgumentException("Container " + container.getContainerId() + " was not checked out from this pool");
+            }
+
+            if (!stopped) {
+                if (resetHook == null) {
+                    refill();
+                    executor.execute(() -> stopQuietly(container));
+                } else {
+                    pending++;
+                    executor.execute(() -> reset(container));
+                }
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Stopping takes a while, and the other threads using the pool don't have to wait for it
+        stopQuietly(container);
+    }
+
+    /**
+     * Stops every idle instance, and the checked out ones once they are released.
+     */
+    @Override
+    public void stop() {
+        List<T> toStop;
+        lock.lock();
+        try {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            toStop = new ArrayList<>(idle);
+            idle.clear();
+            if (executor != null) {
+                executor.shutdown();
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        toStop.forEach(ContainerPool::stopQuietly);
+    }
+
+    public Metrics getMetrics() {
+        lock.lock();
+        try {
+            return new Metrics(
+                hits,
+                misses,
+                Duration.ofNanos(totalWaitNanos),
+                Duration.ofNanos(maxWaitNanos),
+                idle.size(),
+                checkedOut.size(),
+                pending,
+                startFailures
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Starts new instances until there are {@code size} of them, must be called with the lock held.
+     */
+    private void refill() {
+        while (!stopped && idle.size() + checkedOut.size() + pending < size) {
+            pending++;
+            executor.execute(this::startInstance);
+        }
+    }
+
+    private void startInstance() {
+        T container = null;
+        try {
+            container = factory.get();
+            container.start();
+        } catch (Exception e) {
+            log.warn("Failed to start a pooled container", e);
+            if (container != null) {
+                stopQuietly(container);
+            }
+
+            lock.lock();
+            try {
+                pending--;
+                startFailures++;
+                lastStartFailure = e;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        makeAvailable(container);
+    }
+
+    private void reset(T container) {
+        try {
+            resetHook.reset(container);
+        } catch (Exception e) {
+            log.warn("Failed to reset pooled container {}, replacing it", container.getContainerId(), e);
+            stopQuietly(container);
+
+            lock.lock();
+            try {
+                pending--;
+                refill();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        makeAvailable(container);
+    }
+
+    private void makeAvailable(T container) {
+        lock.lock();
+        try {
+            pending--;
+            if (!stopped) {
+                idle.add(container);
+                changed.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        stopQuietly(container);
+    }
+
+    private void checkStarted() {
+        if (!started) {
+            throw new IllegalStateException("The pool must be started first");
+        }
+        if (stopped) {
+            throw new IllegalStateException("The pool is stopped");
+        }
+    }
+
+    private void checkNotStarted() {
+        if (started) {
+            throw new IllegalStateException("The pool is already started");
+        }
+    }
+
+    private static void stopQuietly(GenericContainer<?> container) {
+        try {
+            container.stop();
+        } catch (Exception e) {
+            log.debug("Failed to stop pooled container {}", container.getContainerId(), e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface ResetHook<T> {
+
+        /**
+         * Brings a released instance back to its initial state, e.g. by truncating the tables of a database.
+         */
+        void reset(T container) throws Exception;
+    }
+
+    @Value
+    public static class Metrics {
+
+        /**
+         * Checkouts served by an idle instance
+         */
+        long hits;
+
+        /**
+         * Checkouts which had to wait for an instance to be started or reset
+         */
+        long misses;
+
+        Duration totalWait;
+
+        Duration maxWait;
+
+        int idle;
+
+        int checkedOut;
+
+        /**
+         * Instances being started or reset
+         */
+        int pending;
+
+        long startFailures;
+    }
+}
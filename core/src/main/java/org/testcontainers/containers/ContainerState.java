@@ -79,8 +79,12 @@ public interface ContainerState {
         }
     }
 
+    /**
+     * @return the state of the container, which may have been inspected up to {@code container.state.cache.ttl} ago,
+     * unless an event or a lifecycle call changed it since
+     */
     default InspectContainerResponse getCurrentContainerInfo() {
-        return DockerClientFactory.instance().client().inspectContainerCmd(getContainerId()).exec();
+        return DockerClientFactory.instance().containerStateCache().inspect(getContainerId());
     }
 
     /**
@@ -6,7 +6,6 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Maps;
-import com.google.common.util.concurrent.Uninterruptibles;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
@@ -20,6 +19,8 @@ import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.containers.startupcheck.IndefiniteWaitOneShotStartupCheckStrategy;
 import org.testcontainers.containers.wait.strategy.*;
+import org.testcontainers.dockerclient.DockerEventBus;
+import org.testcontainers.dockerclient.LazyDockerClient;
 import org.testcontainers.lifecycle.Startable;
 import org.testcontainers.utility.*;
 import org.yaml.snakeyaml.Yaml;
@@ -35,7 +36,6 @@ import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -110,7 +110,7 @@ public class DockerComposeContainer<SELF extends DockerComposeContainer<SELF>> e
         this.identifier = identifier;
         project = randomProjectId();
 
-        this.dockerClient = DockerClientFactory.instance().client();
+        this.dockerClient = LazyDockerClient.INSTANCE;
     }
 
     @Override
@@ -613,10 +613,12 @@ class ContainerisedDockerCompose extends GenericContainer<ContainerisedDockerCom
 
         // wait for the compose container to stop, which should only happen after it has spawned all the service containers
         logger().info("Docker Compose container is running for command: {}", Joiner.on(" ").join(this.getCommandParts()));
-        while (this.isRunning()) {
-            logger().trace("Compose container is still running");
-            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
-        }
+        DockerClientFactory.instance().eventBus().waitUntil(
+            getContainerId(),
+            DockerEventBus.NO_TIMEOUT,
+            Duration.ofSeconds(5),
+            () -> !this.isRunning()
+        );
         logger().info("Docker Compose has finished running");
 
         AuditLogger.doComposeLog(this.getCommandParts(), this.getEnv());
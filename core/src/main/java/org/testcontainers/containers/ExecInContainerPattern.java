@@ -10,9 +10,13 @@ import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.output.FrameConsumerResultCallback;
 import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.ToStringConsumer;
+import org.testcontainers.jfr.FlightRecorderEvent;
+import org.testcontainers.jfr.FlightRecorderEventType;
+import org.testcontainers.jfr.FlightRecorderEvents;
 import org.testcontainers.utility.TestEnvironment;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 
 /**
@@ -49,6 +53,25 @@ public class ExecInContainerPattern {
      * @throws UnsupportedOperationException if the docker daemon you're connecting to doesn't support "exec".
      */
     public Container.ExecResult execInContainer(InspectContainerResponse containerInfo, Charset outputCharset, String... command)
+        throws UnsupportedOperationException, IOException, InterruptedException {
+        return execInContainer(containerInfo, null, outputCharset, command);
+    }
+
+    /**
+     * Run a command inside a running container, as though using "docker exec -i".
+     * <p>
+     * {@code stdin} is streamed to the command while its output is read, over a single connection to the daemon,
+     * and the end of {@code stdin} is signalled to the command as EOF. It is consumed but not closed.
+     * @param containerInfo the container info
+     * @param stdin the input of the command, or {@code null} to not attach stdin
+     * @param outputCharset the character set used to interpret the output.
+     * @param command the parts of the command to run
+     * @return the result of execution
+     * @throws IOException if there's an issue communicating with Docker
+     * @throws InterruptedException if the thread waiting for the response is interrupted
+     * @throws UnsupportedOperationException if the docker daemon you're connecting to doesn't support "exec".
+     */
+    public Container.ExecResult execInContainer(InspectContainerResponse containerInfo, InputStream stdin, Charset outputCharset, String... command)
         throws UnsupportedOperationException, IOException, InterruptedException {
         if (!TestEnvironment.dockerExecutionDriverSupportsExec()) {
             // at time of writing, this is the expected result in CircleCI.
@@ -71,23 +94,40 @@ public class ExecInContainerPattern {
             .withCmd(command);
 
         log.debug("{}: Running \"exec\" command: {}", containerName, String.join(" ", command));
-        final ExecCreateCmdResponse execCreateCmdResponse = dockerClient.execCreateCmd(containerId)
-            .withAttachStdout(true).withAttachStderr(true).withCmd(command).exec();
-
-        final ToStringConsumer stdoutConsumer = new ToStringConsumer();
-        final ToStringConsumer stderrConsumer = new ToStringConsumer();
+        FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.CONTAINER_EXEC)
+            .withContainerId(containerId)
+            .withImage(containerInfo.getConfig() != null ? containerInfo.getConfig().getImage() : null)
+            .withDetail(String.join(" ", command));
 
-        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
-        callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
-        callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
-
-        dockerClient.execStartCmd(execCreateCmdResponse.getId()).exec(callback).awaitCompletion();
-        Integer exitCode = dockerClient.inspectExecCmd(execCreateCmdResponse.getId()).exec().getExitCode();
-
-        final Container.ExecResult result = new Container.ExecResult(
-            exitCode,
-            stdoutConsumer.toString(outputCharset),
-            stderrConsumer.toString(outputCharset));
+        final Container.ExecResult result;
+        try {
+            final ExecCreateCmdResponse execCreateCmdResponse = dockerClient.execCreateCmd(containerId)
+                .withAttachStdin(stdin != null).withAttachStdout(true).withAttachStderr(true).withCmd(command).exec();
+
+            final ToStringConsumer stdoutConsumer = new ToStringConsumer();
+            final ToStringConsumer stderrConsumer = new ToStringConsumer();
+
+            FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+            callback.addConsumer(OutputFrame.OutputType.STDOUT, stdoutConsumer);
+            callback.addConsumer(OutputFrame.OutputType.STDERR, stderrConsumer);
+
+            dockerClient.execStartCmd(execCreateCmdResponse.getId()).withStdIn(stdin).exec(callback).awaitCompletion();
+            Integer exitCode = dockerClient.inspectExecCmd(execCreateCmdResponse.getId()).exec().getExitCode();
+
+            result = new Container.ExecResult(
+                exitCode,
+                stdoutConsumer.toString(outputCharset),
+                stderrConsumer.toString(outputCharset));
+
+            if (event.isEnabled()) {
+                event.withBytesReceived(result.getStdout().getBytes(outputCharset).length + result.getStderr().getBytes(outputCharset).length);
+            }
+        } catch (InterruptedException | RuntimeException e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
+        }
 
         log.trace("{}: stdout: {}", containerName, result.getStdout());
         log.trace("{}: stderr: {}", containerName, result.getStderr());
@@ -1,8 +1,13 @@
 package org.testcontainers.containers;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.CreateContainerCmd;
 import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
 import com.github.dockerjava.api.model.Bind;
 import com.github.dockerjava.api.model.ContainerNetwork;
 import com.github.dockerjava.api.model.ExposedPort;
@@ -13,61 +18,85 @@ import com.github.dockerjava.api.model.PortBinding;
 import com.github.dockerjava.api.model.Volume;
 import com.github.dockerjava.api.model.VolumesFrom;
 import com.google.common.base.Strings;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import lombok.Value;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
-import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.compress.utils.IOUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.input.CountingInputStream;
 import org.apache.commons.lang.StringUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.runner.Description;
 import org.junit.runners.model.Statement;
-import org.rnorth.ducttape.ratelimits.RateLimiter;
-import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
 import org.rnorth.ducttape.unreliables.Unreliables;
 import org.rnorth.visibleassertions.VisibleAssertions;
 import org.slf4j.Logger;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.startup.StartupPhase;
+import org.testcontainers.containers.startup.StartupReport;
+import org.testcontainers.containers.startup.StartupTimeline;
 import org.testcontainers.containers.startupcheck.IsRunningStartupCheckStrategy;
 import org.testcontainers.containers.startupcheck.MinimumDurationRunningStartupCheckStrategy;
 import org.testcontainers.containers.startupcheck.StartupCheckStrategy;
 import org.testcontainers.containers.traits.LinkableContainer;
 import org.testcontainers.containers.wait.Wait;
 import org.testcontainers.containers.wait.WaitStrategy;
+import org.testcontainers.containers.wait.strategy.AsyncWaitStrategy;
 import org.testcontainers.containers.wait.strategy.WaitStrategyTarget;
+import org.testcontainers.dockerclient.LazyDockerClient;
+import org.testcontainers.images.ImageResolutionCache;
+import org.testcontainers.images.ImageSnapshots;
 import org.testcontainers.images.RemoteDockerImage;
 import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.jfr.FlightRecorderEvent;
+import org.testcontainers.jfr.FlightRecorderEventType;
+import org.testcontainers.jfr.FlightRecorderEvents;
 import org.testcontainers.lifecycle.Startable;
 import org.testcontainers.lifecycle.Startables;
 import org.testcontainers.lifecycle.TestDescription;
 import org.testcontainers.lifecycle.TestLifecycleAware;
+import org.testcontainers.utility.ArchiveEntryConsumer;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.ArchiveEntryFilter;
 import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.DockerLoggerFactory;
 import org.testcontainers.utility.DockerMachineClient;
 import org.testcontainers.utility.MountableFile;
+import org.testcontainers.utility.Overrides;
 import org.testcontainers.utility.PathUtils;
 import org.testcontainers.utility.ResourceReaper;
+import org.testcontainers.utility.TarArchiveExtractor;
+import org.testcontainers.utility.TarArchivePipe;
 import org.testcontainers.utility.TestcontainersConfiguration;
 import org.testcontainers.utility.ThrowingFunction;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -75,11 +104,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -96,6 +126,10 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     private static final Charset UTF8 = Charset.forName("UTF-8");
 
+    private static final ObjectMapper REUSE_HASH_MAPPER = new ObjectMapper()
+        .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+        .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
     public static final int CONTAINER_RUNNING_TIMEOUT_SEC = 30;
 
     public static final String INTERNAL_HOST_HOSTNAME = "host.testcontainers.internal";
@@ -166,13 +200,39 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     private Map<MountableFile, String> copyToFileContainerPathMap = new HashMap<>();
 
+    private boolean shouldBeReused = false;
+
+    /**
+     * Whether the running container was created by a previous session
+     */
+    @Setter(AccessLevel.NONE)
+    private boolean reused = false;
+
+    private boolean snapshotEnabled = false;
+
+    /**
+     * Whether the container was created from a snapshot, which skips its provisioning
+     */
+    @Setter(AccessLevel.NONE)
+    private boolean restoredFromSnapshot = false;
+
+    /**
+     * Time spent in each phase of the last startup of the container, null until it is started
+     */
+    @Setter(AccessLevel.NONE)
+    private StartupTimeline startupTimeline;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String startupTestClass;
+
     protected final Set<Startable> dependencies = new HashSet<>();
 
     /*
-     * Unique instance of DockerClient for use by this container object.
+     * DockerClient for use by this container object, which only connects to Docker on first use.
      */
     @Setter(AccessLevel.NONE)
-    protected DockerClient dockerClient = DockerClientFactory.instance().client();
+    protected DockerClient dockerClient = LazyDockerClient.INSTANCE;
 
     /*
      * Info about the Docker server; lazily fetched.
@@ -212,13 +272,6 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
 
     private final Set<Consumer<CreateContainerCmd>> createContainerCmdModifiers = new LinkedHashSet<>();
 
-    private static final Set<String> AVAILABLE_IMAGE_NAME_CACHE = new HashSet<>();
-    private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
-            .newBuilder()
-            .withRate(1, TimeUnit.SECONDS)
-            .withConstantThroughput()
-            .build();
-
     @Nullable
     private Map<String, String> tmpFsMapping;
 
@@ -268,60 +321,164 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         if (containerId != null) {
             return;
         }
-        Startables.deepStart(dependencies).get();
-        doStart();
+        captureStartupTestClass();
+        if (AsyncExecutors.isSchedulerThread()) {
+            // Waiting here for an asynchronous startup could starve the scheduler it needs
+            Startables.deepStart(dependencies).get();
+            doStart();
+            return;
+        }
+        AsyncExecutors.join(startContainerAsync());
+    }
+
+    /**
+     * Starts the container like {@link #start()}, without blocking the calling thread. Calls to the Docker API still
+     * block a thread, but waiting for the container to be ready does not, unless {@link #waitUntilContainerStarted()}
+     * is overridden or the {@link org.testcontainers.containers.wait.strategy.WaitStrategy} is not an {@link AsyncWaitStrategy}.
+     *
+     * @return a {@link CompletableFuture} that resolves once the container is started and ready
+     */
+    @Override
+    public CompletableFuture<Void> startAsync() {
+        if (containerId == null) {
+            captureStartupTestClass();
+        }
+        if (Overrides.isOverridden(getClass(), GenericContainer.class, "start")) {
+            return CompletableFuture.runAsync(this::start, AsyncExecutors.getBlockingExecutor());
+        }
+        return startContainerAsync();
+    }
+
+    private CompletableFuture<Void> startContainerAsync() {
+        if (containerId != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return Startables.deepStart(dependencies).thenCompose(__ -> {
+            if (Overrides.isOverridden(getClass(), GenericContainer.class, "doStart")) {
+                return CompletableFuture.runAsync(this::doStart, AsyncExecutors.getBlockingExecutor());
+            }
+            return doStartAsync();
+        });
     }
 
     protected void doStart() {
+        startupTimeline = new StartupTimeline();
         try {
             configure();
 
+            startupTimeline.begin(StartupPhase.IMAGE_RESOLUTION);
             logger().debug("Starting container: {}", getDockerImageName());
             logger().debug("Trying to start container: {}", image.get());
 
             AtomicInteger attempt = new AtomicInteger(0);
             Unreliables.retryUntilSuccess(startupAttempts, () -> {
-                logger().debug("Trying to start container: {} (attempt {}/{})", image.get(), attempt.incrementAndGet(), startupAttempts);
+                startupTimeline.beginAttempt(attempt.incrementAndGet());
+                logger().debug("Trying to start container: {} (attempt {}/{})", image.get(), attempt.get(), startupAttempts);
                 tryStart();
                 return true;
             });
 
+            startupTimeline.finish(true);
         } catch (Exception e) {
+            startupTimeline.finish(false);
             throw new ContainerLaunchException("Container startup failed", e);
+        } finally {
+            logger().debug("Container startup timeline: {}", startupTimeline);
+            recordStartup();
         }
     }
 
-    private void tryStart() {
-        try {
-            String dockerImageName = image.get();
-            logger().debug("Starting container: {}", dockerImageName);
-
-            logger().info("Creating container for image: {}", dockerImageName);
-            CreateContainerCmd createCommand = dockerClient.createContainerCmd(dockerImageName);
-            applyConfiguration(createCommand);
-
-            containerId = createCommand.exec().getId();
-
-            connectToPortForwardingNetwork(createCommand.getNetworkMode());
+    private CompletableFuture<Void> doStartAsync() {
+        startupTimeline = new StartupTimeline();
+        return CompletableFuture
+            .runAsync(() -> {
+                configure();
+
+                startupTimeline.begin(StartupPhase.IMAGE_RESOLUTION);
+                logger().debug("Starting container: {}", getDockerImageName());
+            }, AsyncExecutors.getBlockingExecutor())
+            .thenCompose(__ -> tryStartAsync(1))
+            .handle((__, e) -> {
+                startupTimeline.finish(e == null);
+                logger().debug("Container startup timeline: {}", startupTimeline);
+                recordStartup();
+                if (e != null) {
+                    throw new ContainerLaunchException("Container startup failed", AsyncExecutors.unwrap(e));
+                }
+                return null;
+            });
+    }
 
-            copyToFileContainerPathMap.forEach(this::copyFileToContainer);
+    private CompletableFuture<Void> tryStartAsync(int attempt) {
+        startupTimeline.beginAttempt(attempt);
+        logger().debug("Trying to start container: {} (attempt {}/{})", image, attempt, startupAttempts);
+
+        return CompletableFuture
+            .supplyAsync(this::createAndStartContainer, AsyncExecutors.getBlockingExecutor())
+            .thenCompose(started -> {
+                startupTimeline.begin(StartupPhase.STARTUP_CHECK);
+                return this.startupCheckStrategy.waitUntilStartupSuccessfulAsync(dockerClient, containerId)
+                    .thenCompose(successful -> {
+                        if (!successful) {
+                            throw new IllegalStateException("Container did not start correctly.");
+                        }
+
+                        startupTimeline.begin(StartupPhase.WAIT);
+                        return waitUntilContainerStartedAsync();
+                    })
+                    .thenRunAsync(() -> containerStarted(started), AsyncExecutors.getBlockingExecutor());
+            })
+            .handleAsync((__, e) -> e == null ? null : startFailed(AsyncExecutors.unwrap(e)), AsyncExecutors.getBlockingExecutor())
+            .thenCompose(failure -> {
+                if (failure == null) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                if (attempt >= startupAttempts) {
+                    CompletableFuture<Void> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(failure);
+                    return failed;
+                }
+                return tryStartAsync(attempt + 1);
+            });
+    }
 
-            containerIsCreated(containerId);
+    private CompletableFuture<Void> waitUntilContainerStartedAsync() {
+        org.testcontainers.containers.wait.strategy.WaitStrategy waitStrategy = getWaitStrategy();
+        if (waitStrategy instanceof AsyncWaitStrategy && !Overrides.isOverridden(getClass(), GenericContainer.class, "waitUntilContainerStarted")) {
+            return ((AsyncWaitStrategy) waitStrategy).waitUntilReadyAsync(this).toCompletableFuture();
+        }
+        return CompletableFuture.runAsync(this::waitUntilContainerStarted, AsyncExecutors.getBlockingExecutor());
+    }
 
-            logger().info("Starting container with ID: {}", containerId);
-            dockerClient.startContainerCmd(containerId).exec();
+    private void recordStartup() {
+        String imageName;
+        try {
+            imageName = image.isDone() ? getDockerImageName() : String.valueOf(image);
+        } catch (Exception e) {
+            imageName = String.valueOf(image);
+        }
 
-            logger().info("Container {} is starting: {}", dockerImageName, containerId);
+        String testClass = startupTestClass;
+        startupTestClass = null;
+        StartupReport.record(imageName, testClass, startupTimeline);
+    }
 
-            // For all registered output consumers, start following as close to container startup as possible
-            this.logConsumers.forEach(this::followOutput);
+    /**
+     * Looks for the test class starting the container while still on the calling thread: the startup runs on other
+     * threads, whose stack doesn't contain it. Kept as is when already set, e.g. by the JUnit 4 rule.
+     */
+    private void captureStartupTestClass() {
+        if (startupTestClass == null && StartupReport.isEnabled()) {
+            startupTestClass = StartupReport.findTestClass();
+        }
+    }
 
-            // Tell subclasses that we're starting
-            containerInfo = dockerClient.inspectContainerCmd(containerId).exec();
-            containerName = containerInfo.getName();
-            containerIsStarting(containerInfo);
+    private void tryStart() {
+        try {
+            StartedContainer started = createAndStartContainer();
 
             // Wait until the container has reached the desired running state
+            startupTimeline.begin(StartupPhase.STARTUP_CHECK);
             if (!this.startupCheckStrategy.waitUntilStartupSuccessful(dockerClient, containerId)) {
                 // Bail out, don't wait for the port to start listening.
                 // (Exception thrown here will be caught below and wrapped)
@@ -329,26 +486,178 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             }
 
             // Wait until the process within the container has become ready for use (e.g. listening on network, log message emitted, etc).
+            startupTimeline.begin(StartupPhase.WAIT);
             waitUntilContainerStarted();
 
-            logger().info("Container {} started", dockerImageName);
-            containerIsStarted(containerInfo);
+            containerStarted(started);
         } catch (Exception e) {
-            logger().error("Could not start container", e);
+            throw startFailed(e);
+        }
+    }
+
+    /**
+     * Creates the container, pulling its image again if it was removed since it was resolved.
+     */
+    private String createContainer(CreateContainerCmd createCommand, String dockerImageName) {
+        try {
+            return createCommand.exec().getId();
+        } catch (NotFoundException e) {
+            // e.g. a network which doesn't exist is reported the same way
+            boolean imageMissing = e.getMessage() != null && e.getMessage().contains("No such image");
+            if (!imageMissing || !(image instanceof RemoteDockerImage) || restoredFromSnapshot) {
+                throw e;
+            }
+            logger().info("Image {} is not available anymore, pulling it again", dockerImageName);
+            DockerImageName imageName = new DockerImageName(dockerImageName);
+            ImageResolutionCache.invalidate(imageName);
+            ImageResolutionCache.resolve(imageName);
+            return createCommand.exec().getId();
+        }
+    }
 
-            if (containerId != null) {
-                // Log output if startup failed, either due to a container failure or exception (including timeout)
-                final String containerLogs = getLogs();
+    /**
+     * Creates and starts the container, or finds the one to reuse, up to {@link #containerIsStarting(InspectContainerResponse, boolean)}.
+     */
+    @SneakyThrows
+    private StartedContainer createAndStartContainer() {
+        startupTimeline.begin(StartupPhase.IMAGE_RESOLUTION);
+        String dockerImageName = image.get();
+        startupTimeline.setImage(dockerImageName);
+        logger().debug("Starting container: {}", dockerImageName);
+
+        startupTimeline.begin(StartupPhase.CREATE);
+        logger().info("Creating container for image: {}", dockerImageName);
+        CreateContainerCmd createCommand = dockerClient.createContainerCmd(dockerImageName);
+        applyConfiguration(createCommand);
+
+        restoredFromSnapshot = false;
+        String snapshotHash = null;
+        if (snapshotEnabled) {
+            snapshotHash = snapshotHash(createCommand, dockerImageName);
+            Optional<String> snapshot = ImageSnapshots.find(snapshotHash);
+            if (snapshot.isPresent()) {
+                logger().info("Creating container from snapshot {}", snapshot.get());
+                createCommand.withImage(snapshot.get());
+                restoredFromSnapshot = true;
+            }
+        }
 
-                if (containerLogs.length() > 0) {
-                    logger().error("Log output from the failed container:\n{}", getLogs());
-                } else {
-                    logger().error("There are no stdout/stderr logs available for the failed container");
+        reused = false;
+        if (canBeReused()) {
+            // Reusable containers outlive the session, so they must not be reaped with it
+            createCommand.getLabels().remove(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL);
+            String hash = hash(createCommand);
+            Optional<String> reusableContainerId = findReusableContainer(hash);
+            if (reusableContainerId.isPresent()) {
+                containerId = reusableContainerId.get();
+                startupTimeline.setContainerId(containerId);
+                reused = true;
+                logger().info("Reusing container with ID: {} and hash: {}", containerId, hash);
+            } else {
+                logger().debug("No running container with hash {}, creating a reusable one", hash);
+                createCommand.getLabels().put(ReusableContainers.HASH_LABEL, hash);
+            }
+        }
+
+        if (!reused) {
+            containerId = createContainer(createCommand, dockerImageName);
+            startupTimeline.setContainerId(containerId);
+
+            // Independent from each other, both done before containerIsCreated
+            startupTimeline.begin(StartupPhase.COPY_FILES);
+            overlap(
+                PortForwardingContainer.INSTANCE.getNetwork().isPresent() && !copyToFileContainerPathMap.isEmpty(),
+                () -> connectToPortForwardingNetwork(createCommand.getNetworkMode()),
+                () -> {
+                    copyFilesToContainer(copyToFileContainerPathMap);
+                    return null;
                 }
+            );
+
+            containerIsCreated(containerId);
+
+            startupTimeline.begin(StartupPhase.START);
+            logger().info("Starting container with ID: {}", containerId);
+            dockerClient.startContainerCmd(containerId).exec();
+            DockerClientFactory.instance().containerStateCache().invalidate(containerId);
+
+            logger().info("Container {} is starting: {}", dockerImageName, containerId);
+        }
+
+        // For all registered output consumers, start following as close to container startup as possible
+        this.logConsumers.forEach(this::followOutput);
+
+        // Tell subclasses that we're starting
+        containerInfo = DockerClientFactory.instance().containerStateCache().inspect(containerId);
+        containerName = containerInfo.getName();
+        containerIsStarting(containerInfo, reused);
+
+        return new StartedContainer(dockerImageName, snapshotHash);
+    }
+
+    /**
+     * Runs {@code background} on {@link AsyncExecutors#getBlockingExecutor()} while {@code foreground} runs on the
+     * current thread, so that independent Docker API calls overlap, and returns once both are done.
+     * If not {@code enabled}, e.g. because one of them has nothing to do, both run on the current thread, in order.
+     */
+    private static <T> T overlap(boolean enabled, Runnable background, Supplier<T> foreground) {
+        if (!enabled) {
+            background.run();
+            return foreground.get();
+        }
+
+        CompletableFuture<Void> backgroundResult = CompletableFuture.runAsync(background, AsyncExecutors.getBlockingExecutor());
+        T result;
+        try {
+            result = foreground.get();
+        } catch (Throwable e) {
+            // Never leave a Docker API call running behind a failed startup
+            try {
+                AsyncExecutors.join(backgroundResult);
+            } catch (Throwable backgroundFailure) {
+                e.addSuppressed(backgroundFailure);
             }
+            throw e;
+        }
+        AsyncExecutors.join(backgroundResult);
+        return result;
+    }
+
+    private void containerStarted(StartedContainer started) {
+        logger().info("Container {} started", started.getDockerImageName());
+        startupTimeline.begin(StartupPhase.STARTED_CALLBACK);
+        containerIsStarted(containerInfo, reused);
 
-            throw new ContainerLaunchException("Could not create/start container", e);
+        if (started.getSnapshotHash() != null && !restoredFromSnapshot && !reused) {
+            commitSnapshot(started.getSnapshotHash(), started.getDockerImageName());
         }
+        startupTimeline.end(false);
+    }
+
+    private ContainerLaunchException startFailed(Throwable e) {
+        startupTimeline.end(true);
+        logger().error("Could not start container", e);
+
+        if (containerId != null) {
+            // Log output if startup failed, either due to a container failure or exception (including timeout)
+            final String containerLogs = getLogs();
+
+            if (containerLogs.length() > 0) {
+                logger().error("Log output from the failed container:\n{}", getLogs());
+            } else {
+                logger().error("There are no stdout/stderr logs available for the failed container");
+            }
+        }
+
+        return new ContainerLaunchException("Could not create/start container", e);
+    }
+
+    @Value
+    private static class StartedContainer {
+
+        String dockerImageName;
+
+        String snapshotHash;
     }
 
     /**
@@ -392,12 +701,27 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
                 imageName = "<unknown>";
             }
 
+            if (canBeReused()) {
+                logger().info("Leaving reusable container {} running, see ReusableContainers.prune()", containerId);
+                return;
+            }
+
             containerIsStopping(containerInfo);
-            ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+            FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.CONTAINER_STOP).withContainerId(containerId).withImage(imageName);
+            try {
+                ResourceReaper.instance().stopAndRemoveContainer(containerId, imageName);
+            } catch (RuntimeException e) {
+                event.withFailed(true);
+                throw e;
+            } finally {
+                event.commit();
+            }
+            DockerClientFactory.instance().containerStateCache().remove(containerId);
             containerIsStopped(containerInfo);
         } finally {
             containerId = null;
             containerInfo = null;
+            reused = false;
         }
     }
 
@@ -420,9 +744,9 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         Path directory = new File(".tmp-volume-" + System.currentTimeMillis()).toPath();
         PathUtils.mkdirp(directory);
 
-        if (temporary) Runtime.getRuntime().addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, () -> {
-            PathUtils.recursiveDeleteDir(directory);
-        }));
+        if (temporary) {
+            ResourceReaper.instance().registerPathForCleanup(directory);
+        }
 
         return directory;
     }
@@ -439,10 +763,26 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     protected void containerIsStarting(InspectContainerResponse containerInfo) {
     }
 
+    /**
+     * @param reused whether the container was started by a previous session, see {@link #withReuse(boolean)}
+     */
+    @SuppressWarnings({"UnusedParameters"})
+    protected void containerIsStarting(InspectContainerResponse containerInfo, boolean reused) {
+        containerIsStarting(containerInfo);
+    }
+
     @SuppressWarnings({"EmptyMethod", "UnusedParameters"})
     protected void containerIsStarted(InspectContainerResponse containerInfo) {
     }
 
+    /**
+     * @param reused whether the container was started by a previous session, see {@link #withReuse(boolean)}
+     */
+    @SuppressWarnings({"UnusedParameters"})
+    protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+        containerIsStarted(containerInfo);
+    }
+
     /**
      * A hook that is executed before the container is stopped with {@link #stop()}.
      * Warning! This hook won't be executed if the container is terminated during
@@ -801,6 +1141,7 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
     @Override
     @Deprecated
     protected void starting(Description description) {
+        startupTestClass = description.getClassName();
         if (this instanceof TestLifecycleAware) {
             ((TestLifecycleAware) this).beforeTest(toDescription(description));
         }
@@ -987,6 +1328,147 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         return self();
     }
 
+    /**
+     * Reuses a running container created with the same configuration by a previous session instead of creating a new one,
+     * provided that reuse is enabled with {@code container.reuse.enable}. Reusable containers are left running by
+     * {@link #stop()} and are not removed at the end of the session, see {@link ReusableContainers#prune()}.
+     * <p>
+     * As they don't have the session label, the events of reused containers are not received: their cached state expires
+     * with {@code container.state.cache.ttl}, and the waits for them are evaluated on their recheck intervals only. Subclasses which provision the container once
+     * it is started should skip the provisioning of a reused one (see
+     * {@link #containerIsStarted(InspectContainerResponse, boolean)}).
+     *
+     * @param reusable whether the container may be reused
+     * @return this
+     */
+    public SELF withReuse(boolean reusable) {
+        this.shouldBeReused = reusable;
+        return self();
+    }
+
+    /**
+     * Commits the container into an image snapshot once it is started and provisioned (see
+     * {@link #containerIsStarted(InspectContainerResponse, boolean)}), so that later sessions create the container from the
+     * snapshot and skip the provisioning. Snapshots are identified by a hash of the image ID, of the configuration of the
+     * container and of the {@link #getSnapshotInputFiles() provisioning inputs}, and evicted according to
+     * {@code snapshot.max.age} and {@code snapshot.max.size}.
+     * <p>
+     * Containers with volumes are not snapshotted, as their content is not part of committed images.
+     *
+     * @param snapshotEnabled whether to snapshot the provisioned container
+     * @return this
+     */
+    public SELF withImageSnapshot(boolean snapshotEnabled) {
+        this.snapshotEnabled = snapshotEnabled;
+        return self();
+    }
+
+    private boolean canBeReused() {
+        if (!shouldBeReused) {
+            return false;
+        }
+        if (!ReusableContainers.isEnabled()) {
+            logger().warn("Reuse was requested but the environment does not allow it (see 'container.reuse.enable'), the container will be removed at the end of the session");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Outputs of {@link #withImageSnapshot(boolean) provisioning} which do not come from the configuration of the container,
+     * e.g. the init scripts run once the container is started: snapshots are only used if these files did not change.
+     *
+     * @return the files the provisioning depends on
+     */
+    protected List<MountableFile> getSnapshotInputFiles() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * @return a hash of everything the container is created from, including the content of the files copied into it
+     */
+    private String hash(CreateContainerCmd createCommand, String... extraInputs) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher();
+
+        ObjectNode command = REUSE_HASH_MAPPER.valueToTree(createCommand);
+        JsonNode labels = command.get("Labels");
+        if (labels instanceof ObjectNode) {
+            // Differs in every session
+            ((ObjectNode) labels).remove(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL);
+        }
+        hasher.putString(REUSE_HASH_MAPPER.writeValueAsString(command), UTF8);
+
+        for (String extraInput : extraInputs) {
+            hasher.putString(extraInput, UTF8);
+        }
+
+        hashFiles(hasher, copyToFileContainerPathMap);
+        return hasher.hash().toString();
+    }
+
+    private static void hashFiles(Hasher hasher, Map<MountableFile, String> files) throws IOException {
+        // Sorted, so that the hash does not depend on the iteration order of the map
+        List<Map.Entry<MountableFile, String>> sortedFiles = new ArrayList<>(files.entrySet());
+        sortedFiles.sort(Comparator.comparing(Map.Entry::getValue));
+        for (Map.Entry<MountableFile, String> file : sortedFiles) {
+            hasher.putString(file.getValue(), UTF8).putInt(file.getKey().getFileMode());
+
+            Path root = Paths.get(file.getKey().getResolvedPath());
+            try (Stream<Path> paths = Files.walk(root)) {
+                for (Path path : paths.sorted().collect(Collectors.toList())) {
+                    hasher.putString(root.relativize(path).toString(), UTF8);
+                    if (Files.isRegularFile(path)) {
+                        try (OutputStream outputStream = Funnels.asOutputStream(hasher)) {
+                            Files.copy(path, outputStream);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private String snapshotHash(CreateContainerCmd createCommand, String dockerImageName) throws IOException {
+        Map<MountableFile, String> inputFiles = new HashMap<>();
+        List<MountableFile> snapshotInputFiles = getSnapshotInputFiles();
+        for (int i = 0; i < snapshotInputFiles.size(); i++) {
+            inputFiles.put(snapshotInputFiles.get(i), String.format("%08d", i));
+        }
+
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(hash(createCommand, dockerClient.inspectImageCmd(dockerImageName).exec().getId()), UTF8);
+        hashFiles(hasher, inputFiles);
+        return hasher.hash().toString();
+    }
+
+    private void commitSnapshot(String hash, String dockerImageName) {
+        // docker commit does not capture the content of volumes, e.g. the data directory declared by most database images
+        List<String> volumes = Optional.ofNullable(containerInfo.getMounts()).orElse(Collections.emptyList()).stream()
+            .filter(mount -> !Strings.isNullOrEmpty(mount.getName()))
+            .map(mount -> mount.getDestination() != null ? mount.getDestination().getPath() : mount.getName())
+            .collect(Collectors.toList());
+        if (!volumes.isEmpty()) {
+            logger().warn("Not committing a snapshot of the container, the content of its volumes {} would be missing from it", volumes);
+            return;
+        }
+
+        try {
+            String snapshot = ImageSnapshots.commit(containerId, hash, dockerImageName);
+            logger().info("Committed snapshot {} of the provisioned container", snapshot);
+        } catch (Exception e) {
+            logger().warn("Failed to commit a snapshot of the container", e);
+        }
+    }
+
+    private Optional<String> findReusableContainer(String hash) {
+        return dockerClient.listContainersCmd()
+            .withLabelFilter(Collections.singletonMap(ReusableContainers.HASH_LABEL, hash))
+            .withLimit(1)
+            .exec()
+            .stream()
+            .map(it -> it.getId())
+            .findFirst();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1127,14 +1609,47 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
      */
     @Override
     public void copyFileToContainer(MountableFile mountableFile, String containerPath) {
+        copyFileToContainer((Transferable) mountableFile, resolveContainerPath(mountableFile, containerPath));
+    }
+
+    /**
+     * Copies all the files in one archive extracted at {@code /}, so that a single request is made however many files there are.
+     */
+    @SneakyThrows(IOException.class)
+    private void copyFilesToContainer(Map<MountableFile, String> filesToCopy) {
+        if (filesToCopy.isEmpty()) {
+            return;
+        }
+
+        FlightRecorderEvent event = beginEvent(FlightRecorderEventType.CONTAINER_COPY, filesToCopy.size() + " files to /");
+        try (CountingInputStream archive = new CountingInputStream(TarArchivePipe.open(tarArchive -> {
+            filesToCopy.forEach((mountableFile, containerPath) -> {
+                String pathInArchive = StringUtils.removeStart(StringUtils.removeEnd(resolveContainerPath(mountableFile, containerPath), "/"), "/");
+                mountableFile.transferTo(tarArchive, pathInArchive);
+            });
+        }))) {
+            dockerClient
+                .copyArchiveToContainerCmd(containerId)
+                .withTarInputStream(archive)
+                .withRemotePath("/")
+                .exec();
+            event.withBytesSent(archive.getByteCount());
+        } catch (IOException | RuntimeException e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private String resolveContainerPath(MountableFile mountableFile, String containerPath) {
         File sourceFile = new File(mountableFile.getResolvedPath());
 
         if (containerPath.endsWith("/") && sourceFile.isFile()) {
             logger().warn("folder-like containerPath in copyFileToContainer is deprecated, please explicitly specify a file path");
-            copyFileToContainer((Transferable) mountableFile, containerPath + sourceFile.getName());
-        } else {
-            copyFileToContainer((Transferable) mountableFile, containerPath);
+            return containerPath + sourceFile.getName();
         }
+        return containerPath;
     }
 
     @Override
@@ -1144,23 +1659,24 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             throw new IllegalStateException("copyFileToContainer can only be used with created / running container");
         }
 
-        try (
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(byteArrayOutputStream)
-        ) {
-            tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
-
-            int lastSlashIndex = StringUtils.removeEnd(containerPath, "/").lastIndexOf("/");
-            String extractArchiveTo = containerPath.substring(0, lastSlashIndex + 1);
-            String pathInArchive = containerPath.substring(lastSlashIndex + 1);
-            transferable.transferTo(tarArchive, pathInArchive);
-            tarArchive.finish();
+        int lastSlashIndex = StringUtils.removeEnd(containerPath, "/").lastIndexOf("/");
+        String extractArchiveTo = containerPath.substring(0, lastSlashIndex + 1);
+        String pathInArchive = containerPath.substring(lastSlashIndex + 1);
 
+        FlightRecorderEvent event = beginEvent(FlightRecorderEventType.CONTAINER_COPY, "to " + containerPath);
+        // Streamed, so that the archive is never held in memory whatever the size of the files
+        try (CountingInputStream archive = new CountingInputStream(TarArchivePipe.open(tarArchive -> transferable.transferTo(tarArchive, pathInArchive)))) {
             dockerClient
                 .copyArchiveToContainerCmd(containerId)
-                .withTarInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))
+                .withTarInputStream(archive)
                 .withRemotePath(extractArchiveTo)
                 .exec();
+            event.withBytesSent(archive.getByteCount());
+        } catch (IOException | RuntimeException e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
         }
     }
 
@@ -1184,15 +1700,77 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
             throw new IllegalStateException("copyFileFromContainer can only be used when the Container is created.");
         }
 
+        FlightRecorderEvent event = beginEvent(FlightRecorderEventType.CONTAINER_COPY, "from " + containerPath);
         try (
             InputStream inputStream = dockerClient.copyArchiveFromContainerCmd(containerId, containerPath).exec();
             TarArchiveInputStream tarInputStream = new TarArchiveInputStream(inputStream)
         ) {
             tarInputStream.getNextTarEntry();
-            return consumer.apply(tarInputStream);
+            T result = consumer.apply(tarInputStream);
+            event.withBytesReceived(tarInputStream.getBytesRead());
+            return result;
+        } catch (Exception e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
         }
     }
 
+    @Override
+    public void copyDirectoryFromContainer(String containerPath, String hostDirectory, ArchiveEntryFilter filter) throws IOException, InterruptedException {
+        if (!isCreated()) {
+            throw new IllegalStateException("copyDirectoryFromContainer can only be used when the Container is created.");
+        }
+
+        FlightRecorderEvent event = beginEvent(FlightRecorderEventType.CONTAINER_COPY, "from " + containerPath);
+        try (
+            InputStream inputStream = dockerClient.copyArchiveFromContainerCmd(containerId, containerPath).exec();
+            TarArchiveInputStream tarInputStream = new TarArchiveInputStream(inputStream)
+        ) {
+            new TarArchiveExtractor(Paths.get(hostDirectory), filter).extract(tarInputStream);
+            event.withBytesReceived(tarInputStream.getBytesRead());
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Override
+    @SneakyThrows(Exception.class)
+    public void copyFromContainer(String containerPath, ArchiveEntryConsumer entryConsumer) {
+        if (!isCreated()) {
+            throw new IllegalStateException("copyFromContainer can only be used when the Container is created.");
+        }
+
+        FlightRecorderEvent event = beginEvent(FlightRecorderEventType.CONTAINER_COPY, "from " + containerPath);
+        try (
+            InputStream inputStream = dockerClient.copyArchiveFromContainerCmd(containerId, containerPath).exec();
+            TarArchiveInputStream tarInputStream = new TarArchiveInputStream(inputStream)
+        ) {
+            TarArchiveEntry entry;
+            while ((entry = tarInputStream.getNextTarEntry()) != null) {
+                entryConsumer.accept(entry, new CloseShieldInputStream(tarInputStream));
+            }
+            event.withBytesReceived(tarInputStream.getBytesRead());
+        } catch (Exception e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private FlightRecorderEvent beginEvent(FlightRecorderEventType type, String detail) {
+        FlightRecorderEvent event = FlightRecorderEvents.begin(type);
+        if (event.isEnabled()) {
+            event.withContainerId(containerId).withDetail(detail).withImage(image.isDone() ? getDockerImageName() : null);
+        }
+        return event;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1318,12 +1896,5 @@ public class GenericContainer<SELF extends GenericContainer<SELF>>
         protected Set<Integer> getLivenessCheckPorts() {
             return container.getLivenessCheckPorts();
         }
-
-        /**
-         * @return the rate limiter to use
-         */
-        protected RateLimiter getRateLimiter() {
-            return DOCKER_CLIENT_RATE_LIMITER;
-        }
     }
 }
@@ -0,0 +1,49 @@
+package org.testcontainers.containers;
+
+import com.github.dockerjava.api.model.Container;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.ResourceReaper;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.List;
+
+/**
+ * Containers started with {@link GenericContainer#withReuse(boolean)}, which outlive the session that created them.
+ */
+@UtilityClass
+@Slf4j
+public class ReusableContainers {
+
+    /**
+     * Label holding the hash of the configuration a reusable container was created with
+     */
+    public static final String HASH_LABEL = DockerClientFactory.TESTCONTAINERS_LABEL + ".reuse.hash";
+
+    /**
+     * @return whether reusable containers may be reused, see {@code container.reuse.enable}
+     */
+    public static boolean isEnabled() {
+        return TestcontainersConfiguration.getInstance().isContainerReuseEnabled();
+    }
+
+    /**
+     * Stops and removes every reusable container, including the ones used by other sessions.
+     *
+     * @return the number of removed containers
+     */
+    public static int prune() {
+        List<Container> containers = DockerClientFactory.instance().client()
+            .listContainersCmd()
+            .withShowAll(true)
+            .withLabelFilter(HASH_LABEL)
+            .exec();
+
+        for (Container container : containers) {
+            log.info("Removing reusable container {} ({})", container.getId(), container.getImage());
+            ResourceReaper.instance().stopAndRemoveContainer(container.getId(), container.getImage());
+        }
+        return containers.size();
+    }
+}
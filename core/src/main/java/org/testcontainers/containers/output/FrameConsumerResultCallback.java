@@ -4,8 +4,10 @@ package org.testcontainers.containers.output;
 import com.github.dockerjava.api.model.Frame;
 import com.github.dockerjava.api.model.StreamType;
 import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.google.common.base.Charsets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testcontainers.dockerclient.transport.FramePayloadConsumer;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -21,12 +23,17 @@ import java.util.regex.Pattern;
 /**
  * This class can be used as a generic callback for docker-java commands that produce Frames.
  */
-public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameConsumerResultCallback, Frame> {
+public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameConsumerResultCallback, Frame> implements FramePayloadConsumer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FrameConsumerResultCallback.class);
 
     private static final byte[] EMPTY_LINE = new byte[0];
 
+    /**
+     * First byte of every ANSI color code, which is never part of a multibyte UTF-8 character
+     */
+    private static final byte ESCAPE = 0x1B;
+
     private static final Pattern ANSI_COLOR_PATTERN = Pattern.compile("\u001B\\[[0-9;]+m");
 
     private static final String LINE_BREAK_REGEX = "((\\r?\\n)|(\\r))";
@@ -65,15 +72,38 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
                     LOGGER.error("got frame with type {}, for which no handler is configured", frame.getStreamType());
                 } else if (outputFrame.getBytes() != null && outputFrame.getBytes().length > 0) {
                     if (frame.getStreamType() == StreamType.RAW) {
-                        processRawFrame(outputFrame, consumer);
+                        byte[] bytes = outputFrame.getBytes();
+                        processRawFrame(outputFrame.getType(), bytes, 0, bytes.length, consumer);
                     } else {
-                        processOtherFrame(outputFrame, consumer);
+                        processOtherFrame(outputFrame.getType(), outputFrame.getUtf8String(), consumer);
                     }
                 }
             }
         }
     }
 
+    @Override
+    public void onFrame(StreamType streamType, byte[] buffer, int offset, int length) {
+        OutputFrame.OutputType outputType = OutputFrame.OutputType.forStreamType(streamType);
+        if (outputType == null) {
+            return;
+        }
+
+        Consumer<OutputFrame> consumer = consumers.get(outputType);
+        if (consumer == null) {
+            LOGGER.error("got frame with type {}, for which no handler is configured", streamType);
+        } else if (length > 0) {
+            if (streamType == StreamType.RAW) {
+                processRawFrame(outputType, buffer, offset, length, consumer);
+            } else if (removesColorCodes(consumer) && indexOf(buffer, offset, length, ESCAPE) >= 0) {
+                processOtherFrame(outputType, new String(buffer, offset, length, Charsets.UTF_8), consumer);
+            } else {
+                // Nothing to strip: the payload is passed on as is, without decoding and encoding it again
+                consumer.accept(new OutputFrame(outputType, Arrays.copyOfRange(buffer, offset, offset + length)));
+            }
+        }
+    }
+
     @Override
     public void onError(Throwable throwable) {
         // Sink any errors
@@ -109,21 +139,22 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
         return completionLatch;
     }
 
-    private synchronized void processRawFrame(OutputFrame outputFrame, Consumer<OutputFrame> consumer) {
-        String utf8String = outputFrame.getUtf8String();
-        byte[] bytes = outputFrame.getBytes();
-
+    private synchronized void processRawFrame(OutputFrame.OutputType outputType, byte[] bytes, int offset, int length, Consumer<OutputFrame> consumer) {
         // Merging the strings by bytes to solve the problem breaking non-latin unicode symbols.
         if (brokenFrame != null) {
-            bytes = merge(brokenFrame.getBytes(), bytes);
-            utf8String = new String(bytes);
+            bytes = merge(brokenFrame.getBytes(), bytes, offset, length);
+            offset = 0;
+            length = bytes.length;
             brokenFrame = null;
         }
+        String utf8String = new String(bytes, offset, length, Charsets.UTF_8);
+
         // Logger chunks can break the string in middle of multibyte unicode character.
         // Backup the bytes to reconstruct proper char sequence with bytes from next frame.
         int lastCharacterType = Character.getType(utf8String.charAt(utf8String.length() - 1));
         if (lastCharacterType == Character.OTHER_SYMBOL) {
-            brokenFrame = new OutputFrame(outputFrame.getType(), bytes);
+            // The bytes may be a view of a buffer reused for the next frame
+            brokenFrame = new OutputFrame(outputType, Arrays.copyOfRange(bytes, offset, offset + length));
             return;
         }
 
@@ -131,11 +162,9 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
         normalizeLogLines(utf8String, consumer);
     }
 
-    private synchronized void processOtherFrame(OutputFrame outputFrame, Consumer<OutputFrame> consumer) {
-        String utf8String = outputFrame.getUtf8String();
-
+    private synchronized void processOtherFrame(OutputFrame.OutputType outputType, String utf8String, Consumer<OutputFrame> consumer) {
         utf8String = processAnsiColorCodes(utf8String, consumer);
-        consumer.accept(new OutputFrame(outputFrame.getType(), utf8String.getBytes()));
+        consumer.accept(new OutputFrame(outputType, utf8String.getBytes()));
     }
 
     private void normalizeLogLines(String utf8String, Consumer<OutputFrame> consumer) {
@@ -163,17 +192,29 @@ public class FrameConsumerResultCallback extends ResultCallbackTemplate<FrameCon
     }
 
     private String processAnsiColorCodes(String utf8String, Consumer<OutputFrame> consumer) {
-        if (!(consumer instanceof BaseConsumer) || ((BaseConsumer) consumer).isRemoveColorCodes()) {
+        if (removesColorCodes(consumer)) {
             return ANSI_COLOR_PATTERN.matcher(utf8String).replaceAll("");
         }
         return utf8String;
     }
 
+    private boolean removesColorCodes(Consumer<OutputFrame> consumer) {
+        return !(consumer instanceof BaseConsumer) || ((BaseConsumer) consumer).isRemoveColorCodes();
+    }
+
+    private static int indexOf(byte[] buffer, int offset, int length, byte value) {
+        for (int i = offset; i < offset + length; i++) {
+            if (buffer[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
 
-    private byte[] merge(byte[] str1, byte[] str2) {
-        byte[] mergedString = new byte[str1.length + str2.length];
+    private byte[] merge(byte[] str1, byte[] str2, int offset, int length) {
+        byte[] mergedString = new byte[str1.length + length];
         System.arraycopy(str1, 0, mergedString, 0, str1.length);
-        System.arraycopy(str2, 0, mergedString, str1.length, str2.length);
+        System.arraycopy(str2, offset, mergedString, str1.length, length);
         return mergedString;
     }
 }
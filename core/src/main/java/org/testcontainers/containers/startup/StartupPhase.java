@@ -0,0 +1,57 @@
+package org.testcontainers.containers.startup;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.jfr.FlightRecorderEventType;
+
+/**
+ * Phases of the startup of a container, in the order they happen in.
+ */
+@RequiredArgsConstructor
+public enum StartupPhase {
+
+    /**
+     * Pulling or building the image
+     */
+    IMAGE_RESOLUTION(null),
+
+    /**
+     * Creating the container, including the lookup of reusable containers and snapshots
+     */
+    CREATE(FlightRecorderEventType.CONTAINER_CREATE),
+
+    /**
+     * Copying the files added with {@code withCopyFileToContainer} before the container is started, while it is connected
+     * to the network of the exposed host ports if needed
+     */
+    COPY_FILES(null),
+
+    /**
+     * Starting the container and inspecting it, including the {@code containerIsStarting} callback
+     */
+    START(FlightRecorderEventType.CONTAINER_START),
+
+    /**
+     * Waiting for the {@link org.testcontainers.containers.startupcheck.StartupCheckStrategy}
+     */
+    STARTUP_CHECK(FlightRecorderEventType.CONTAINER_WAIT),
+
+    /**
+     * Waiting for the {@link org.testcontainers.containers.wait.strategy.WaitStrategy}
+     */
+    WAIT(FlightRecorderEventType.CONTAINER_WAIT),
+
+    /**
+     * Running the {@code containerIsStarted} callback (e.g. init scripts) and committing snapshots
+     */
+    STARTED_CALLBACK(null);
+
+    /**
+     * Type of the Java Flight Recorder event recorded for the phase, if any: image pulls, image builds and file copies
+     * record their own events
+     */
+    @Getter
+    @Nullable
+    private final FlightRecorderEventType eventType;
+}
@@ -0,0 +1,220 @@
+package org.testcontainers.containers.startup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableSet;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang.StringUtils;
+import org.jetbrains.annotations.Nullable;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the {@link StartupTimeline startup timelines} of the containers started in this JVM, per image and per
+ * test class, and writes them as JSON to {@code startup.report.file} at JVM shutdown, e.g. to track startup
+ * regressions in CI.
+ */
+@UtilityClass
+@Slf4j
+public class StartupReport {
+
+    private static final String UNKNOWN_TEST_CLASS = "unknown";
+
+    /**
+     * Packages of the frames skipped when looking for the test class starting a container
+     */
+    private static final Set<String> FRAMEWORK_PACKAGES = ImmutableSet.of(
+        "java.", "javax.", "jdk.", "sun.", "com.sun.",
+        "org.junit.", "junit.", "org.testng.", "org.spockframework.", "org.codehaus.groovy.", "groovy.",
+        "org.gradle.", "worker.org.gradle.", "org.apache.maven.surefire.", "com.intellij.", "org.eclipse.jdt.internal.junit",
+        "org.rnorth.", "lombok.", "org.testcontainers."
+    );
+
+    private static final ThreadLocal<String> CURRENT_TEST_CLASS = new ThreadLocal<>();
+
+    private static final Instant SESSION_STARTED_AT = Instant.now();
+
+    private static final Map<String, Stats> IMAGES = new TreeMap<>();
+
+    private static final Map<String, Stats> TEST_CLASSES = new TreeMap<>();
+
+    private static final String FILE = TestcontainersConfiguration.getInstance().getStartupReportFile();
+
+    static {
+        if (isEnabled()) {
+            Runtime.getRuntime().addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, () -> {
+                try {
+                    write(Paths.get(FILE));
+                } catch (Exception e) {
+                    log.warn("Failed to write the startup report to {}", FILE, e);
+                }
+            }, "testcontainers-startup-report"));
+        }
+    }
+
+    /**
+     * @return whether a report is written at shutdown
+     */
+    public static boolean isEnabled() {
+        return !FILE.isEmpty();
+    }
+
+    /**
+     * Runs {@code action}, reporting the containers it starts under {@code testClass} instead of looking for the test
+     * class in the stack trace. Used by the test framework integrations which start containers, e.g. from a thread whose
+     * stack doesn't contain the test class.
+     */
+    public static void runForTestClass(Class<?> testClass, Runnable action) {
+        String previous = CURRENT_TEST_CLASS.get();
+        CURRENT_TEST_CLASS.set(StringUtils.substringBefore(testClass.getName(), "$"));
+        try {
+            action.run();
+        } finally {
+            if (previous != null) {
+                CURRENT_TEST_CLASS.set(previous);
+            } else {
+                CURRENT_TEST_CLASS.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the class set with {@link #runForTestClass(Class, Runnable)}, otherwise the first class of the current
+     * stack trace which is not part of Testcontainers, of a test framework or of a build tool, expected to be the test
+     * class starting a container, or {@code "unknown"} if there is none
+     */
+    public static String findTestClass() {
+        String current = CURRENT_TEST_CLASS.get();
+        if (current != null) {
+            return current;
+        }
+
+        for (StackTraceElement frame : Thread.currentThread().getStackTrace()) {
+            // Nested and anonymous classes are reported under their top level class
+            String className = StringUtils.substringBefore(frame.getClassName(), "$");
+            if (FRAMEWORK_PACKAGES.stream().noneMatch(className::startsWith) || isTestcontainersTest(className)) {
+                return className;
+            }
+        }
+        return UNKNOWN_TEST_CLASS;
+    }
+
+    private static boolean isTestcontainersTest(String className) {
+        return className.startsWith("org.testcontainers.") && (className.endsWith("Test") || className.endsWith("IT"));
+    }
+
+    /**
+     * Adds a finished startup to the report.
+     */
+    public static synchronized void record(String image, @Nullable String testClass, StartupTimeline timeline) {
+        IMAGES.computeIfAbsent(image, __ -> new Stats()).add(timeline);
+        TEST_CLASSES.computeIfAbsent(testClass != null ? testClass : UNKNOWN_TEST_CLASS, __ -> new Stats()).add(timeline);
+    }
+
+    /**
+     * @return the report, as written at shutdown
+     */
+    public static synchronized ObjectNode toJson() {
+        ObjectNode report = new ObjectMapper().createObjectNode();
+        report.put("sessionId", DockerClientFactory.SESSION_ID);
+        report.put("startedAt", SESSION_STARTED_AT.toString());
+
+        ObjectNode images = report.putObject("images");
+        IMAGES.forEach((image, stats) -> stats.writeTo(images.putObject(image)));
+
+        ObjectNode testClasses = report.putObject("testClasses");
+        TEST_CLASSES.forEach((testClass, stats) -> stats.writeTo(testClasses.putObject(testClass)));
+        return report;
+    }
+
+    static void write(Path file) throws IOException {
+        ObjectNode report = toJson();
+        if (report.get("images").size() == 0) {
+            return;
+        }
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        log.info("Wrote the startup report to {}", file);
+    }
+
+    /**
+     * Must be accessed with the lock of {@link StartupReport} held.
+     */
+    private static final class Stats {
+
+        private int starts;
+
+        private int failures;
+
+        private int attempts;
+
+        private long totalNanos;
+
+        private long maxNanos;
+
+        private final Map<StartupPhase, PhaseStats> phases = new EnumMap<>(StartupPhase.class);
+
+        void add(StartupTimeline timeline) {
+            starts++;
+            if (!timeline.isSucceeded()) {
+                failures++;
+            }
+            attempts += timeline.getAttempts();
+
+            long total = timeline.getTotal().toNanos();
+            totalNanos += total;
+            maxNanos = Math.max(maxNanos, total);
+
+            for (StartupPhase phase : StartupPhase.values()) {
+                long duration = timeline.getDuration(phase).toNanos();
+                if (duration > 0) {
+                    phases.computeIfAbsent(phase, __ -> new PhaseStats()).add(duration);
+                }
+            }
+        }
+
+        void writeTo(ObjectNode node) {
+            node.put("starts", starts);
+            node.put("failures", failures);
+            node.put("attempts", attempts);
+            node.put("totalMillis", totalNanos / 1_000_000);
+            node.put("meanMillis", totalNanos / starts / 1_000_000);
+            node.put("maxMillis", maxNanos / 1_000_000);
+
+            ObjectNode phasesNode = node.putObject("phases");
+            phases.forEach((phase, stats) -> {
+                ObjectNode phaseNode = phasesNode.putObject(phase.name());
+                phaseNode.put("totalMillis", stats.totalNanos / 1_000_000);
+                phaseNode.put("maxMillis", stats.maxNanos / 1_000_000);
+            });
+        }
+    }
+
+    private static final class PhaseStats {
+
+        private long totalNanos;
+
+        private long maxNanos;
+
+        void add(long nanos) {
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.testcontainers.containers.startup;
+
+import lombok.Value;
+import org.testcontainers.jfr.FlightRecorderEvent;
+import org.testcontainers.jfr.FlightRecorderEvents;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Time spent in each {@link StartupPhase} of the startup of a container, for every attempt.
+ * <p>
+ * Phases are recorded like a stopwatch: {@link #begin(StartupPhase)} ends the current phase and starts the next one.
+ * Phases are also recorded as Java Flight Recorder events, see {@link StartupPhase#getEventType()}.
+ */
+public final class StartupTimeline {
+
+    private final Instant startedAt = Instant.now();
+
+    private final long startNanos = System.nanoTime();
+
+    private final List<Span> spans = new ArrayList<>();
+
+    private int attempt = 1;
+
+    private StartupPhase currentPhase;
+
+    private Instant currentStartedAt;
+
+    private long currentStartNanos;
+
+    private FlightRecorderEvent currentEvent;
+
+    private String image;
+
+    private String containerId;
+
+    private long totalNanos = -1;
+
+    private boolean succeeded;
+
+    /**
+     * Sets the attempt the following phases belong to, the first one being {@code 1}.
+     */
+    public synchronized void beginAttempt(int attempt) {
+        end(false);
+        this.attempt = attempt;
+    }
+
+    /**
+     * Ends the current phase, if any, and starts {@code phase}.
+     */
+    public synchronized void begin(StartupPhase phase) {
+        end(false);
+        currentPhase = phase;
+        currentStartedAt = Instant.now();
+        currentStartNanos = System.nanoTime();
+        if (phase.getEventType() != null) {
+            currentEvent = FlightRecorderEvents.begin(phase.getEventType()).withDetail(phase.name());
+        }
+    }
+
+    /**
+     * @param image image of the started container, attached to the events of the following phases
+     */
+    public synchronized void setImage(String image) {
+        this.image = image;
+    }
+
+    /**
+     * @param containerId ID of the created container, attached to the events of the current and following phases
+     */
+    public synchronized void setContainerId(String containerId) {
+        this.containerId = containerId;
+    }
+
+    /**
+     * Ends the current phase, if any.
+     *
+     * @param failed whether the phase failed, ending the attempt
+     */
+    public synchronized void end(boolean failed) {
+        if (currentPhase == null) {
+            return;
+        }
+        spans.add(new Span(currentPhase, attempt, currentStartedAt, Duration.ofNanos(System.nanoTime() - currentStartNanos), failed));
+        if (currentEvent != null) {
+            currentEvent.withImage(image).withContainerId(containerId).withFailed(failed).commit();
+            currentEvent = null;
+        }
+        currentPhase = null;
+    }
+
+    /**
+     * Ends the startup, marking the current phase as failed if the container could not be started.
+     */
+    public synchronized void finish(boolean succeeded) {
+        end(!succeeded);
+        this.succeeded = succeeded;
+        totalNanos = System.nanoTime() - startNanos;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized List<Span> getSpans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * @return the number of attempts made so far
+     */
+    public synchronized int getAttempts() {
+        return attempt;
+    }
+
+    /**
+     * @return whether the startup is over, successfully or not
+     */
+    public synchronized boolean isFinished() {
+        return totalNanos >= 0;
+    }
+
+    public synchronized boolean isSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * @return the duration of the whole startup, or the time elapsed so far if it is not finished
+     */
+    public synchronized Duration getTotal() {
+        return Duration.ofNanos(isFinished() ? totalNanos : System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @return the time spent in {@code phase}, over all the attempts
+     */
+    public synchronized Duration getDuration(StartupPhase phase) {
+        return spans.stream()
+            .filter(span -> span.getPhase() == phase)
+            .map(Span::getDuration)
+            .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return spans.stream()
+            .map(span -> span.getPhase() + "#" + span.getAttempt() + "=" + span.getDuration().toMillis() + "ms" + (span.isFailed() ? " (failed)" : ""))
+            .collect(Collectors.joining(", ", "StartupTimeline[total=" + getTotal().toMillis() + "ms: ", "]"));
+    }
+
+    @Value
+    public static class Span {
+
+        StartupPhase phase;
+
+        int attempt;
+
+        Instant startedAt;
+
+        Duration duration;
+
+        boolean failed;
+    }
+}
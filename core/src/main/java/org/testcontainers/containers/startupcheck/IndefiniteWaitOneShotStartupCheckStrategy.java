@@ -1,9 +1,10 @@
 package org.testcontainers.containers.startupcheck;
 
 import com.github.dockerjava.api.DockerClient;
-import com.google.common.util.concurrent.Uninterruptibles;
+import org.testcontainers.dockerclient.DockerEventBus;
+import org.testcontainers.utility.AsyncExecutors;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Variant of {@link OneShotStartupCheckStrategy} that does not impose a timeout.
@@ -14,10 +15,23 @@ import java.util.concurrent.TimeUnit;
 public class IndefiniteWaitOneShotStartupCheckStrategy extends OneShotStartupCheckStrategy {
     @Override
     public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
-        while (checkStartupState(dockerClient, containerId) == StartupStatus.NOT_YET_KNOWN) {
-            Uninterruptibles.sleepUninterruptibly(100, TimeUnit.MILLISECONDS);
-        }
+        waitUntil(
+            dockerClient,
+            containerId,
+            DockerEventBus.NO_TIMEOUT,
+            () -> checkStartupState(dockerClient, containerId) != StartupStatus.NOT_YET_KNOWN
+        );
 
         return checkStartupState(dockerClient, containerId) == StartupStatus.SUCCESSFUL;
     }
+
+    @Override
+    public CompletableFuture<Boolean> waitUntilStartupSuccessfulAsync(DockerClient dockerClient, String containerId) {
+        return waitUntilAsync(
+            dockerClient,
+            containerId,
+            DockerEventBus.NO_TIMEOUT,
+            () -> checkStartupState(dockerClient, containerId) != StartupStatus.NOT_YET_KNOWN
+        ).thenApplyAsync(__ -> checkStartupState(dockerClient, containerId) == StartupStatus.SUCCESSFUL, AsyncExecutors.getProbeExecutor());
+    }
 }
@@ -36,4 +36,10 @@ public class MinimumDurationRunningStartupCheckStrategy extends StartupCheckStra
         return StartupStatus.NOT_YET_KNOWN;
     }
 
+    @Override
+    protected Duration getRecheckInterval() {
+        // The minimum duration elapses without any event
+        return Duration.ofSeconds(1);
+    }
+
 }
@@ -2,12 +2,16 @@ package org.testcontainers.containers.startupcheck;
 
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.InspectContainerResponse;
-import org.rnorth.ducttape.ratelimits.RateLimiter;
-import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
-import org.rnorth.ducttape.unreliables.Unreliables;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.dockerclient.LazyDockerClient;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.Overrides;
+import org.testcontainers.utility.PollingScheduler;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.testcontainers.containers.GenericContainer.CONTAINER_RUNNING_TIMEOUT_SEC;
 
@@ -16,12 +20,6 @@ import static org.testcontainers.containers.GenericContainer.CONTAINER_RUNNING_T
  */
 public abstract class StartupCheckStrategy {
 
-    private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
-            .newBuilder()
-            .withRate(1, TimeUnit.SECONDS)
-            .withConstantThroughput()
-            .build();
-
     private Duration timeout = Duration.ofSeconds(CONTAINER_RUNNING_TIMEOUT_SEC);
 
     @SuppressWarnings("unchecked")
@@ -32,22 +30,77 @@ public abstract class StartupCheckStrategy {
 
     public boolean waitUntilStartupSuccessful(DockerClient dockerClient, String containerId) {
         final Boolean[] startedOK = {null};
-        Unreliables.retryUntilTrue((int) timeout.toMillis(), TimeUnit.MILLISECONDS, () -> {
-            //noinspection CodeBlock2Expr
-            return DOCKER_CLIENT_RATE_LIMITER.getWhenReady(() -> {
-                StartupStatus state = checkStartupState(dockerClient, containerId);
-                switch (state) {
-                    case SUCCESSFUL:    startedOK[0] = true;
-                                        return true;
-                    case FAILED:        startedOK[0] = false;
-                                        return true;
-                    default:            return false;
-                }
-            });
+        waitUntil(dockerClient, containerId, timeout, () -> {
+            StartupStatus state = checkStartupState(dockerClient, containerId);
+            switch (state) {
+                case SUCCESSFUL:    startedOK[0] = true;
+                                    return true;
+                case FAILED:        startedOK[0] = false;
+                                    return true;
+                default:            return false;
+            }
         });
         return startedOK[0];
     }
 
+    /**
+     * Like {@link #waitUntilStartupSuccessful(DockerClient, String)}, without blocking a thread. Strategies overriding
+     * the blocking variant only are run on {@link AsyncExecutors#getBlockingExecutor()}.
+     */
+    public CompletableFuture<Boolean> waitUntilStartupSuccessfulAsync(DockerClient dockerClient, String containerId) {
+        if (Overrides.isOverridden(getClass(), StartupCheckStrategy.class, "waitUntilStartupSuccessful", DockerClient.class, String.class)) {
+            return CompletableFuture.supplyAsync(() -> waitUntilStartupSuccessful(dockerClient, containerId), AsyncExecutors.getBlockingExecutor());
+        }
+
+        AtomicReference<Boolean> startedOK = new AtomicReference<>();
+        return waitUntilAsync(dockerClient, containerId, timeout, () -> {
+            StartupStatus state = checkStartupState(dockerClient, containerId);
+            if (state == StartupStatus.NOT_YET_KNOWN) {
+                return false;
+            }
+            startedOK.set(state == StartupStatus.SUCCESSFUL);
+            return true;
+        }).thenApply(__ -> startedOK.get());
+    }
+
+    /**
+     * Waits until {@code condition} is true. It is re-evaluated as soon as the container starts, dies or changes health
+     * when {@code dockerClient} is the client of {@link DockerClientFactory} (as for containers, see
+     * {@link LazyDockerClient}), whose {@link DockerClientFactory#eventBus() events} are received. With any other client,
+     * whose daemon may be another one, the condition is polled.
+     *
+     * @throws org.rnorth.ducttape.TimeoutException if the condition is still false after {@code timeout}
+     */
+    protected void waitUntil(DockerClient dockerClient, String containerId, Duration timeout, Callable<Boolean> condition) {
+        if (isFactoryClient(dockerClient)) {
+            DockerClientFactory.instance().eventBus().waitUntil(containerId, timeout, getRecheckInterval(), condition);
+        } else {
+            PollingScheduler.getDefault().retryUntilTrue(timeout, condition);
+        }
+    }
+
+    /**
+     * Like {@link #waitUntil(DockerClient, String, Duration, Callable)}, without blocking a thread.
+     */
+    protected CompletableFuture<Void> waitUntilAsync(DockerClient dockerClient, String containerId, Duration timeout, Callable<Boolean> condition) {
+        if (isFactoryClient(dockerClient)) {
+            return DockerClientFactory.instance().eventBus().waitUntilAsync(containerId, timeout, getRecheckInterval(), condition);
+        }
+        return PollingScheduler.getDefault().retryUntilTrueAsync(timeout, condition);
+    }
+
+    private static boolean isFactoryClient(DockerClient dockerClient) {
+        // Comparing with DockerClientFactory.instance().client() would connect to Docker for any other client
+        return dockerClient == LazyDockerClient.INSTANCE;
+    }
+
+    /**
+     * @return maximum interval between two checks, when the state doesn't change in between
+     */
+    protected Duration getRecheckInterval() {
+        return Duration.ofSeconds(5);
+    }
+
     public abstract StartupStatus checkStartupState(DockerClient dockerClient, String containerId);
 
     protected InspectContainerResponse.ContainerState getCurrentState(DockerClient dockerClient, String containerId) {
@@ -3,26 +3,30 @@ package org.testcontainers.containers.wait.strategy;
 import lombok.NonNull;
 import org.rnorth.ducttape.ratelimits.RateLimiter;
 import org.rnorth.ducttape.ratelimits.RateLimiterBuilder;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.Overrides;
+import org.testcontainers.utility.PollingScheduler;
 
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public abstract class AbstractWaitStrategy implements WaitStrategy {
 
-    private static final RateLimiter DOCKER_CLIENT_RATE_LIMITER = RateLimiterBuilder
-        .newBuilder()
-        .withRate(1, TimeUnit.SECONDS)
-        .withConstantThroughput()
-        .build();
-
     protected WaitStrategyTarget waitStrategyTarget;
 
     @NonNull
     protected Duration startupTimeout = Duration.ofSeconds(60);
 
     @NonNull
-    private RateLimiter rateLimiter = DOCKER_CLIENT_RATE_LIMITER;
+    private PollingScheduler pollingScheduler = PollingScheduler.getDefault();
+
+    private RateLimiter rateLimiter;
 
     /**
      * Wait until the target has started.
@@ -40,6 +44,40 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
      */
     protected abstract void waitUntilReady();
 
+    /**
+     * Starts an asynchronous wait for {@code waitStrategyTarget}, for the {@link AsyncWaitStrategy} subclasses.
+     * If a subclass of {@code type} overrides one of the blocking {@code waitUntilReady} methods, the asynchronous wait of
+     * {@code type} would skip it, so the blocking method runs on {@link AsyncExecutors#getBlockingExecutor()} instead.
+     */
+    protected CompletionStage<Void> waitUntilReadyAsync(
+        WaitStrategyTarget waitStrategyTarget,
+        Class<? extends AbstractWaitStrategy> type,
+        Supplier<CompletionStage<Void>> asyncWait
+    ) {
+        if (Overrides.isOverridden(getClass(), type, "waitUntilReady") ||
+            Overrides.isOverridden(getClass(), type, "waitUntilReady", WaitStrategyTarget.class)) {
+            return CompletableFuture.runAsync(() -> waitUntilReady(waitStrategyTarget), AsyncExecutors.getBlockingExecutor());
+        }
+
+        this.waitStrategyTarget = waitStrategyTarget;
+        return asyncWait.get();
+    }
+
+    /**
+     * @return {@code wait}, failed with the exception of {@code failure} instead of a {@link TimeoutException}
+     */
+    protected static CompletionStage<Void> failOnTimeout(CompletionStage<?> wait, Supplier<RuntimeException> failure) {
+        return wait.handle((result, e) -> {
+            if (e == null) {
+                return null;
+            }
+            if (AsyncExecutors.unwrap(e) instanceof TimeoutException) {
+                throw failure.get();
+            }
+            throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+        });
+    }
+
     /**
      * Set the duration of waiting time until container treated as started.
      *
@@ -59,10 +97,38 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
         return waitStrategyTarget.getLivenessCheckPortNumbers();
     }
 
+    /**
+     * @return the scheduler of the readiness probes
+     */
+    protected PollingScheduler getPollingScheduler() {
+        return pollingScheduler;
+    }
+
+    /**
+     * Set the scheduler of the readiness probes
+     *
+     * @param pollingScheduler pollingScheduler
+     * @return this
+     */
+    public WaitStrategy withPollingScheduler(PollingScheduler pollingScheduler) {
+        this.pollingScheduler = pollingScheduler;
+        return this;
+    }
+
     /**
      * @return the rate limiter to use
+     * @deprecated the built-in strategies use {@link #getPollingScheduler()}. Unless set with {@link #withRateLimiter(RateLimiter)},
+     * this is a limiter of one call per second which, unlike before, is not shared with other strategies
      */
-    protected RateLimiter getRateLimiter() {
+    @Deprecated
+    protected synchronized RateLimiter getRateLimiter() {
+        if (rateLimiter == null) {
+            rateLimiter = RateLimiterBuilder
+                .newBuilder()
+                .withRate(1, TimeUnit.SECONDS)
+                .withConstantThroughput()
+                .build();
+        }
         return rateLimiter;
     }
 
@@ -71,7 +137,9 @@ public abstract class AbstractWaitStrategy implements WaitStrategy {
      *
      * @param rateLimiter rateLimiter
      * @return this
+     * @deprecated only used by strategies calling {@link #getRateLimiter()}, use {@link #withPollingScheduler(PollingScheduler)}
      */
+    @Deprecated
     public WaitStrategy withRateLimiter(RateLimiter rateLimiter) {
         this.rateLimiter = rateLimiter;
         return this;
@@ -0,0 +1,14 @@
+package org.testcontainers.containers.wait.strategy;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link WaitStrategy} which can wait without blocking a thread, used by {@code GenericContainer#startAsync()}.
+ */
+public interface AsyncWaitStrategy extends WaitStrategy {
+
+    /**
+     * @return a stage completed once the target is ready, or failed if it does not get ready in time
+     */
+    CompletionStage<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget);
+}
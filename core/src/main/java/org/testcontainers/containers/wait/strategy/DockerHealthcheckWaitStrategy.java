@@ -1,25 +1,50 @@
 package org.testcontainers.containers.wait.strategy;
 
 import org.rnorth.ducttape.TimeoutException;
-import org.rnorth.ducttape.unreliables.Unreliables;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.ContainerLaunchException;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Wait strategy leveraging Docker's built-in healthcheck mechanism.
  *
  * @see <a href="https://docs.docker.com/engine/reference/builder/#healthcheck">https://docs.docker.com/engine/reference/builder/#healthcheck</a>
  */
-public class DockerHealthcheckWaitStrategy extends AbstractWaitStrategy {
+public class DockerHealthcheckWaitStrategy extends AbstractWaitStrategy implements AsyncWaitStrategy {
+
+    private static final Duration RECHECK_INTERVAL = Duration.ofSeconds(5);
 
     @Override
     protected void waitUntilReady() {
 
         try {
-            Unreliables.retryUntilTrue((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, waitStrategyTarget::isHealthy);
+            DockerClientFactory.instance().eventBus().waitUntil(
+                waitStrategyTarget.getContainerId(),
+                startupTimeout,
+                RECHECK_INTERVAL,
+                waitStrategyTarget::isHealthy
+            );
         } catch (TimeoutException e) {
-            throw new ContainerLaunchException("Timed out waiting for container to become healthy");
+            throw timeoutFailure();
         }
     }
+
+    @Override
+    public CompletionStage<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget) {
+        return waitUntilReadyAsync(waitStrategyTarget, DockerHealthcheckWaitStrategy.class, () -> failOnTimeout(
+            DockerClientFactory.instance().eventBus().waitUntilAsync(
+                waitStrategyTarget.getContainerId(),
+                startupTimeout,
+                RECHECK_INTERVAL,
+                waitStrategyTarget::isHealthy
+            ),
+            this::timeoutFailure
+        ));
+    }
+
+    private ContainerLaunchException timeoutFailure() {
+        return new ContainerLaunchException("Timed out waiting for container to become healthy");
+    }
 }
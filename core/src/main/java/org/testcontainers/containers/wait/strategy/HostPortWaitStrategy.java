@@ -2,7 +2,6 @@ package org.testcontainers.containers.wait.strategy;
 
 import lombok.extern.slf4j.Slf4j;
 import org.rnorth.ducttape.TimeoutException;
-import org.rnorth.ducttape.unreliables.Unreliables;
 import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.wait.internal.ExternalPortListeningCheck;
 import org.testcontainers.containers.wait.internal.InternalCommandPortListeningCheck;
@@ -10,7 +9,8 @@ import org.testcontainers.containers.wait.internal.InternalCommandPortListeningC
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 /**
@@ -19,14 +19,41 @@ import java.util.stream.Collectors;
  * @author richardnorth
  */
 @Slf4j
-public class HostPortWaitStrategy extends AbstractWaitStrategy {
+public class HostPortWaitStrategy extends AbstractWaitStrategy implements AsyncWaitStrategy {
 
     @Override
     protected void waitUntilReady() {
+        Callable<Boolean> check = buildCheck();
+        if (check == null) {
+            return;
+        }
+
+        try {
+            getPollingScheduler().retryUntilTrue(startupTimeout, check);
+        } catch (TimeoutException e) {
+            throw timeoutFailure();
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget) {
+        return waitUntilReadyAsync(waitStrategyTarget, HostPortWaitStrategy.class, () -> {
+            Callable<Boolean> check = buildCheck();
+            if (check == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return failOnTimeout(getPollingScheduler().retryUntilTrueAsync(startupTimeout, check), this::timeoutFailure);
+        });
+    }
+
+    /**
+     * @return the check of the liveness ports, or null if there is no port to wait for
+     */
+    private Callable<Boolean> buildCheck() {
         final Set<Integer> externalLivenessCheckPorts = getLivenessCheckPorts();
         if (externalLivenessCheckPorts.isEmpty()) {
             log.debug("Liveness check ports of {} is empty. Not waiting.", waitStrategyTarget.getContainerInfo().getName());
-            return;
+            return null;
         }
 
         @SuppressWarnings("unchecked")
@@ -38,17 +65,15 @@ public class HostPortWaitStrategy extends AbstractWaitStrategy {
 
         Callable<Boolean> externalCheck = new ExternalPortListeningCheck(waitStrategyTarget, externalLivenessCheckPorts);
 
-        try {
-            Unreliables.retryUntilTrue((int) startupTimeout.getSeconds(), TimeUnit.SECONDS,
-                () -> getRateLimiter().getWhenReady(() -> internalCheck.call() && externalCheck.call()));
+        return () -> internalCheck.call() && externalCheck.call();
+    }
 
-        } catch (TimeoutException e) {
-            throw new ContainerLaunchException("Timed out waiting for container port to open (" +
-                    waitStrategyTarget.getContainerIpAddress() +
-                    " ports: " +
-                    externalLivenessCheckPorts +
-                    " should be listening)");
-        }
+    private ContainerLaunchException timeoutFailure() {
+        return new ContainerLaunchException("Timed out waiting for container port to open (" +
+                waitStrategyTarget.getContainerIpAddress() +
+                " ports: " +
+                getLivenessCheckPorts() +
+                " should be listening)");
     }
 
     private Set<Integer> getInternalPorts(Set<Integer> externalLivenessCheckPorts, List<Integer> exposedPorts) {
@@ -15,13 +15,14 @@ import java.net.URI;
 import java.net.URL;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
-import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
-
 @Slf4j
-public class HttpWaitStrategy extends AbstractWaitStrategy {
+public class HttpWaitStrategy extends AbstractWaitStrategy implements AsyncWaitStrategy {
 
     /**
      * Authorization HTTP header.
@@ -120,6 +121,34 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
 
     @Override
     protected void waitUntilReady() {
+        final String uri = buildLivenessCheckUri();
+        if (uri == null) {
+            return;
+        }
+
+        // try to connect to the URL
+        try {
+            getPollingScheduler().retryUntilSuccess(startupTimeout, livenessCheck(uri));
+        } catch (TimeoutException e) {
+            throw timeoutFailure(uri);
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget) {
+        return waitUntilReadyAsync(waitStrategyTarget, HttpWaitStrategy.class, () -> {
+            final String uri = buildLivenessCheckUri();
+            if (uri == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return failOnTimeout(getPollingScheduler().retryUntilSuccessAsync(startupTimeout, livenessCheck(uri)), () -> timeoutFailure(uri));
+        });
+    }
+
+    /**
+     * @return the URL to wait for, or null if there is no port to wait on
+     */
+    private String buildLivenessCheckUri() {
         final String containerName = waitStrategyTarget.getContainerInfo().getName();
 
         final Integer livenessCheckPort = livenessPort.map(waitStrategyTarget::getMappedPort).orElseGet(() -> {
@@ -132,72 +161,77 @@ public class HttpWaitStrategy extends AbstractWaitStrategy {
         });
 
         if (null == livenessCheckPort || -1 == livenessCheckPort) {
-            return;
+            return null;
         }
         final String uri = buildLivenessUri(livenessCheckPort).toString();
         log.info("{}: Waiting for {} seconds for URL: {}", containerName, startupTimeout.getSeconds(), uri);
+        return uri;
+    }
 
-        // try to connect to the URL
-        try {
-            retryUntilSuccess((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, () -> {
-                getRateLimiter().doWhenReady(() -> {
-                    try {
-                        final HttpURLConnection connection = (HttpURLConnection) new URL(uri).openConnection();
-
-                        // authenticate
-                        if (!Strings.isNullOrEmpty(username)) {
-                            connection.setRequestProperty(HEADER_AUTHORIZATION, buildAuthString(username, password));
-                            connection.setUseCaches(false);
-                        }
-
-                        connection.setRequestMethod("GET");
-                        connection.connect();
-
-                        log.trace("Get response code {}", connection.getResponseCode());
-
-                        // Choose the statusCodePredicate strategy depending on what we defined.
-                        Predicate<Integer> predicate;
-                        if (statusCodes.isEmpty() && statusCodePredicate == null) {
-                            // We have no status code and no predicate so we expect a 200 OK response code
-                            predicate = responseCode -> HttpURLConnection.HTTP_OK == responseCode;
-                        } else if (!statusCodes.isEmpty() && statusCodePredicate == null) {
-                            // We use the default status predicate checker when we only have status codes
-                            predicate = responseCode -> statusCodes.contains(responseCode);
-                        } else if (statusCodes.isEmpty()) {
-                            // We only have a predicate
-                            predicate = statusCodePredicate;
-                        } else {
-                            // We have both predicate and status code
-                            predicate = statusCodePredicate.or(responseCode -> statusCodes.contains(responseCode));
-                        }
-                        if (!predicate.test(connection.getResponseCode())) {
-                            throw new RuntimeException(String.format("HTTP response code was: %s",
-                                connection.getResponseCode()));
-                        }
-
-                        if(responsePredicate != null) {
-                            String responseBody = getResponseBody(connection);
-
-                            log.trace("Get response {}", responseBody);
-
-                            if(!responsePredicate.test(responseBody)) {
-                                throw new RuntimeException(String.format("Response: %s did not match predicate",
-                                    responseBody));
-                            }
-                        }
-
-                    } catch (IOException e) {
-                        throw new RuntimeException(e);
+    private Callable<Boolean> livenessCheck(String uri) {
+        final long deadline = System.nanoTime() + startupTimeout.toNanos();
+        return () -> {
+            try {
+                final HttpURLConnection connection = (HttpURLConnection) new URL(uri).openConnection();
+
+                // a request can't outlive the wait (0 would mean no timeout at all)
+                final int timeoutMillis = (int) Math.max(1, Math.min(Integer.MAX_VALUE, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+                connection.setConnectTimeout(timeoutMillis);
+                connection.setReadTimeout(timeoutMillis);
+
+                // authenticate
+                if (!Strings.isNullOrEmpty(username)) {
+                    connection.setRequestProperty(HEADER_AUTHORIZATION, buildAuthString(username, password));
+                    connection.setUseCaches(false);
+                }
+
+                connection.setRequestMethod("GET");
+                connection.connect();
+
+                log.trace("Get response code {}", connection.getResponseCode());
+
+                // Choose the statusCodePredicate strategy depending on what we defined.
+                Predicate<Integer> predicate;
+                if (statusCodes.isEmpty() && statusCodePredicate == null) {
+                    // We have no status code and no predicate so we expect a 200 OK response code
+                    predicate = responseCode -> HttpURLConnection.HTTP_OK == responseCode;
+                } else if (!statusCodes.isEmpty() && statusCodePredicate == null) {
+                    // We use the default status predicate checker when we only have status codes
+                    predicate = responseCode -> statusCodes.contains(responseCode);
+                } else if (statusCodes.isEmpty()) {
+                    // We only have a predicate
+                    predicate = statusCodePredicate;
+                } else {
+                    // We have both predicate and status code
+                    predicate = statusCodePredicate.or(responseCode -> statusCodes.contains(responseCode));
+                }
+                if (!predicate.test(connection.getResponseCode())) {
+                    throw new RuntimeException(String.format("HTTP response code was: %s",
+                        connection.getResponseCode()));
+                }
+
+                if(responsePredicate != null) {
+                    String responseBody = getResponseBody(connection);
+
+                    log.trace("Get response {}", responseBody);
+
+                    if(!responsePredicate.test(responseBody)) {
+                        throw new RuntimeException(String.format("Response: %s did not match predicate",
+                            responseBody));
                     }
-                });
-                return true;
-            });
+                }
 
-        } catch (TimeoutException e) {
-            throw new ContainerLaunchException(String.format(
-                "Timed out waiting for URL to be accessible (%s should return HTTP %s)", uri, statusCodes.isEmpty() ?
-                    HttpURLConnection.HTTP_OK : statusCodes));
-        }
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return true;
+        };
+    }
+
+    private ContainerLaunchException timeoutFailure(String uri) {
+        return new ContainerLaunchException(String.format(
+            "Timed out waiting for URL to be accessible (%s should return HTTP %s)", uri, statusCodes.isEmpty() ?
+                HttpURLConnection.HTTP_OK : statusCodes));
     }
 
     /**
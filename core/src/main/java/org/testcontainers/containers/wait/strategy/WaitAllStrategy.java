@@ -3,11 +3,17 @@ package org.testcontainers.containers.wait.strategy;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.rnorth.ducttape.TimeoutException;
 import org.rnorth.ducttape.timeouts.Timeouts;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.Overrides;
 
-public class WaitAllStrategy implements WaitStrategy {
+public class WaitAllStrategy implements AsyncWaitStrategy {
 
     public enum Mode {
 
@@ -56,6 +62,44 @@ public class WaitAllStrategy implements WaitStrategy {
         }
     }
 
+    /**
+     * Waits without blocking a thread if all the nested strategies are {@link AsyncWaitStrategy asynchronous}, otherwise
+     * waits on {@link AsyncExecutors#getBlockingExecutor()}.
+     */
+    @Override
+    public CompletionStage<Void> waitUntilReadyAsync(WaitStrategyTarget waitStrategyTarget) {
+        boolean async = !Overrides.isOverridden(getClass(), WaitAllStrategy.class, "waitUntilReady", WaitStrategyTarget.class) &&
+            strategies.stream().allMatch(AsyncWaitStrategy.class::isInstance);
+        if (!async) {
+            return CompletableFuture.runAsync(() -> waitUntilReady(waitStrategyTarget), AsyncExecutors.getBlockingExecutor());
+        }
+
+        // The strategies still wait one after the other, like the blocking variant
+        CompletableFuture<Void> nested = CompletableFuture.completedFuture(null);
+        for (WaitStrategy strategy : strategies) {
+            nested = nested.thenCompose(__ -> ((AsyncWaitStrategy) strategy).waitUntilReadyAsync(waitStrategyTarget));
+        }
+        if (mode == Mode.WITH_INDIVIDUAL_TIMEOUTS_ONLY) {
+            return nested;
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        ScheduledFuture<?> timer = AsyncExecutors.getScheduler().schedule(
+            () -> result.completeExceptionally(new TimeoutException("Timed out waiting for all strategies after " + timeout, null)),
+            timeout.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+        nested.whenComplete((__, e) -> {
+            timer.cancel(false);
+            if (e == null) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(AsyncExecutors.unwrap(e));
+            }
+        });
+        return result;
+    }
+
     private void waitUntilNestedStrategiesAreReady(WaitStrategyTarget waitStrategyTarget) {
         for (WaitStrategy strategy : strategies) {
             strategy.waitUntilReady(waitStrategyTarget);
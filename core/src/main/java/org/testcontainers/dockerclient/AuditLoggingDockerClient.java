@@ -5,6 +5,7 @@ import com.github.dockerjava.api.command.*;
 import lombok.experimental.Delegate;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.testcontainers.utility.AuditLogger;
 
 import java.lang.reflect.Proxy;
 import java.util.function.BiConsumer;
@@ -14,6 +15,9 @@ import static org.testcontainers.utility.AuditLogger.doLog;
 /**
  * Wrapper for {@link DockerClient} to facilitate 'audit logging' of potentially destruction actions using
  * {@link org.testcontainers.utility.AuditLogger}.
+ * <p>
+ * Commands are only wrapped while {@link AuditLogger#isEnabled() audit logging is enabled}, otherwise the commands of
+ * the wrapped client are returned as they are, without a proxy.
  */
 @Slf4j
 @SuppressWarnings("unchecked")
@@ -88,6 +92,10 @@ public class AuditLoggingDockerClient implements DockerClient {
                                                              BiConsumer<T, R> successConsumer,
                                                              BiConsumer<T, Exception> failureConsumer) {
 
+        if (!AuditLogger.isEnabled()) {
+            return cmd;
+        }
+
         return (T) Proxy.newProxyInstance(
                 clazz.getClassLoader(),
                 new Class<?>[]{clazz},
@@ -0,0 +1,195 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import com.github.dockerjava.api.model.Container;
+import com.github.dockerjava.api.model.Event;
+import com.google.common.collect.ImmutableMap;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.AsyncExecutors;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Caches the results of {@code inspectContainerCmd} for a short time.
+ * <p>
+ * Concurrent inspects of the same container share one request. Entries are invalidated by the container
+ * events of the {@link DockerEventBus} and by our own lifecycle calls (see {@link #invalidate(String)}),
+ * and expire after a TTL in case an event is missed.
+ */
+@Slf4j
+public class ContainerStateCache implements DockerEventBus.Listener {
+
+    private final DockerClient client;
+
+    private final long ttlNanos;
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ContainerStateCache(DockerClient client, Duration ttl) {
+        this.client = client;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @return the cached state of the container, or the result of a new inspect (possibly shared with other threads)
+     * @throws com.github.dockerjava.api.exception.DockerException if the inspect fails
+     */
+    public InspectContainerResponse inspect(String containerId) {
+        Entry entry = entries.computeIfAbsent(containerId, __ -> new Entry());
+
+        CompletableFuture<InspectContainerResponse> future;
+        long generation;
+        synchronized (entry) {
+            if (entry.value != null && entry.valueGeneration == entry.generation && System.nanoTime() - entry.fetchedAt < ttlNanos) {
+                return entry.value;
+            }
+
+            // An inspect started before an invalidation may return the old state, so it is only joined within the same generation
+            if (entry.inFlight != null && entry.inFlightGeneration == entry.generation) {
+                future = entry.inFlight;
+                generation = -1;
+            } else {
+                future = entry.inFlight = new CompletableFuture<>();
+                generation = entry.inFlightGeneration = entry.generation;
+            }
+        }
+
+        if (generation >= 0) {
+            long startedAt = System.nanoTime();
+            try {
+                InspectContainerResponse response = client.inspectContainerCmd(containerId).exec();
+                synchronized (entry) {
+                    if (entry.inFlight == future) {
+                        entry.inFlight = null;
+                    }
+                    entry.value = response;
+                    entry.valueGeneration = generation;
+                    entry.fetchedAt = startedAt;
+                }
+                future.complete(response);
+            } catch (RuntimeException e) {
+                synchronized (entry) {
+                    if (entry.inFlight == future) {
+                        entry.inFlight = null;
+                    }
+                }
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Forgets the state of the container, to be called after changing it.
+     */
+    public void invalidate(String containerId) {
+        Entry entry = entries.get(containerId);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.generation++;
+            }
+        }
+    }
+
+    /**
+     * Forgets the container, to be called once it is removed.
+     */
+    public void remove(String containerId) {
+        invalidate(containerId);
+        entries.remove(containerId);
+    }
+
+    /**
+     * Re-validates every cached container of this session with a single {@code /containers/json} call:
+     * entries of containers whose status didn't change are renewed, the others are invalidated.
+     */
+    public void refreshAll() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Container> containers = client.listContainersCmd()
+            .withShowAll(true)
+            .withLabelFilter(ImmutableMap.of(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, DockerClientFactory.SESSION_ID))
+            .exec();
+        Map<String, Container> containersById = containers.stream()
+            .collect(Collectors.toMap(Container::getId, Function.identity(), (a, b) -> a));
+
+        entries.forEach((containerId, entry) -> {
+            Container container = containersById.get(containerId);
+            synchronized (entry) {
+                InspectContainerResponse value = entry.value;
+                if (
+                    container != null && value != null && entry.valueGeneration == entry.generation &&
+                        container.getState() != null && container.getState().equalsIgnoreCase(value.getState().getStatus()) &&
+                        value.getState().getHealth() == null
+                ) {
+                    entry.fetchedAt = startedAt;
+                } else {
+                    entry.generation++;
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if ("destroy".equals(event.getAction()) || "destroy".equals(event.getStatus())) {
+            remove(event.getId());
+        } else {
+            invalidate(event.getId());
+        }
+    }
+
+    @Override
+    public void onConnected() {
+        // Events sent while disconnected are lost. Refreshed off the events thread, which may be a transport thread
+        // needed to serve the refresh itself
+        AsyncExecutors.getBlockingExecutor().execute(() -> {
+            try {
+                refreshAll();
+            } catch (RuntimeException e) {
+                log.debug("Failed to refresh the container states, invalidating them", e);
+                entries.keySet().forEach(this::invalidate);
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        /**
+         * Incremented by every invalidation, all fields are guarded by the entry
+         */
+        long generation;
+
+        InspectContainerResponse value;
+
+        long valueGeneration;
+
+        long fetchedAt;
+
+        CompletableFuture<InspectContainerResponse> inFlight;
+
+        long inFlightGeneration;
+    }
+}
@@ -13,6 +13,7 @@ import org.rnorth.ducttape.unreliables.Unreliables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.dockerclient.auth.AuthDelegatingDockerClientConfig;
+import org.testcontainers.dockerclient.transport.nio.NioDockerCmdExecFactory;
 import org.testcontainers.dockerclient.transport.okhttp.OkHttpDockerCmdExecFactory;
 import org.testcontainers.utility.TestcontainersConfiguration;
 
@@ -169,11 +170,22 @@ public abstract class DockerClientProviderStrategy {
             .getInstance(new AuthDelegatingDockerClientConfig(config));
 
         String transportType = TestcontainersConfiguration.getInstance().getTransportType();
-        if ("okhttp".equals(transportType)) {
-            clientBuilder
-                .withDockerCmdExecFactory(new OkHttpDockerCmdExecFactory());
-        } else {
-            throw new IllegalArgumentException("Unknown transport type: " + transportType);
+        if ("nio".equals(transportType) && !("unix".equals(config.getDockerHost().getScheme()) && NioDockerCmdExecFactory.isSupported())) {
+            LOGGER.warn("'nio' transport requires a unix socket and JDK 16+, falling back to 'okhttp'");
+            transportType = "okhttp";
+        }
+
+        switch (transportType) {
+            case "okhttp":
+                clientBuilder
+                    .withDockerCmdExecFactory(new OkHttpDockerCmdExecFactory());
+                break;
+            case "nio":
+                clientBuilder
+                    .withDockerCmdExecFactory(new NioDockerCmdExecFactory());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown transport type: " + transportType);
         }
 
         LOGGER.info("Will use '{}' transport", transportType);
@@ -0,0 +1,407 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.Event;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.rnorth.ducttape.TimeoutException;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.PollingScheduler;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single subscription to the daemon's {@code /events}, restricted to the containers of this session,
+ * which wakes up the threads waiting for a container to change state.
+ * <p>
+ * Waiting threads re-evaluate their condition when a {@code start}, {@code die}, {@code health_status} or {@code destroy}
+ * event is received for their container, and poll on a {@link PollingScheduler} schedule while the subscription is down.
+ */
+@Slf4j
+public class DockerEventBus implements Closeable {
+
+    /**
+     * Timeout to wait for as long as it takes
+     */
+    public static final Duration NO_TIMEOUT = Duration.ofNanos(Long.MAX_VALUE);
+
+    static final Set<String> ACTIONS = ImmutableSet.of("start", "die", "health_status", "destroy");
+
+    private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+    private final DockerClient client;
+
+    private final PollingScheduler pollingScheduler = PollingScheduler.getDefault();
+
+    private final ConcurrentMap<String, Waiters> waiters = new ConcurrentHashMap<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Thread subscriptionThread;
+
+    private volatile boolean connected;
+
+    private volatile boolean closed;
+
+    private volatile Closeable subscription;
+
+    public DockerEventBus(DockerClient client) {
+        this.client = client;
+
+        subscriptionThread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, this::subscribe, "testcontainers-events");
+        subscriptionThread.setDaemon(true);
+        subscriptionThread.start();
+    }
+
+    /**
+     * Registers a listener, notified before the waiting threads are woken up.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return whether events are currently received
+     */
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * Waits until {@code condition} returns true. The condition is evaluated immediately, then whenever an event is received
+     * for the container, or at least every {@code recheckInterval} (more often, with backoff, while events are not received).
+     * Exceptions thrown by the condition are logged and the condition is evaluated again.
+     *
+     * @param containerId     the container the condition depends on
+     * @param timeout         how long to wait, or {@link #NO_TIMEOUT}
+     * @param recheckInterval maximum interval between two evaluations while events are received, for conditions which
+     *                        also depend on time or on state changes not reported by events
+     * @param condition       the condition to wait for
+     * @throws TimeoutException if the condition is still false after {@code timeout}
+     */
+    public void waitUntil(String containerId, Duration timeout, Duration recheckInterval, Callable<Boolean> condition) {
+        // Overflows for NO_TIMEOUT, which is fine as only differences are compared
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Waiters containerWaiters = waiters.compute(containerId, (__, it) -> (it != null ? it : new Waiters()).retain());
+        PollingScheduler.Schedule pollingSchedule = pollingScheduler.newSchedule();
+        try {
+            Exception lastException = null;
+            while (true) {
+                long generation = containerWaiters.getGeneration();
+                try {
+                    if (Boolean.TRUE.equals(pollingScheduler.probe(condition))) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.trace("Condition for container {} failed, retrying", containerId, e);
+                    lastException = e;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("Timed out waiting for container " + containerId, lastException);
+                }
+
+                long interval = connected ? recheckInterval.toNanos() : Math.min(recheckInterval.toNanos(), pollingSchedule.nextIntervalNanos());
+                containerWaiters.awaitChange(generation, Math.min(remaining, interval));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(e);
+        } finally {
+            waiters.computeIfPresent(containerId, (__, it) -> it.release());
+        }
+    }
+
+    /**
+     * Like {@link #waitUntil(String, Duration, Duration, Callable)}, without blocking a thread: the condition is evaluated
+     * on {@link AsyncExecutors#getProbeExecutor()}, and the wait fails at the deadline even if the condition hangs.
+     *
+     * @return a future failed with a {@link TimeoutException} if the condition is still false after {@code timeout}
+     */
+    public CompletableFuture<Void> waitUntilAsync(String containerId, Duration timeout, Duration recheckInterval, Callable<Boolean> condition) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        Waiters containerWaiters = waiters.compute(containerId, (__, it) -> (it != null ? it : new Waiters()).retain());
+        result.whenComplete((__, e) -> waiters.computeIfPresent(containerId, (___, it) -> it.release()));
+
+        // Overflows for NO_TIMEOUT, which is fine as only differences are compared
+        long deadline = System.nanoTime() + timeout.toNanos();
+        evaluateAsync(containerId, containerWaiters, deadline, recheckInterval, pollingScheduler.newSchedule(), condition, result);
+        return result;
+    }
+
+    private void evaluateAsync(
+        String containerId,
+        Waiters containerWaiters,
+        long deadline,
+        Duration recheckInterval,
+        PollingScheduler.Schedule pollingSchedule,
+        Callable<Boolean> condition,
+        CompletableFuture<Void> result
+    ) {
+        if (result.isDone()) {
+            return;
+        }
+
+        long generation = containerWaiters.getGeneration();
+        pollingScheduler.probeAsync(condition, deadline).whenComplete((satisfied, failure) -> {
+            if (failure != null) {
+                log.trace("Condition for container {} failed, retrying", containerId, failure);
+            } else if (Boolean.TRUE.equals(satisfied)) {
+                result.complete(null);
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                result.completeExceptionally(new TimeoutException("Timed out waiting for container " + containerId, failure instanceof Exception ? (Exception) failure : null));
+                return;
+            }
+
+            // Evaluated again on the next event for the container, or after the interval, whichever comes first
+            AtomicBoolean evaluated = new AtomicBoolean();
+            Runnable evaluateAgain = () -> {
+                if (evaluated.compareAndSet(false, true)) {
+                    evaluateAsync(containerId, containerWaiters, deadline, recheckInterval, pollingSchedule, condition, result);
+                }
+            };
+            long interval = connected ? recheckInterval.toNanos() : Math.min(recheckInterval.toNanos(), pollingSchedule.nextIntervalNanos());
+            AtomicReference<ScheduledFuture<?>> timer = new AtomicReference<>();
+            Runnable onChange = () -> {
+                timer.get().cancel(false);
+                evaluateAgain.run();
+            };
+            timer.set(AsyncExecutors.getScheduler().schedule(() -> {
+                containerWaiters.removeCallback(onChange);
+                evaluateAgain.run();
+            }, Math.min(remaining, interval), TimeUnit.NANOSECONDS));
+            containerWaiters.onChange(generation, onChange);
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        subscriptionThread.interrupt();
+        Closeable currentSubscription = subscription;
+        if (currentSubscription != null) {
+            try {
+                currentSubscription.close();
+            } catch (Exception e) {
+                log.debug("Failed to close the events subscription", e);
+            }
+        }
+    }
+
+    void dispatch(Event event) {
+        String action = event.getAction() != null ? event.getAction() : event.getStatus();
+        if (action == null || event.getId() == null) {
+            return;
+        }
+
+        // e.g. "health_status: healthy"
+        int separator = action.indexOf(':');
+        if (!ACTIONS.contains(separator < 0 ? action : action.substring(0, separator))) {
+            return;
+        }
+
+        for (Listener listener : listeners) {
+            try {
+                listener.onEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("Docker events listener {} failed", listener, e);
+            }
+        }
+
+        Waiters containerWaiters = waiters.get(event.getId());
+        if (containerWaiters != null) {
+            containerWaiters.signal();
+        }
+    }
+
+    private void subscribe() {
+        long reconnectDelayMillis = 100;
+        while (!closed) {
+            EventsCallback callback = new EventsCallback();
+            try {
+                client.eventsCmd()
+                    .withLabelFilter(ImmutableMap.of(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, DockerClientFactory.SESSION_ID))
+                    .withEventFilter(ACTIONS.toArray(new String[0]))
+                    .exec(callback)
+                    .awaitCompletion();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.debug("Docker events subscription failed", e);
+            } finally {
+                onDisconnected();
+            }
+
+            if (closed) {
+                break;
+            }
+
+            if (callback.received) {
+                reconnectDelayMillis = 100;
+            }
+            log.debug("Docker events subscription dropped, polling until it is re-established in {}ms", reconnectDelayMillis);
+            try {
+                Thread.sleep(reconnectDelayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            reconnectDelayMillis = Math.min(reconnectDelayMillis * 2, MAX_RECONNECT_DELAY.toMillis());
+        }
+    }
+
+    private void onDisconnected() {
+        subscription = null;
+        if (connected) {
+            connected = false;
+            // Waiters switch to polling
+            waiters.values().forEach(Waiters::signal);
+        }
+    }
+
+    private class EventsCallback extends ResultCallbackTemplate<EventsCallback, Event> {
+
+        volatile boolean received;
+
+        @Override
+        public void onStart(Closeable stream) {
+            super.onStart(stream);
+            subscription = this;
+            if (closed) {
+                IOUtils.closeQuietly(this);
+                return;
+            }
+            connected = true;
+            for (Listener listener : listeners) {
+                try {
+                    listener.onConnected();
+                } catch (RuntimeException e) {
+                    log.warn("Docker events listener {} failed", listener, e);
+                }
+            }
+            // Events sent while disconnected are lost, so every waiter re-checks its condition
+            waiters.values().forEach(Waiters::signal);
+        }
+
+        @Override
+        public void onNext(Event event) {
+            received = true;
+            dispatch(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // Expected when the daemon goes away, waiters fall back to polling
+            log.debug("Docker events stream failed", throwable);
+            IOUtils.closeQuietly(this);
+        }
+    }
+
+    /**
+     * Receives the container events of this session. Called on the thread consuming the events, so it must not block for long.
+     */
+    public interface Listener {
+
+        /**
+         * Called for {@code start}, {@code die}, {@code health_status} and {@code destroy} events.
+         */
+        void onEvent(Event event);
+
+        /**
+         * Called when the subscription is (re-)established, events may have been missed before.
+         */
+        default void onConnected() {
+        }
+    }
+
+    /**
+     * Threads and asynchronous waits waiting for the same container
+     */
+    private static final class Waiters {
+
+        /**
+         * Guarded by the map's compute methods
+         */
+        private int count;
+
+        private long generation;
+
+        private final List<Runnable> callbacks = new ArrayList<>();
+
+        Waiters retain() {
+            count++;
+            return this;
+        }
+
+        Waiters release() {
+            return --count > 0 ? this : null;
+        }
+
+        synchronized long getGeneration() {
+            return generation;
+        }
+
+        void signal() {
+            List<Runnable> toRun;
+            synchronized (this) {
+                generation++;
+                notifyAll();
+                toRun = new ArrayList<>(callbacks);
+                callbacks.clear();
+            }
+            // Outside of the lock, the callbacks only schedule work
+            toRun.forEach(Runnable::run);
+        }
+
+        /**
+         * Runs {@code callback} once, on the next signal, or right away if a signal was received since {@code since}.
+         */
+        void onChange(long since, Runnable callback) {
+            synchronized (this) {
+                if (generation == since) {
+                    callbacks.add(callback);
+                    return;
+                }
+            }
+            callback.run();
+        }
+
+        synchronized void removeCallback(Runnable callback) {
+            callbacks.remove(callback);
+        }
+
+        synchronized void awaitChange(long since, long timeoutNanos) throws InterruptedException {
+            long deadline = System.nanoTime() + timeoutNanos;
+            long remaining = timeoutNanos;
+            while (generation == since && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import lombok.experimental.Delegate;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * {@link DockerClient} obtaining the client of {@link DockerClientFactory} on each call, so that objects holding a client,
+ * e.g. containers which are only declared, don't connect to Docker until they actually use it.
+ */
+public final class LazyDockerClient implements DockerClient {
+
+    public static final LazyDockerClient INSTANCE = new LazyDockerClient();
+
+    private LazyDockerClient() {
+
+    }
+
+    @Delegate(types = DockerClient.class)
+    private DockerClient getDockerClient() {
+        return DockerClientFactory.instance().client();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyDockerClient";
+    }
+}
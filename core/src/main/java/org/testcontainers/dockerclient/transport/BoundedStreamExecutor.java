@@ -0,0 +1,86 @@
+package org.testcontainers.dockerclient.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link StreamExecutor} backed by a pool of at most {@code maxThreads} daemon threads, idle threads are released after a minute.
+ * <p>
+ * Tasks are never queued: streams such as log follows, events or attach may never finish, and some tasks wait for each
+ * other (e.g. the stdin writer of an attach and its output reader), so a queued task might never start. A task submitted
+ * while all the threads are busy is rejected with a {@link RejectedExecutionException} instead, which fails the Docker
+ * call which submitted it.
+ */
+@Slf4j
+public class BoundedStreamExecutor implements StreamExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+
+    private final AtomicLong counter = new AtomicLong(0);
+
+    public BoundedStreamExecutor(int maxThreads) {
+        if (maxThreads <= 0) {
+            throw new IllegalArgumentException("maxThreads must be positive: " + maxThreads);
+        }
+
+        executor = new ThreadPoolExecutor(
+            maxThreads,
+            maxThreads,
+            1,
+            TimeUnit.MINUTES,
+            new SynchronousQueue<>(),
+            this::newThread,
+            (task, pool) -> reject()
+        );
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    @Override
+    public int getThreadCount() {
+        return executor.getPoolSize();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void reject() {
+        if (rejectedCount.getAndIncrement() == 0) {
+            log.warn(
+                "All {} stream threads are busy, new log/exec/attach streams fail until one of them is closed. " +
+                    "Consider increasing 'transport.stream.threads'",
+                executor.getMaximumPoolSize()
+            );
+        }
+
+        throw new RejectedExecutionException(
+            "All " + executor.getMaximumPoolSize() + " stream threads are busy with other log/exec/attach streams. " +
+                "Close the streams which are not needed anymore, or increase 'transport.stream.threads'"
+        );
+    }
+
+    private Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-stream-" + counter.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,33 @@
+package org.testcontainers.dockerclient.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+@Slf4j
+final class DefaultStreamExecutorHolder {
+
+    static final StreamExecutor INSTANCE = create();
+
+    private DefaultStreamExecutorHolder() {
+    }
+
+    private static StreamExecutor create() {
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        String type = configuration.getStreamExecutorType();
+
+        switch (type) {
+            case "virtual":
+                return new VirtualThreadStreamExecutor();
+            case "bounded":
+                return new BoundedStreamExecutor(configuration.getStreamExecutorThreads());
+            case "auto":
+                if (VirtualThreadStreamExecutor.isSupported()) {
+                    log.debug("Virtual threads are supported, will use them to consume Docker streams");
+                    return new VirtualThreadStreamExecutor();
+                }
+                return new BoundedStreamExecutor(configuration.getStreamExecutorThreads());
+            default:
+                throw new IllegalArgumentException("Unknown stream executor type: " + type);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.testcontainers.dockerclient.transport;
+
+import com.github.dockerjava.api.exception.BadRequestException;
+import com.github.dockerjava.api.exception.ConflictException;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.InternalServerErrorException;
+import com.github.dockerjava.api.exception.NotAcceptableException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.exception.NotModifiedException;
+import com.github.dockerjava.api.exception.UnauthorizedException;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Maps unsuccessful responses of the Docker API to the exceptions docker-java users expect.
+ */
+@UtilityClass
+public class DockerExceptions {
+
+    /**
+     * @param statusCode HTTP status of the response
+     * @param body       body of the response, usually a JSON document with a {@code message}
+     * @return the exception matching the status code
+     */
+    public DockerException fromResponse(int statusCode, String body) {
+        switch (statusCode) {
+            case 304:
+                return new NotModifiedException(body);
+            case 400:
+                return new BadRequestException(body);
+            case 401:
+                return new UnauthorizedException(body);
+            case 404:
+                return new NotFoundException(body);
+            case 406:
+                return new NotAcceptableException(body);
+            case 409:
+                return new ConflictException(body);
+            case 500:
+                return new InternalServerErrorException(body);
+            default:
+                return new DockerException(body, statusCode);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.testcontainers.dockerclient.transport;
+
+import com.github.dockerjava.api.model.StreamType;
+
+/**
+ * Allocation-free alternative to {@link com.github.dockerjava.api.async.ResultCallback#onNext(Object)}
+ * for attach/logs/exec streams.
+ * <p>
+ * When a {@code ResultCallback<Frame>} also implements this interface, the transport hands it a view of every
+ * demultiplexed frame instead of allocating a new {@link com.github.dockerjava.api.model.Frame} (and payload array) for it.
+ */
+public interface FramePayloadConsumer {
+
+    /**
+     * Called for every frame of the stream.
+     * <p>
+     * The buffer is reused for the next frame: implementations must copy the bytes they want to retain
+     * before returning.
+     *
+     * @param streamType type of the stream the frame belongs to ({@link StreamType#RAW} for TTY streams)
+     * @param buffer     the buffer holding the payload
+     * @param offset     index of the first byte of the payload in {@code buffer}
+     * @param length     number of bytes of the payload
+     */
+    void onFrame(StreamType streamType, byte[] buffer, int offset, int length);
+}
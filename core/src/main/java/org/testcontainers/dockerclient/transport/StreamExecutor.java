@@ -0,0 +1,48 @@
+package org.testcontainers.dockerclient.transport;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executes the long-running tasks of a Docker transport, such as consuming streamed responses
+ * (logs, exec, attach, pull, build, events) and writing attached stdin.
+ * <p>
+ * The executor only owns the threads: a stream is cancelled by closing the {@link com.github.dockerjava.api.async.ResultCallback}
+ * it is attached to, which closes the underlying response and releases the thread.
+ * <p>
+ * Implementations must start every task without waiting for other tasks to finish, or reject it with a
+ * {@link java.util.concurrent.RejectedExecutionException}: some streams never end (log follows, events), and some tasks
+ * wait for each other (the stdin writer of an attach and its output reader).
+ *
+ * @see #getDefault()
+ */
+public interface StreamExecutor extends Executor {
+
+    /**
+     * @return number of threads currently owned by this executor
+     */
+    int getThreadCount();
+
+    /**
+     * @return number of tasks currently being executed
+     */
+    int getActiveCount();
+
+    /**
+     * @return number of tasks rejected so far because all the threads were busy, always 0 for executors without a limit
+     */
+    long getRejectedCount();
+
+    /**
+     * Returns the JVM-wide executor shared by all Docker clients unless one is set explicitly.
+     * <p>
+     * The implementation is chosen with the {@code transport.stream.executor} property:
+     * {@code virtual} uses a virtual thread per stream (requires JDK 21+), {@code bounded} a pool of
+     * at most {@code transport.stream.threads} platform threads, and {@code auto} (the default)
+     * picks virtual threads when the running JVM supports them.
+     *
+     * @return the shared executor
+     */
+    static StreamExecutor getDefault() {
+        return DefaultStreamExecutorHolder.INSTANCE;
+    }
+}
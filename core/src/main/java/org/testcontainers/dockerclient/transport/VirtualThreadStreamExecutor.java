@@ -0,0 +1,78 @@
+package org.testcontainers.dockerclient.transport;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link StreamExecutor} that runs every task on its own virtual thread.
+ * <p>
+ * Virtual threads are looked up reflectively so that this class can be compiled for and loaded on older JVMs,
+ * use {@link #isSupported()} before creating an instance.
+ */
+public class VirtualThreadStreamExecutor implements StreamExecutor {
+
+    @Nullable
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+
+    /**
+     * @return whether the running JVM supports virtual threads
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    public VirtualThreadStreamExecutor() {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads are not supported by this JVM (" + System.getProperty("java.version") + ")");
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Thread thread = VIRTUAL_THREAD_FACTORY.newThread(() -> {
+            activeCount.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeCount.decrementAndGet();
+            }
+        });
+        thread.start();
+    }
+
+    @Override
+    public int getThreadCount() {
+        return activeCount.get();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return activeCount.get();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        // There is no limit on virtual threads
+        return 0;
+    }
+
+    @Nullable
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().name("testcontainers-stream-", 0).factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "testcontainers-stream-", 0L);
+            Method factoryMethod = builderClass.getMethod("factory");
+            return (ThreadFactory) factoryMethod.invoke(builder);
+        } catch (Exception e) {
+            // Not available (JDK < 21, or preview features are disabled)
+            return null;
+        }
+    }
+}
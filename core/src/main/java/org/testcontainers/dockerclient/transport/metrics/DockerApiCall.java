@@ -0,0 +1,33 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+import lombok.Value;
+
+/**
+ * A finished Docker API call.
+ */
+@Value
+public class DockerApiCall {
+
+    DockerApiEndpoint endpoint;
+
+    /**
+     * Time from sending the request to the end of the response (or the failure).
+     * For streamed responses (logs, events, pull...), this includes the whole stream.
+     */
+    long durationNanos;
+
+    /**
+     * Bytes of the request body
+     */
+    long bytesSent;
+
+    /**
+     * Bytes of the response body
+     */
+    long bytesReceived;
+
+    /**
+     * Whether the call failed with an I/O error or an unsuccessful status
+     */
+    boolean failed;
+}
@@ -0,0 +1,22 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+import lombok.Value;
+
+/**
+ * A Docker API endpoint, identified by its method and path template, e.g. {@code GET /containers/{id}/json}.
+ */
+@Value
+public class DockerApiEndpoint {
+
+    String method;
+
+    /**
+     * Path with placeholders instead of IDs and names, e.g. {@code /containers/{id}/json}
+     */
+    String pathTemplate;
+
+    @Override
+    public String toString() {
+        return method + " " + pathTemplate;
+    }
+}
@@ -0,0 +1,110 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the metrics of a {@link DockerApiEndpoint}.
+ */
+@Value
+public class DockerApiEndpointMetrics {
+
+    /**
+     * Upper bounds (inclusive) of the latency histogram buckets, the last bucket has no upper bound
+     */
+    static final long[] BUCKET_BOUNDS_NANOS = {
+        TimeUnit.MICROSECONDS.toNanos(100),
+        TimeUnit.MICROSECONDS.toNanos(250),
+        TimeUnit.MICROSECONDS.toNanos(500),
+        TimeUnit.MILLISECONDS.toNanos(1),
+        TimeUnit.MICROSECONDS.toNanos(2500),
+        TimeUnit.MILLISECONDS.toNanos(5),
+        TimeUnit.MILLISECONDS.toNanos(10),
+        TimeUnit.MILLISECONDS.toNanos(25),
+        TimeUnit.MILLISECONDS.toNanos(50),
+        TimeUnit.MILLISECONDS.toNanos(100),
+        TimeUnit.MILLISECONDS.toNanos(250),
+        TimeUnit.MILLISECONDS.toNanos(500),
+        TimeUnit.SECONDS.toNanos(1),
+        TimeUnit.MILLISECONDS.toNanos(2500),
+        TimeUnit.SECONDS.toNanos(5),
+        TimeUnit.SECONDS.toNanos(10),
+        TimeUnit.SECONDS.toNanos(30),
+        TimeUnit.SECONDS.toNanos(60),
+    };
+
+    DockerApiEndpoint endpoint;
+
+    long count;
+
+    long failures;
+
+    long inFlight;
+
+    long bytesSent;
+
+    long bytesReceived;
+
+    long totalNanos;
+
+    long maxNanos;
+
+    /**
+     * Number of calls per latency bucket, see {@link #getBucketUpperBound(int)}
+     */
+    long[] histogram;
+
+    /**
+     * @return the upper bound of the given histogram bucket, or null for the last one
+     */
+    public static Duration getBucketUpperBound(int bucket) {
+        return bucket < BUCKET_BOUNDS_NANOS.length ? Duration.ofNanos(BUCKET_BOUNDS_NANOS[bucket]) : null;
+    }
+
+    static int bucketOf(long nanos) {
+        for (int i = 0; i < BUCKET_BOUNDS_NANOS.length; i++) {
+            if (nanos <= BUCKET_BOUNDS_NANOS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_NANOS.length;
+    }
+
+    public Duration getMean() {
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * Estimates a percentile from the histogram: returns the upper bound of the bucket containing it,
+     * capped by the maximum latency.
+     *
+     * @param percentile between 0 and 100
+     */
+    public Duration getPercentile(double percentile) {
+        long total = 0;
+        for (long bucketCount : histogram) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < histogram.length; i++) {
+            seen += histogram[i];
+            if (seen >= rank && histogram[i] > 0) {
+                return i < BUCKET_BOUNDS_NANOS.length
+                    ? Duration.ofNanos(Math.min(BUCKET_BOUNDS_NANOS[i], maxNanos))
+                    : getMax();
+            }
+        }
+        return getMax();
+    }
+}
@@ -0,0 +1,128 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+import com.google.common.collect.ImmutableList;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.jfr.FlightRecorderEvent;
+import org.testcontainers.jfr.FlightRecorderEventType;
+import org.testcontainers.jfr.FlightRecorderEvents;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Entry point of the Docker API metrics: the transports {@link #start(DockerApiEndpoint) start} a {@link Recorder}
+ * for every call, which notifies the {@link #getDefaultRegistry() default registry} and
+ * the {@link DockerApiMetricsRegistry} implementations found with {@link ServiceLoader}.
+ * <p>
+ * Every call is also recorded as a {@link FlightRecorderEventType#DOCKER_API_REQUEST} Java Flight Recorder event.
+ * A summary of the default registry is logged at JVM shutdown.
+ */
+@UtilityClass
+@Slf4j
+public class DockerApiMetrics {
+
+    private static final InMemoryDockerApiMetricsRegistry DEFAULT_REGISTRY = new InMemoryDockerApiMetricsRegistry();
+
+    private static final List<DockerApiMetricsRegistry> REGISTRIES;
+
+    static {
+        ImmutableList.Builder<DockerApiMetricsRegistry> registries = ImmutableList.builder();
+        registries.add(DEFAULT_REGISTRY);
+        for (DockerApiMetricsRegistry registry : ServiceLoader.load(DockerApiMetricsRegistry.class)) {
+            log.debug("Registered Docker API metrics registry {}", registry.getClass().getName());
+            registries.add(registry);
+        }
+        REGISTRIES = registries.build();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, () -> {
+            if (DEFAULT_REGISTRY.getSnapshot().isEmpty()) {
+                return;
+            }
+
+            if (TestcontainersConfiguration.getInstance().isDockerApiMetricsSummaryEnabled()) {
+                log.info("Docker API calls:\n{}", DEFAULT_REGISTRY.formatSummary());
+            } else if (log.isDebugEnabled()) {
+                log.debug("Docker API calls:\n{}", DEFAULT_REGISTRY.formatSummary());
+            }
+        }, "testcontainers-docker-api-metrics"));
+    }
+
+    /**
+     * @return the registry keeping the metrics of this JVM in memory
+     */
+    public static InMemoryDockerApiMetricsRegistry getDefaultRegistry() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Records the start of a call, the returned recorder must be {@link Recorder#finish(boolean) finished}.
+     */
+    public static Recorder start(DockerApiEndpoint endpoint) {
+        for (DockerApiMetricsRegistry registry : REGISTRIES) {
+            try {
+                registry.requestStarted(endpoint);
+            } catch (RuntimeException e) {
+                log.warn("Docker API metrics registry {} failed", registry.getClass().getName(), e);
+            }
+        }
+        FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.DOCKER_API_REQUEST).withDetail(endpoint.toString());
+        return new Recorder(endpoint, System.nanoTime(), event);
+    }
+
+    /**
+     * Accumulates the bytes of a call until it finishes.
+     * Bytes may be added from another thread than the one finishing the call.
+     */
+    public static final class Recorder {
+
+        private final DockerApiEndpoint endpoint;
+
+        private final long startNanos;
+
+        private final FlightRecorderEvent event;
+
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private volatile long bytesSent;
+
+        private volatile long bytesReceived;
+
+        private Recorder(DockerApiEndpoint endpoint, long startNanos, FlightRecorderEvent event) {
+            this.endpoint = endpoint;
+            this.startNanos = startNanos;
+            this.event = event;
+        }
+
+        public void setBytesSent(long bytesSent) {
+            this.bytesSent = bytesSent;
+        }
+
+        public void setBytesReceived(long bytesReceived) {
+            this.bytesReceived = bytesReceived;
+        }
+
+        /**
+         * Records the end of the call. Only the first invocation has an effect.
+         */
+        public void finish(boolean failed) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+
+            event.withBytesSent(bytesSent).withBytesReceived(bytesReceived).withFailed(failed).commit();
+
+            DockerApiCall call = new DockerApiCall(endpoint, System.nanoTime() - startNanos, bytesSent, bytesReceived, failed);
+            for (DockerApiMetricsRegistry registry : REGISTRIES) {
+                try {
+                    registry.requestFinished(call);
+                } catch (RuntimeException e) {
+                    log.warn("Docker API metrics registry {} failed", registry.getClass().getName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+/**
+ * Receives the Docker API calls made by the transports.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader} (e.g. to bridge them to a metrics library)
+ * and notified in addition to the {@link DockerApiMetrics#getDefaultRegistry() default registry}.
+ * Both methods are called on the threads performing the calls and must be cheap and thread-safe.
+ */
+public interface DockerApiMetricsRegistry {
+
+    void requestStarted(DockerApiEndpoint endpoint);
+
+    void requestFinished(DockerApiCall call);
+}
@@ -0,0 +1,124 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps count, failures, in-flight calls, bytes and a latency histogram per {@link DockerApiEndpoint}.
+ */
+public class InMemoryDockerApiMetricsRegistry implements DockerApiMetricsRegistry {
+
+    private final ConcurrentMap<DockerApiEndpoint, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    @Override
+    public void requestStarted(DockerApiEndpoint endpoint) {
+        accumulator(endpoint).inFlight.increment();
+    }
+
+    @Override
+    public void requestFinished(DockerApiCall call) {
+        Accumulator accumulator = accumulator(call.getEndpoint());
+        accumulator.inFlight.decrement();
+        accumulator.count.increment();
+        if (call.isFailed()) {
+            accumulator.failures.increment();
+        }
+        accumulator.bytesSent.add(call.getBytesSent());
+        accumulator.bytesReceived.add(call.getBytesReceived());
+        accumulator.totalNanos.add(call.getDurationNanos());
+        accumulator.maxNanos.accumulateAndGet(call.getDurationNanos(), Math::max);
+        accumulator.histogram[DockerApiEndpointMetrics.bucketOf(call.getDurationNanos())].increment();
+    }
+
+    /**
+     * @return the metrics of every endpoint called so far, the slowest (by total time) first
+     */
+    public List<DockerApiEndpointMetrics> getSnapshot() {
+        List<DockerApiEndpointMetrics> result = new ArrayList<>(accumulators.size());
+        accumulators.forEach((endpoint, accumulator) -> result.add(accumulator.snapshot(endpoint)));
+        result.sort(Comparator.comparingLong(DockerApiEndpointMetrics::getTotalNanos).reversed());
+        return result;
+    }
+
+    public void reset() {
+        accumulators.clear();
+    }
+
+    /**
+     * @return a human-readable table of {@link #getSnapshot()}
+     */
+    public String formatSummary() {
+        StringBuilder summary = new StringBuilder(String.format(
+            "%-45s %8s %8s %10s %10s %10s %10s %12s %12s%n",
+            "Endpoint", "Calls", "Failed", "Mean ms", "p99 ms", "Max ms", "Total ms", "Sent", "Received"
+        ));
+        for (DockerApiEndpointMetrics metrics : getSnapshot()) {
+            summary.append(String.format(
+                "%-45s %8d %8d %10.1f %10.1f %10.1f %10.1f %12d %12d%n",
+                metrics.getEndpoint(),
+                metrics.getCount(),
+                metrics.getFailures(),
+                metrics.getMean().toNanos() / 1e6,
+                metrics.getPercentile(99).toNanos() / 1e6,
+                metrics.getMaxNanos() / 1e6,
+                metrics.getTotalNanos() / 1e6,
+                metrics.getBytesSent(),
+                metrics.getBytesReceived()
+            ));
+        }
+        return summary.toString();
+    }
+
+    private Accumulator accumulator(DockerApiEndpoint endpoint) {
+        Accumulator accumulator = accumulators.get(endpoint);
+        return accumulator != null ? accumulator : accumulators.computeIfAbsent(endpoint, __ -> new Accumulator());
+    }
+
+    private static final class Accumulator {
+
+        final LongAdder count = new LongAdder();
+
+        final LongAdder failures = new LongAdder();
+
+        final LongAdder inFlight = new LongAdder();
+
+        final LongAdder bytesSent = new LongAdder();
+
+        final LongAdder bytesReceived = new LongAdder();
+
+        final LongAdder totalNanos = new LongAdder();
+
+        final AtomicLong maxNanos = new AtomicLong();
+
+        final LongAdder[] histogram = new LongAdder[DockerApiEndpointMetrics.BUCKET_BOUNDS_NANOS.length + 1];
+
+        Accumulator() {
+            for (int i = 0; i < histogram.length; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        DockerApiEndpointMetrics snapshot(DockerApiEndpoint endpoint) {
+            long[] buckets = new long[histogram.length];
+            for (int i = 0; i < histogram.length; i++) {
+                buckets[i] = histogram[i].sum();
+            }
+            return new DockerApiEndpointMetrics(
+                endpoint,
+                count.sum(),
+                failures.sum(),
+                Math.max(0, inFlight.sum()),
+                bytesSent.sum(),
+                bytesReceived.sum(),
+                totalNanos.sum(),
+                maxNanos.get(),
+                buckets
+            );
+        }
+    }
+}
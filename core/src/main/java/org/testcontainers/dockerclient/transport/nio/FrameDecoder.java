@@ -0,0 +1,128 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import org.testcontainers.dockerclient.transport.FramePayloadConsumer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * Splits an attach/logs/exec stream into frames as bytes arrive, reusing a single buffer for all of them.
+ * <p>
+ * Callbacks implementing {@link FramePayloadConsumer} get a view of that buffer,
+ * any other callback gets a copy of every payload wrapped in a {@link Frame}.
+ *
+ * @see <a href="https://docs.docker.com/engine/api/v1.37/#operation/ContainerAttach">Stream format</a>
+ */
+class FrameDecoder extends StreamingResponseHandler<Frame> {
+
+    static final int HEADER_SIZE = 8;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final FramePayloadConsumer payloadConsumer;
+
+    private final byte[] header = new byte[HEADER_SIZE];
+
+    private int headerLength;
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    private StreamType streamType;
+
+    /**
+     * Size of the current payload, or -1 while reading a header
+     */
+    private int payloadSize = -1;
+
+    private int payloadLength;
+
+    private boolean multiplexed;
+
+    private boolean raw;
+
+    FrameDecoder(ResultCallback<Frame> resultCallback, Executor callbackExecutor) {
+        super(resultCallback, callbackExecutor);
+
+        if (resultCallback instanceof FramePayloadConsumer) {
+            payloadConsumer = (FramePayloadConsumer) resultCallback;
+        } else {
+            payloadConsumer = (streamType, buffer, offset, length) -> resultCallback.onNext(new Frame(streamType, Arrays.copyOfRange(buffer, offset, offset + length)));
+        }
+    }
+
+    @Override
+    protected void decode(ByteBuffer body) {
+        while (body.hasRemaining()) {
+            if (raw) {
+                emitRaw(body);
+                return;
+            }
+
+            if (payloadSize < 0) {
+                if (headerLength == 0 && streamType(body.get(body.position())) == StreamType.RAW) {
+                    // Not multiplexed (TTY enabled), the "header" is already part of the output
+                    raw = true;
+                    continue;
+                }
+
+                int length = Math.min(HEADER_SIZE - headerLength, body.remaining());
+                body.get(header, headerLength, length);
+                headerLength += length;
+                if (headerLength < HEADER_SIZE) {
+                    return;
+                }
+
+                multiplexed = true;
+                headerLength = 0;
+                streamType = streamType(header[0]);
+                payloadSize = ByteBuffer.wrap(header, 4, 4).getInt();
+                payloadLength = 0;
+                if (buffer.length < payloadSize) {
+                    buffer = new byte[Math.max(payloadSize, buffer.length * 2)];
+                }
+            }
+
+            int length = Math.min(payloadSize - payloadLength, body.remaining());
+            body.get(buffer, payloadLength, length);
+            payloadLength += length;
+
+            if (payloadLength == payloadSize) {
+                payloadSize = -1;
+                payloadConsumer.onFrame(streamType, buffer, 0, payloadLength);
+            }
+        }
+    }
+
+    @Override
+    protected void endOfStream() {
+        if (!multiplexed && headerLength > 0) {
+            // TTY output shorter than a header
+            payloadConsumer.onFrame(StreamType.RAW, header, 0, headerLength);
+        }
+    }
+
+    private void emitRaw(ByteBuffer body) {
+        while (body.hasRemaining()) {
+            int length = Math.min(buffer.length, body.remaining());
+            body.get(buffer, 0, length);
+            payloadConsumer.onFrame(StreamType.RAW, buffer, 0, length);
+        }
+    }
+
+    private static StreamType streamType(byte streamType) {
+        switch (streamType) {
+            case 0:
+                return StreamType.STDIN;
+            case 1:
+                return StreamType.STDOUT;
+            case 2:
+                return StreamType.STDERR;
+            default:
+                return StreamType.RAW;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Value
+@Builder
+class HttpRequest {
+
+    private static final int CHUNK_SIZE = 32 * 1024;
+
+    String method;
+
+    /**
+     * Encoded path and query
+     */
+    String target;
+
+    /**
+     * Endpoint path before resolving the templates, identifies the request in the metrics
+     */
+    @Nullable
+    String pathTemplate;
+
+    @Singular
+    Map<String, String> headers;
+
+    @Nullable
+    byte[] body;
+
+    /**
+     * Body of unknown length, sent with the chunked encoding
+     */
+    @Nullable
+    InputStream bodyStream;
+
+    /**
+     * @return number of body bytes written
+     */
+    long writeTo(NioConnection connection) throws IOException {
+        StringBuilder head = new StringBuilder(256)
+            .append(method).append(' ').append(target).append(" HTTP/1.1\r\n")
+            .append("Host: localhost\r\n");
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        if (body != null) {
+            head.append("Content-Length: ").append(body.length).append("\r\n");
+        } else if (bodyStream != null) {
+            head.append("Transfer-Encoding: chunked\r\n");
+        } else if ("POST".equals(method) || "PUT".equals(method)) {
+            head.append("Content-Length: 0\r\n");
+        }
+        head.append("\r\n");
+
+        byte[] headBytes = head.toString().getBytes(StandardCharsets.ISO_8859_1);
+        if (bodyStream != null) {
+            connection.write(ByteBuffer.wrap(headBytes));
+            return writeChunked(connection, bodyStream);
+        } else if (body != null) {
+            // A single write for the whole request
+            connection.endRequest();
+            connection.write(
+                (ByteBuffer) ByteBuffer.allocate(headBytes.length + body.length).put(headBytes).put(body).flip()
+            );
+            return body.length;
+        } else {
+            connection.endRequest();
+            connection.write(ByteBuffer.wrap(headBytes));
+            return 0;
+        }
+    }
+
+    private static long writeChunked(NioConnection connection, InputStream bodyStream) throws IOException {
+        long written = 0;
+        try (InputStream inputStream = bodyStream) {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = inputStream.read(chunk)) != -1) {
+                if (read == 0) {
+                    continue;
+                }
+
+                byte[] size = (Integer.toHexString(read) + "\r\n").getBytes(StandardCharsets.ISO_8859_1);
+                // The buffer may be queued, so it can't share the chunk array
+                ByteBuffer buffer = ByteBuffer.allocate(size.length + read + 2)
+                    .put(size)
+                    .put(chunk, 0, read)
+                    .put((byte) '\r')
+                    .put((byte) '\n');
+                buffer.flip();
+                connection.writeBlocking(buffer);
+                written += read;
+            }
+        }
+        connection.endRequest();
+        connection.write(ByteBuffer.wrap("0\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1)));
+        return written;
+    }
+}
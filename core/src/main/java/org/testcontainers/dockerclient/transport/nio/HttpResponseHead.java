@@ -0,0 +1,30 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.Value;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Status and headers of a response.
+ */
+@Value
+class HttpResponseHead {
+
+    int code;
+
+    /**
+     * Headers, keyed by lower-case name
+     */
+    Map<String, String> headers;
+
+    boolean isSuccessful() {
+        return code >= 200 && code < 300;
+    }
+
+    @Nullable
+    String getHeader(String name) {
+        return headers.get(name.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,249 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Incremental HTTP/1.1 response parser, fed with whatever the channel returned.
+ * <p>
+ * Bodies are passed to the listener as views of the fed buffer: fixed length, chunked (without the chunk framing)
+ * and delimited by the end of the connection, which is also how the daemon sends hijacked ({@code 101}) streams.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class HttpResponseParser {
+
+    private static final int MAX_LINE_LENGTH = 64 * 1024;
+
+    interface Listener {
+
+        void onHead(HttpResponseHead head) throws Exception;
+
+        /**
+         * @param body a view of the received bytes, only valid until the method returns
+         */
+        void onBody(ByteBuffer body) throws Exception;
+
+        /**
+         * @param keepAlive whether the connection can be used for another request
+         */
+        void onComplete(boolean keepAlive) throws Exception;
+    }
+
+    private enum State {
+        STATUS_LINE,
+        HEADERS,
+        FIXED_LENGTH_BODY,
+        CHUNK_SIZE,
+        CHUNK_DATA,
+        CHUNK_DATA_END,
+        TRAILERS,
+        BODY_UNTIL_EOF
+    }
+
+    final Listener listener;
+
+    final StringBuilder line = new StringBuilder();
+
+    boolean lineComplete;
+
+    State state = State.STATUS_LINE;
+
+    int code;
+
+    Map<String, String> headers;
+
+    long remaining;
+
+    boolean keepAlive;
+
+    void feed(ByteBuffer buffer) throws Exception {
+        while (buffer.hasRemaining()) {
+            switch (state) {
+                case STATUS_LINE:
+                    if (readLine(buffer)) {
+                        parseStatusLine();
+                        headers = new HashMap<>();
+                        state = State.HEADERS;
+                    }
+                    break;
+                case HEADERS:
+                    if (readLine(buffer)) {
+                        if (line.length() == 0) {
+                            onHeadersEnd();
+                        } else {
+                            parseHeader();
+                        }
+                    }
+                    break;
+                case FIXED_LENGTH_BODY:
+                    emitBody(buffer);
+                    if (remaining == 0) {
+                        complete();
+                    }
+                    break;
+                case CHUNK_SIZE:
+                    if (readLine(buffer)) {
+                        remaining = parseChunkSize();
+                        state = remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+                    }
+                    break;
+                case CHUNK_DATA:
+                    emitBody(buffer);
+                    if (remaining == 0) {
+                        state = State.CHUNK_DATA_END;
+                    }
+                    break;
+                case CHUNK_DATA_END:
+                    if (readLine(buffer)) {
+                        if (line.length() != 0) {
+                            throw new ProtocolException("Expected CRLF after chunk data, got: " + line);
+                        }
+                        state = State.CHUNK_SIZE;
+                    }
+                    break;
+                case TRAILERS:
+                    if (readLine(buffer) && line.length() == 0) {
+                        complete();
+                    }
+                    break;
+                case BODY_UNTIL_EOF:
+                    remaining = buffer.remaining();
+                    emitBody(buffer);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown state: " + state);
+            }
+        }
+    }
+
+    /**
+     * Signals that the peer closed the connection.
+     */
+    void onEndOfStream() throws Exception {
+        if (state != State.BODY_UNTIL_EOF) {
+            throw new EOFException("Connection closed by the daemon before the end of the response");
+        }
+        keepAlive = false;
+        complete();
+    }
+
+    private void onHeadersEnd() throws Exception {
+        keepAlive = !"close".equalsIgnoreCase(headers.get("connection"));
+
+        if (code >= 100 && code < 200 && code != 101) {
+            // Interim response (e.g. 100 Continue), the final one follows
+            state = State.STATUS_LINE;
+            return;
+        }
+
+        listener.onHead(new HttpResponseHead(code, headers));
+
+        String transferEncoding = headers.get("transfer-encoding");
+        String contentLength = headers.get("content-length");
+        if (code == 101) {
+            // Switched protocols, the connection now carries a raw stream
+            keepAlive = false;
+            state = State.BODY_UNTIL_EOF;
+        } else if (code == 204 || code == 304) {
+            complete();
+        } else if (transferEncoding != null && transferEncoding.toLowerCase(Locale.ROOT).contains("chunked")) {
+            state = State.CHUNK_SIZE;
+        } else if (contentLength != null) {
+            remaining = Long.parseLong(contentLength.trim());
+            state = State.FIXED_LENGTH_BODY;
+            if (remaining == 0) {
+                complete();
+            }
+        } else {
+            keepAlive = false;
+            state = State.BODY_UNTIL_EOF;
+        }
+    }
+
+    private void complete() throws Exception {
+        state = State.STATUS_LINE;
+        headers = null;
+        listener.onComplete(keepAlive);
+    }
+
+    private void emitBody(ByteBuffer buffer) throws Exception {
+        int length = (int) Math.min(remaining, buffer.remaining());
+        ByteBuffer body = buffer.duplicate();
+        body.limit(body.position() + length);
+        buffer.position(buffer.position() + length);
+        remaining -= length;
+
+        listener.onBody(body);
+    }
+
+    /**
+     * Appends the next bytes to {@link #line}, the previous line is discarded first if it was complete.
+     *
+     * @return whether the line is complete
+     */
+    private boolean readLine(ByteBuffer buffer) throws IOException {
+        if (lineComplete) {
+            line.setLength(0);
+            lineComplete = false;
+        }
+
+        while (buffer.hasRemaining()) {
+            char c = (char) (buffer.get() & 0xFF);
+            if (c == '\n') {
+                if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                    line.setLength(line.length() - 1);
+                }
+                lineComplete = true;
+                return true;
+            }
+            if (line.length() >= MAX_LINE_LENGTH) {
+                throw new ProtocolException("Line exceeds " + MAX_LINE_LENGTH + " bytes");
+            }
+            line.append(c);
+        }
+        return false;
+    }
+
+    private void parseStatusLine() throws ProtocolException {
+        // HTTP/1.1 200 OK
+        if (!line.toString().startsWith("HTTP/1.") || line.length() < 12) {
+            throw new ProtocolException("Unexpected status line: " + line);
+        }
+        try {
+            code = Integer.parseInt(line.substring(9, 12));
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("Unexpected status line: " + line);
+        }
+    }
+
+    private void parseHeader() throws ProtocolException {
+        int separatorIndex = line.indexOf(":");
+        if (separatorIndex <= 0) {
+            throw new ProtocolException("Unexpected header: " + line);
+        }
+        headers.put(
+            line.substring(0, separatorIndex).trim().toLowerCase(Locale.ROOT),
+            line.substring(separatorIndex + 1).trim()
+        );
+    }
+
+    private long parseChunkSize() throws ProtocolException {
+        int extensionIndex = line.indexOf(";");
+        String size = (extensionIndex >= 0 ? line.substring(0, extensionIndex) : line.toString()).trim();
+        try {
+            return Long.parseLong(size, 16);
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("Unexpected chunk size: " + line);
+        }
+    }
+}
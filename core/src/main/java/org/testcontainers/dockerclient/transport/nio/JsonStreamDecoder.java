@@ -0,0 +1,95 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.github.dockerjava.api.async.ResultCallback;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+
+/**
+ * Decodes a stream of concatenated JSON values (e.g. pull/build progress or events) as bytes arrive,
+ * with Jackson's non-blocking parser. Every value is passed to the callback as soon as it is complete.
+ */
+class JsonStreamDecoder<T> extends StreamingResponseHandler<T> {
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectReader objectReader;
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private final byte[] input = new byte[8 * 1024];
+
+    /**
+     * Tokens of the value being parsed
+     */
+    private TokenBuffer value;
+
+    private int depth;
+
+    JsonStreamDecoder(ObjectMapper objectMapper, TypeReference<T> typeReference, ResultCallback<T> resultCallback, Executor callbackExecutor) throws IOException {
+        super(resultCallback, callbackExecutor);
+        this.objectMapper = objectMapper;
+        this.objectReader = objectMapper.readerFor(typeReference);
+
+        parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    @Override
+    protected void decode(ByteBuffer body) throws IOException {
+        while (body.hasRemaining()) {
+            int length = Math.min(input.length, body.remaining());
+            body.get(input, 0, length);
+            // The parser consumes all the input before asking for more, so the array can be reused
+            feeder.feedInput(input, 0, length);
+            readValues();
+        }
+    }
+
+    @Override
+    protected void endOfStream() throws IOException {
+        feeder.endOfInput();
+        readValues();
+        parser.close();
+
+        if (value != null) {
+            throw new EOFException("Stream ended in the middle of a JSON value");
+        }
+    }
+
+    private void readValues() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (value == null) {
+                value = new TokenBuffer(objectMapper, false);
+            }
+            value.copyCurrentEvent(parser);
+
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+
+            if (depth == 0) {
+                T item;
+                try (JsonParser valueParser = value.asParser(objectMapper)) {
+                    item = objectReader.readValue(valueParser);
+                }
+                value = null;
+                resultCallback.onNext(item);
+            }
+        }
+    }
+}
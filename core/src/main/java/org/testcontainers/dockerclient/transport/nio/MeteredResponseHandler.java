@@ -0,0 +1,55 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.RequiredArgsConstructor;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiMetrics;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Records the response of a call in {@link DockerApiMetrics} before passing it to the actual handler.
+ */
+@RequiredArgsConstructor
+class MeteredResponseHandler implements ResponseHandler {
+
+    private final ResponseHandler delegate;
+
+    private final DockerApiMetrics.Recorder recorder;
+
+    /**
+     * Only accessed from the event loop thread
+     */
+    private long bytesReceived;
+
+    private boolean failed;
+
+    @Override
+    public void onStart(NioConnection connection) {
+        delegate.onStart(connection);
+    }
+
+    @Override
+    public void onHead(HttpResponseHead head) throws Exception {
+        failed = !head.isSuccessful() && head.getCode() != 101;
+        delegate.onHead(head);
+    }
+
+    @Override
+    public void onBody(ByteBuffer body) throws Exception {
+        bytesReceived += body.remaining();
+        delegate.onBody(body);
+    }
+
+    @Override
+    public void onComplete() throws Exception {
+        recorder.setBytesReceived(bytesReceived);
+        recorder.finish(failed);
+        delegate.onComplete();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        recorder.setBytesReceived(bytesReceived);
+        recorder.finish(true);
+        delegate.onError(e);
+    }
+}
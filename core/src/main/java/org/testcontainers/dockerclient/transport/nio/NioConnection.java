@@ -0,0 +1,309 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A non-blocking connection to the daemon, carrying one exchange at a time.
+ * <p>
+ * Writes are attempted right away on the calling thread, whatever the channel doesn't accept is queued
+ * and flushed by the event loop once the channel is writable. Reads only happen on the event loop.
+ */
+@Slf4j
+class NioConnection implements Closeable, HttpResponseParser.Listener {
+
+    /**
+     * Blocking writers wait while more than this many bytes are queued
+     */
+    private static final long WRITE_HIGH_WATERMARK = 256 * 1024;
+
+    private final NioHttpClient client;
+
+    private final NioEventLoop eventLoop;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final SocketChannel channel;
+
+    private final HttpResponseParser parser = new HttpResponseParser(this);
+
+    /**
+     * Guards the write state below
+     */
+    private final Deque<ByteBuffer> writeQueue = new ArrayDeque<>();
+
+    private long queuedBytes;
+
+    private boolean shutdownOutputRequested;
+
+    private final AtomicReference<ResponseHandler> handler = new AtomicReference<>();
+
+    /**
+     * Only accessed by the event loop
+     */
+    private SelectionKey key;
+
+    private volatile boolean requestComplete;
+
+    private volatile boolean closed;
+
+    @Getter(AccessLevel.PACKAGE)
+    @Setter(AccessLevel.PACKAGE)
+    private volatile long idleSince;
+
+    NioConnection(NioHttpClient client, NioEventLoop eventLoop, SocketChannel channel) throws IOException {
+        this.client = client;
+        this.eventLoop = eventLoop;
+        this.channel = channel;
+
+        channel.configureBlocking(false);
+    }
+
+    boolean isOpen() {
+        return !closed && channel.isOpen();
+    }
+
+    /**
+     * Starts a new exchange, the request must then be written with {@link #write(ByteBuffer)} and/or
+     * {@link #writeBlocking(ByteBuffer)}, calling {@link #endRequest()} before its last write.
+     */
+    void start(ResponseHandler responseHandler) {
+        requestComplete = false;
+        handler.set(responseHandler);
+        responseHandler.onStart(this);
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        synchronized (writeQueue) {
+            if (closed) {
+                throw new IOException("Connection closed");
+            }
+
+            if (writeQueue.isEmpty()) {
+                channel.write(buffer);
+                if (!buffer.hasRemaining()) {
+                    return;
+                }
+            }
+
+            writeQueue.add(buffer);
+            queuedBytes += buffer.remaining();
+        }
+        eventLoop.execute(this::flush);
+    }
+
+    /**
+     * Like {@link #write(ByteBuffer)}, but waits for the daemon to read the previous writes first
+     * if too many bytes are queued. Used to stream request bodies and stdin without buffering them.
+     */
+    void writeBlocking(ByteBuffer buffer) throws IOException {
+        synchronized (writeQueue) {
+            try {
+                while (queuedBytes >= WRITE_HIGH_WATERMARK && !closed) {
+                    writeQueue.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the daemon to read");
+            }
+        }
+        write(buffer);
+    }
+
+    /**
+     * Marks the next write as the last one of the request. The response may be complete before that write returns.
+     */
+    void endRequest() {
+        requestComplete = true;
+    }
+
+    /**
+     * Closes the write side of the connection once all queued bytes are written (end of stdin).
+     */
+    void shutdownOutput() {
+        synchronized (writeQueue) {
+            shutdownOutputRequested = true;
+        }
+        eventLoop.execute(this::flush);
+    }
+
+    /**
+     * Stops reading from the connection until {@link #resumeReading()}, must be called on the event loop.
+     */
+    void pauseReading() {
+        setInterest(SelectionKey.OP_READ, false);
+    }
+
+    void resumeReading() {
+        eventLoop.execute(() -> setInterest(SelectionKey.OP_READ, true));
+    }
+
+    void onRegistered(SelectionKey key) {
+        this.key = key;
+        if (closed) {
+            key.cancel();
+        }
+    }
+
+    void flush() {
+        IOException failure = null;
+        synchronized (writeQueue) {
+            try {
+                while (!writeQueue.isEmpty()) {
+                    ByteBuffer buffer = writeQueue.peek();
+                    queuedBytes -= channel.write(buffer);
+                    if (buffer.hasRemaining()) {
+                        setInterest(SelectionKey.OP_WRITE, true);
+                        return;
+                    }
+                    writeQueue.poll();
+                }
+                setInterest(SelectionKey.OP_WRITE, false);
+
+                if (shutdownOutputRequested) {
+                    shutdownOutputRequested = false;
+                    channel.shutdownOutput();
+                }
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                writeQueue.notifyAll();
+            }
+        }
+
+        if (failure != null) {
+            fail(failure);
+        }
+    }
+
+    void read(ByteBuffer buffer) throws Exception {
+        buffer.clear();
+        int read = channel.read(buffer);
+        if (read == -1) {
+            onEndOfStream();
+            return;
+        }
+        buffer.flip();
+
+        if (handler.get() == null) {
+            // Idle connections are only readable when the daemon closes them
+            log.debug("Unexpected data on an idle connection, closing it");
+            close();
+            return;
+        }
+
+        parser.feed(buffer);
+    }
+
+    @Override
+    public void onHead(HttpResponseHead head) throws Exception {
+        ResponseHandler responseHandler = handler.get();
+        if (responseHandler != null) {
+            responseHandler.onHead(head);
+        }
+    }
+
+    @Override
+    public void onBody(ByteBuffer body) throws Exception {
+        ResponseHandler responseHandler = handler.get();
+        if (responseHandler != null) {
+            responseHandler.onBody(body);
+        }
+    }
+
+    @Override
+    public void onComplete(boolean keepAlive) {
+        ResponseHandler responseHandler = handler.getAndSet(null);
+        if (responseHandler == null) {
+            return;
+        }
+
+        if (keepAlive && requestComplete && !hasPendingWrites() && !closed) {
+            client.release(this);
+        } else {
+            close();
+        }
+
+        try {
+            responseHandler.onComplete();
+        } catch (Exception e) {
+            responseHandler.onError(e);
+        }
+    }
+
+    /**
+     * Closes the connection and reports {@code e} to the current exchange, if any.
+     */
+    void fail(Throwable e) {
+        ResponseHandler responseHandler = handler.getAndSet(null);
+        close();
+
+        if (responseHandler != null) {
+            responseHandler.onError(e);
+        } else {
+            log.debug("Idle connection failed", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (writeQueue) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writeQueue.clear();
+            queuedBytes = 0;
+            writeQueue.notifyAll();
+        }
+        IOUtils.closeQuietly(channel);
+
+        ResponseHandler responseHandler = handler.getAndSet(null);
+        if (responseHandler != null) {
+            responseHandler.onError(new IOException("Connection closed"));
+        }
+    }
+
+    private void onEndOfStream() throws Exception {
+        if (handler.get() == null) {
+            close();
+            return;
+        }
+
+        try {
+            parser.onEndOfStream();
+        } catch (Exception e) {
+            fail(e);
+            return;
+        }
+        close();
+    }
+
+    private boolean hasPendingWrites() {
+        synchronized (writeQueue) {
+            return !writeQueue.isEmpty() || shutdownOutputRequested;
+        }
+    }
+
+    private void setInterest(int operation, boolean enabled) {
+        SelectionKey key = this.key;
+        if (key == null || !key.isValid()) {
+            return;
+        }
+
+        int interestOps = key.interestOps();
+        key.interestOps(enabled ? interestOps | operation : interestOps & ~operation);
+    }
+}
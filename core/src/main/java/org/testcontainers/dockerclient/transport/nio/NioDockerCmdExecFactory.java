@@ -0,0 +1,112 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.github.dockerjava.api.command.PingCmd;
+import com.github.dockerjava.core.AbstractDockerCmdExecFactory;
+import com.github.dockerjava.core.DockerClientConfig;
+import com.github.dockerjava.core.WebTarget;
+import com.github.dockerjava.core.exec.PingCmdExec;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MultimapBuilder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.SneakyThrows;
+import org.apache.commons.io.IOUtils;
+import org.testcontainers.dockerclient.transport.StreamExecutor;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Talks to a daemon listening on a unix socket over non-blocking channels of the JDK (16+), without JNA.
+ * <p>
+ * Responses are read by a few event loop threads ({@code transport.nio.threads}), so that many concurrent streams
+ * don't need a thread each while they wait for output. Log/exec/attach frames and JSON progress streams are decoded
+ * and passed to their {@link com.github.dockerjava.api.async.ResultCallback}s on the {@link #getStreamExecutor() stream
+ * executor}, in order, so that a blocking callback doesn't stall the other connections. Idle connections are kept alive like with the {@code okhttp} transport
+ * ({@code transport.unix.pool.size} and {@code transport.unix.pool.keepalive}).
+ *
+ * @see #isSupported()
+ */
+public class NioDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
+
+    private NioHttpClient client;
+
+    /**
+     * Executor writing streamed request bodies and attached stdin, and invoking the callbacks of streamed responses
+     */
+    @Getter
+    private StreamExecutor streamExecutor = StreamExecutor.getDefault();
+
+    /**
+     * @return whether the running JVM supports unix domain socket channels
+     */
+    public static boolean isSupported() {
+        return UnixDomainSockets.isSupported();
+    }
+
+    /**
+     * Use the given executor instead of the {@link StreamExecutor#getDefault() default} one
+     * to write streamed request bodies and attached stdin, and to invoke the callbacks of streamed responses.
+     *
+     * @param streamExecutor the executor to use
+     * @return this
+     */
+    public NioDockerCmdExecFactory withStreamExecutor(@NonNull StreamExecutor streamExecutor) {
+        this.streamExecutor = streamExecutor;
+        return this;
+    }
+
+    @Override
+    @SneakyThrows
+    public void init(DockerClientConfig dockerClientConfig) {
+        super.init(dockerClientConfig);
+
+        URI dockerHost = dockerClientConfig.getDockerHost();
+        if (!"unix".equals(dockerHost.getScheme())) {
+            throw new IllegalArgumentException("The nio transport only supports unix sockets, got: " + dockerHost);
+        }
+
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        client = new NioHttpClient(
+            dockerHost.getPath(),
+            configuration.getNioEventLoopThreads(),
+            configuration.getUnixSocketPoolSize(),
+            configuration.getUnixSocketPoolKeepAlive(),
+            TimeUnit.SECONDS
+        );
+    }
+
+    @Override
+    protected WebTarget getBaseResource() {
+        return new NioWebTarget(
+            client,
+            streamExecutor,
+            ImmutableList.of(),
+            ImmutableList.of(),
+            MultimapBuilder.hashKeys().hashSetValues().build()
+        );
+    }
+
+    @Override
+    public PingCmd.Exec createPingCmdExec() {
+        return new PingCmdExec(getBaseResource(), getDockerClientConfig()) {
+
+            @Override
+            protected Void execute(PingCmd command) {
+                WebTarget webResource = getBaseResource().path("/_ping");
+
+                IOUtils.closeQuietly(webResource.request().get());
+
+                return null;
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        if (client != null) {
+            client.close();
+        }
+    }
+}
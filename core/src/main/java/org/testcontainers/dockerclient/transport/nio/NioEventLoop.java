@@ -0,0 +1,116 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A selector and the thread serving it: reads every connection registered with it into one direct buffer
+ * and flushes their pending writes.
+ * <p>
+ * Other threads interact with the loop by {@link #execute(Runnable) submitting tasks}, which run in submission order
+ * before the next selection.
+ */
+@Slf4j
+class NioEventLoop implements Closeable {
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Selector selector;
+
+    private final Thread thread;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = true;
+
+    NioEventLoop(String name) throws IOException {
+        selector = Selector.open();
+
+        thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    void register(NioConnection connection) {
+        execute(() -> {
+            try {
+                connection.onRegistered(connection.getChannel().register(selector, SelectionKey.OP_READ, connection));
+            } catch (IOException e) {
+                connection.fail(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    private void run() {
+        ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+
+        try {
+            while (running) {
+                selector.select();
+                runTasks();
+
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+
+                    NioConnection connection = (NioConnection) key.attachment();
+                    try {
+                        if (key.isValid() && key.isWritable()) {
+                            connection.flush();
+                        }
+                        if (key.isValid() && key.isReadable()) {
+                            connection.read(readBuffer);
+                        }
+                    } catch (Exception e) {
+                        connection.fail(e);
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            log.error("Event loop {} failed", thread.getName(), e);
+        } finally {
+            for (SelectionKey key : new ArrayList<>(selector.keys())) {
+                ((NioConnection) key.attachment()).close();
+            }
+            runTasks();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the selector of {}", thread.getName(), e);
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.warn("Event loop task failed", e);
+            }
+        }
+    }
+}
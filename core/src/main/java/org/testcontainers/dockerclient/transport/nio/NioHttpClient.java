@@ -0,0 +1,159 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import org.apache.commons.io.IOUtils;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiEndpoint;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiMetrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP/1.1 client for a daemon listening on a unix socket, with keep-alive connections spread over a few event loops.
+ */
+class NioHttpClient implements Closeable {
+
+    private final String socketPath;
+
+    private final NioEventLoop[] eventLoops;
+
+    private final AtomicInteger nextEventLoop = new AtomicInteger();
+
+    /**
+     * Most recently released first, guarded by itself
+     */
+    private final Deque<NioConnection> idleConnections = new ArrayDeque<>();
+
+    private final int maxIdleConnections;
+
+    private final long keepAliveNanos;
+
+    private volatile boolean closed;
+
+    NioHttpClient(String socketPath, int eventLoopThreads, int maxIdleConnections, long keepAlive, TimeUnit keepAliveUnit) throws IOException {
+        this.socketPath = socketPath;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveNanos = keepAliveUnit.toNanos(keepAlive);
+
+        eventLoops = new NioEventLoop[Math.max(1, eventLoopThreads)];
+        for (int i = 0; i < eventLoops.length; i++) {
+            eventLoops[i] = new NioEventLoop("testcontainers-nio-" + i);
+        }
+    }
+
+    /**
+     * Sends {@code request} on an idle or new connection. Failures, including connection failures,
+     * are reported to {@code responseHandler}.
+     * <p>
+     * Streamed request bodies are written on the calling thread, which blocks while the daemon doesn't read them.
+     */
+    void execute(HttpRequest request, ResponseHandler responseHandler) {
+        DockerApiMetrics.Recorder recorder = null;
+        if (request.getPathTemplate() != null) {
+            recorder = DockerApiMetrics.start(new DockerApiEndpoint(request.getMethod(), request.getPathTemplate()));
+            if (request.getBody() != null) {
+                recorder.setBytesSent(request.getBody().length);
+            }
+            responseHandler = new MeteredResponseHandler(responseHandler, recorder);
+        }
+
+        NioConnection connection;
+        try {
+            connection = acquire();
+        } catch (IOException | RuntimeException e) {
+            responseHandler.onError(e);
+            return;
+        }
+
+        connection.start(responseHandler);
+        try {
+            long bytesSent = request.writeTo(connection);
+            if (recorder != null) {
+                // Streamed bodies are only known once written, usually before the daemon responds
+                recorder.setBytesSent(bytesSent);
+            }
+        } catch (IOException | RuntimeException e) {
+            connection.fail(e);
+        }
+    }
+
+    /**
+     * @return number of idle connections
+     */
+    int getIdleConnectionCount() {
+        synchronized (idleConnections) {
+            return idleConnections.size();
+        }
+    }
+
+    void release(NioConnection connection) {
+        if (!closed && maxIdleConnections > 0) {
+            connection.setIdleSince(System.nanoTime());
+            connection.resumeReading();
+            synchronized (idleConnections) {
+                if (idleConnections.size() < maxIdleConnections) {
+                    idleConnections.push(connection);
+                    return;
+                }
+            }
+        }
+        connection.close();
+    }
+
+    private NioConnection acquire() throws IOException {
+        if (closed) {
+            throw new IOException("Client closed");
+        }
+
+        long now = System.nanoTime();
+        List<NioConnection> expiredConnections = new ArrayList<>();
+        try {
+            synchronized (idleConnections) {
+                NioConnection connection;
+                while ((connection = idleConnections.poll()) != null) {
+                    if (!connection.isOpen()) {
+                        continue;
+                    }
+                    if (now - connection.getIdleSince() > keepAliveNanos) {
+                        expiredConnections.add(connection);
+                        continue;
+                    }
+                    return connection;
+                }
+            }
+        } finally {
+            expiredConnections.forEach(NioConnection::close);
+        }
+
+        NioEventLoop eventLoop = eventLoops[Math.floorMod(nextEventLoop.getAndIncrement(), eventLoops.length)];
+        SocketChannel channel = UnixDomainSockets.connect(socketPath);
+        try {
+            NioConnection connection = new NioConnection(this, eventLoop, channel);
+            eventLoop.register(connection);
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        synchronized (idleConnections) {
+            idleConnections.forEach(NioConnection::close);
+            idleConnections.clear();
+        }
+
+        for (NioEventLoop eventLoop : eventLoops) {
+            eventLoop.close();
+        }
+    }
+}
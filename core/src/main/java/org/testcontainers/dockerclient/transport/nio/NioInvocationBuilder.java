@@ -0,0 +1,245 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.core.InvocationBuilder;
+import lombok.AccessLevel;
+import lombok.SneakyThrows;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.IOUtils;
+import org.testcontainers.dockerclient.transport.DockerExceptions;
+import org.testcontainers.dockerclient.transport.StreamExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+class NioInvocationBuilder implements InvocationBuilder {
+
+    ObjectMapper objectMapper;
+
+    NioHttpClient client;
+
+    StreamExecutor streamExecutor;
+
+    HttpRequest.HttpRequestBuilder requestBuilder;
+
+    NioInvocationBuilder(ObjectMapper objectMapper, NioHttpClient client, StreamExecutor streamExecutor, String target, String pathTemplate) {
+        this.objectMapper = objectMapper;
+        this.client = client;
+        this.streamExecutor = streamExecutor;
+
+        requestBuilder = HttpRequest.builder()
+            .target(target)
+            .pathTemplate(pathTemplate);
+    }
+
+    @Override
+    public NioInvocationBuilder accept(com.github.dockerjava.core.MediaType mediaType) {
+        return header("Accept", mediaType.getMediaType());
+    }
+
+    @Override
+    public NioInvocationBuilder header(String name, String value) {
+        requestBuilder.header(name, value);
+        return this;
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public void delete() {
+        HttpRequest request = requestBuilder
+            .method("DELETE")
+            .build();
+
+        execute(request).close();
+    }
+
+    @Override
+    public void get(ResultCallback<Frame> resultCallback) {
+        HttpRequest request = requestBuilder
+            .method("GET")
+            .build();
+
+        client.execute(request, new FrameDecoder(resultCallback, streamExecutor));
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public <T> T get(TypeReference<T> typeReference) {
+        try (InputStream inputStream = get()) {
+            return objectMapper.readValue(inputStream, typeReference);
+        }
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public <T> void get(TypeReference<T> typeReference, ResultCallback<T> resultCallback) {
+        HttpRequest request = requestBuilder
+            .method("GET")
+            .build();
+
+        client.execute(request, new JsonStreamDecoder<>(objectMapper, typeReference, resultCallback, streamExecutor));
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public InputStream post(Object entity) {
+        return execute(jsonRequest(entity));
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public <T> T post(Object entity, TypeReference<T> typeReference) {
+        try (InputStream inputStream = execute(jsonRequest(entity))) {
+            return objectMapper.readValue(inputStream, typeReference);
+        }
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public <T> void post(Object entity, TypeReference<T> typeReference, ResultCallback<T> resultCallback) {
+        client.execute(jsonRequest(entity), new JsonStreamDecoder<>(objectMapper, typeReference, resultCallback, streamExecutor));
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public <T> T post(TypeReference<T> typeReference, InputStream body) {
+        HttpRequest request = requestBuilder
+            .method("POST")
+            .bodyStream(body)
+            .build();
+
+        try (InputStream inputStream = execute(request)) {
+            return objectMapper.readValue(inputStream, typeReference);
+        }
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public void post(Object entity, InputStream stdin, ResultCallback<Frame> resultCallback) {
+        if (stdin == null) {
+            client.execute(jsonRequest(entity), new FrameDecoder(resultCallback, streamExecutor));
+            return;
+        }
+
+        requestBuilder
+            .header("Connection", "Upgrade")
+            .header("Upgrade", "tcp");
+
+        // Output and stdin share the upgraded connection, closing the callback closes it
+        client.execute(jsonRequest(entity), new FrameDecoder(resultCallback, streamExecutor) {
+            @Override
+            public void onHead(HttpResponseHead head) {
+                super.onHead(head);
+
+                if (head.isSuccessful() || head.getCode() == 101) {
+                    NioConnection connection = getConnection();
+                    streamExecutor.execute(() -> writeStdin(connection, stdin));
+                }
+            }
+        });
+    }
+
+    @Override
+    public <T> void post(TypeReference<T> typeReference, ResultCallback<T> resultCallback, InputStream body) {
+        HttpRequest request = requestBuilder
+            .method("POST")
+            .bodyStream(body)
+            .build();
+
+        // Writing the body blocks while the daemon doesn't read it
+        streamExecutor.execute(() -> {
+            JsonStreamDecoder<T> decoder;
+            try {
+                decoder = new JsonStreamDecoder<>(objectMapper, typeReference, resultCallback, streamExecutor);
+            } catch (IOException e) {
+                resultCallback.onError(e);
+                return;
+            }
+            client.execute(request, decoder);
+        });
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public void postStream(InputStream body) {
+        HttpRequest request = requestBuilder
+            .method("POST")
+            .bodyStream(body)
+            .build();
+
+        execute(request).close();
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public InputStream get() {
+        HttpRequest request = requestBuilder
+            .method("GET")
+            .build();
+
+        return execute(request);
+    }
+
+    @Override
+    @SneakyThrows(IOException.class)
+    public void put(InputStream body, com.github.dockerjava.core.MediaType mediaType) {
+        HttpRequest request = requestBuilder
+            .method("PUT")
+            .header("Content-Type", mediaType.toString())
+            .bodyStream(body)
+            .build();
+
+        execute(request).close();
+    }
+
+    private HttpRequest jsonRequest(Object entity) throws IOException {
+        return requestBuilder
+            .method("POST")
+            .header("Content-Type", "application/json")
+            .body(objectMapper.writeValueAsBytes(entity))
+            .build();
+    }
+
+    /**
+     * Sends the request and waits for the head of the response.
+     *
+     * @return the body of a successful response
+     */
+    private PipedResponse execute(HttpRequest request) throws IOException {
+        PipedResponse response = new PipedResponse();
+        client.execute(request, response);
+
+        HttpResponseHead head = response.awaitHead();
+        if (!head.isSuccessful()) {
+            String body;
+            try (InputStream inputStream = response) {
+                body = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            }
+            throw DockerExceptions.fromResponse(head.getCode(), body);
+        }
+        return response;
+    }
+
+    private static void writeStdin(NioConnection connection, InputStream stdin) {
+        try {
+            byte[] chunk = new byte[8 * 1024];
+            int read;
+            while ((read = stdin.read(chunk)) != -1) {
+                // The buffer may be queued, so it can't share the chunk array
+                connection.writeBlocking(ByteBuffer.wrap(Arrays.copyOf(chunk, read)));
+            }
+            connection.shutdownOutput();
+        } catch (IOException e) {
+            log.debug("Failed to write stdin", e);
+        }
+    }
+}
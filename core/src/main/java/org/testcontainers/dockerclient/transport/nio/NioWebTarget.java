@@ -0,0 +1,140 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.dockerjava.core.InvocationBuilder;
+import com.github.dockerjava.core.WebTarget;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.SetMultimap;
+import lombok.SneakyThrows;
+import lombok.Value;
+import lombok.experimental.Wither;
+import okhttp3.HttpUrl;
+import org.apache.commons.lang.StringUtils;
+import org.testcontainers.dockerclient.transport.StreamExecutor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Wither
+@Value
+class NioWebTarget implements WebTarget {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+        .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+    NioHttpClient client;
+
+    StreamExecutor streamExecutor;
+
+    ImmutableList<String> path;
+
+    /**
+     * Same as {@link #path}, without resolving the templates. Identifies the endpoint in the metrics
+     */
+    ImmutableList<String> pathTemplate;
+
+    SetMultimap<String, String> queryParams;
+
+    @Override
+    @SneakyThrows
+    public InvocationBuilder request() {
+        // Only used to encode the path and the query, the client is bound to its socket
+        HttpUrl.Builder urlBuilder = new HttpUrl.Builder()
+            .scheme("http")
+            .host("localhost")
+            .encodedPath(toResource(path));
+
+        for (Map.Entry<String, Collection<String>> queryParamEntry : queryParams.asMap().entrySet()) {
+            String key = queryParamEntry.getKey();
+            for (String paramValue : queryParamEntry.getValue()) {
+                urlBuilder.addQueryParameter(key, paramValue);
+            }
+        }
+        HttpUrl url = urlBuilder.build();
+
+        String target = url.encodedQuery() != null
+            ? url.encodedPath() + "?" + url.encodedQuery()
+            : url.encodedPath();
+
+        return new NioInvocationBuilder(
+            MAPPER,
+            client,
+            streamExecutor,
+            target,
+            toResource(pathTemplate)
+        );
+    }
+
+    private static String toResource(ImmutableList<String> path) {
+        String resource = StringUtils.join(path, "/");
+
+        if (!resource.startsWith("/")) {
+            resource = "/" + resource;
+        }
+        return resource;
+    }
+
+    @Override
+    public NioWebTarget path(String... components) {
+        return this
+            .withPath(
+                ImmutableList.<String>builder()
+                    .addAll(path)
+                    .add(components)
+                    .build()
+            )
+            .withPathTemplate(
+                ImmutableList.<String>builder()
+                    .addAll(pathTemplate)
+                    .add(components)
+                    .build()
+            );
+    }
+
+    @Override
+    public NioWebTarget resolveTemplate(String name, Object value) {
+        ImmutableList.Builder<String> newPath = ImmutableList.builder();
+        for (String component : path) {
+            component = component.replaceAll("\\{" + name + "\\}", value.toString());
+            newPath.add(component);
+        }
+        return this.withPath(newPath.build());
+    }
+
+    @Override
+    public NioWebTarget queryParam(String name, Object value) {
+        if (value == null) {
+            return this;
+        }
+
+        SetMultimap<String, String> newQueryParams = HashMultimap.create(queryParams);
+        newQueryParams.put(name, value.toString());
+
+        return this.withQueryParams(newQueryParams);
+    }
+
+    @Override
+    public NioWebTarget queryParamsSet(String name, Set<?> values) {
+        SetMultimap<String, String> newQueryParams = HashMultimap.create(queryParams);
+        newQueryParams.replaceValues(name, values.stream().filter(Objects::nonNull).map(Object::toString).collect(Collectors.toSet()));
+
+        return this.withQueryParams(newQueryParams);
+    }
+
+    @Override
+    @SneakyThrows(JsonProcessingException.class)
+    public NioWebTarget queryParamsJsonMap(String name, Map<String, String> values) {
+        if (values == null || values.isEmpty()) {
+            return this;
+        }
+
+        // when param value is JSON string
+        return queryParam(name, MAPPER.writeValueAsString(values));
+    }
+}
@@ -0,0 +1,176 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Hands the body of a response over to a blocking reader.
+ * <p>
+ * Reading from the daemon is paused while more than {@link #HIGH_WATERMARK} bytes wait for the reader,
+ * and resumed once it caught up. Closing the stream before the end of the body closes the connection.
+ */
+class PipedResponse extends InputStream implements ResponseHandler {
+
+    private static final long HIGH_WATERMARK = 1024 * 1024;
+
+    private static final long LOW_WATERMARK = 256 * 1024;
+
+    /**
+     * Guarded by {@code this}, as is the rest of the state
+     */
+    private final Deque<byte[]> chunks = new ArrayDeque<>();
+
+    private int chunkOffset;
+
+    private long bufferedBytes;
+
+    private boolean paused;
+
+    private HttpResponseHead head;
+
+    private boolean complete;
+
+    private Throwable error;
+
+    private boolean closed;
+
+    private volatile NioConnection connection;
+
+    @Override
+    public void onStart(NioConnection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public synchronized void onHead(HttpResponseHead head) {
+        this.head = head;
+        notifyAll();
+    }
+
+    @Override
+    public void onBody(ByteBuffer body) {
+        byte[] chunk = new byte[body.remaining()];
+        body.get(chunk);
+
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            chunks.add(chunk);
+            bufferedBytes += chunk.length;
+            if (!paused && bufferedBytes >= HIGH_WATERMARK) {
+                paused = true;
+                connection.pauseReading();
+            }
+            notifyAll();
+        }
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        complete = true;
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void onError(Throwable e) {
+        if (!complete) {
+            error = e;
+        }
+        notifyAll();
+    }
+
+    synchronized HttpResponseHead awaitHead() throws IOException {
+        try {
+            while (head == null && error == null) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the response");
+        }
+
+        if (head == null) {
+            throw toIOException(error);
+        }
+        return head;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] singleByte = new byte[1];
+        return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+
+        try {
+            while (chunks.isEmpty()) {
+                if (error != null) {
+                    throw toIOException(error);
+                }
+                if (complete || closed) {
+                    return -1;
+                }
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading the response");
+        }
+
+        byte[] chunk = chunks.peek();
+        int read = Math.min(len, chunk.length - chunkOffset);
+        System.arraycopy(chunk, chunkOffset, b, off, read);
+        chunkOffset += read;
+        if (chunkOffset == chunk.length) {
+            chunks.poll();
+            chunkOffset = 0;
+        }
+
+        bufferedBytes -= read;
+        if (paused && bufferedBytes <= LOW_WATERMARK) {
+            paused = false;
+            connection.resumeReading();
+        }
+        return read;
+    }
+
+    @Override
+    public synchronized int available() {
+        return (int) Math.min(bufferedBytes, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void close() {
+        boolean abort;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            abort = !complete;
+            chunks.clear();
+            notifyAll();
+        }
+
+        NioConnection connection = this.connection;
+        if (abort && connection != null) {
+            // The rest of the body can't be skipped without reading it
+            connection.close();
+        }
+    }
+
+    private static IOException toIOException(Throwable e) {
+        return e instanceof IOException ? (IOException) e : new IOException(e);
+    }
+}
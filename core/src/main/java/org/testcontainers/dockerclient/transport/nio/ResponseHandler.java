@@ -0,0 +1,28 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives a response as it is read by the {@link NioEventLoop}.
+ * <p>
+ * Apart from {@link #onStart(NioConnection)}, all methods are called on the event loop thread and must not block.
+ * Exactly one of {@link #onComplete()} and {@link #onError(Throwable)} is called.
+ */
+interface ResponseHandler {
+
+    /**
+     * Called on the requesting thread, before the request is written.
+     */
+    void onStart(NioConnection connection);
+
+    void onHead(HttpResponseHead head) throws Exception;
+
+    /**
+     * @param body a view of the event loop's read buffer, only valid until the method returns
+     */
+    void onBody(ByteBuffer body) throws Exception;
+
+    void onComplete() throws Exception;
+
+    void onError(Throwable e);
+}
@@ -0,0 +1,65 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one after another, in submission order, on the threads of another executor.
+ * <p>
+ * No thread is held while there is nothing to run, so that an idle stream doesn't keep a thread busy.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class SerialExecutor implements Executor {
+
+    private final Executor executor;
+
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the tasks can't be run, they stay queued until the next call
+     */
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    log.warn("Stream task failed", e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+
+        // A task added after the queue was found empty but before the flag was cleared
+        if (!tasks.isEmpty()) {
+            schedule();
+        }
+    }
+}
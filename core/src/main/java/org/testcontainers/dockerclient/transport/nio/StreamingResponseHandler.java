@@ -0,0 +1,223 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import org.testcontainers.dockerclient.transport.DockerExceptions;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Decodes a streamed response (frames, JSON values) as it arrives and passes the items to a {@link ResultCallback}.
+ * <p>
+ * The event loop only copies the bytes it reads: decoding and the callback run on {@code callbackExecutor}, one step
+ * after another in the order of the response, so that a slow callback doesn't hold the loop and the other connections
+ * it serves. Reading from the daemon is paused while more than {@link #HIGH_WATERMARK} bytes wait for the callback, and
+ * resumed once it caught up. Unsuccessful responses are collected and reported as the matching
+ * {@link com.github.dockerjava.api.exception.DockerException}.
+ */
+abstract class StreamingResponseHandler<T> implements ResponseHandler {
+
+    private static final long HIGH_WATERMARK = 1024 * 1024;
+
+    private static final long LOW_WATERMARK = 256 * 1024;
+
+    private static final int MIN_BUFFER_SIZE = 8 * 1024;
+
+    private static final int MAX_FREE_BUFFERS = 4;
+
+    protected final ResultCallback<T> resultCallback;
+
+    private final Executor callbackExecutor;
+
+    private volatile NioConnection connection;
+
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    /**
+     * Copies of the reads already consumed, reused for the next reads. Guarded by {@code this}, as are the two fields below
+     */
+    private final Deque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+
+    /**
+     * Capacity of the copies waiting for the callback
+     */
+    private long queuedBytes;
+
+    private boolean paused;
+
+    /*
+     * Only accessed from the callback tasks, which run one after another
+     */
+
+    private int errorCode;
+
+    private ByteArrayOutputStream errorBody;
+
+    /**
+     * @param callbackExecutor executor to decode the response and invoke {@code resultCallback} on
+     */
+    StreamingResponseHandler(ResultCallback<T> resultCallback, Executor callbackExecutor) {
+        this.resultCallback = resultCallback;
+        this.callbackExecutor = new SerialExecutor(callbackExecutor);
+    }
+
+    /**
+     * @param body the next bytes of the body, which must all be consumed
+     */
+    protected abstract void decode(ByteBuffer body) throws Exception;
+
+    /**
+     * Called once the whole body was {@link #decode(ByteBuffer) decoded}.
+     */
+    protected void endOfStream() throws Exception {
+    }
+
+    protected NioConnection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public void onStart(NioConnection connection) {
+        this.connection = connection;
+    }
+
+    @Override
+    public void onHead(HttpResponseHead head) {
+        dispatch(() -> {
+            if (head.isSuccessful() || head.getCode() == 101) {
+                // Closing the callback closes the connection
+                resultCallback.onStart(connection);
+            } else {
+                errorCode = head.getCode();
+                errorBody = new ByteArrayOutputStream();
+            }
+        });
+    }
+
+    @Override
+    public void onBody(ByteBuffer body) {
+        // The body is a view of the loop's read buffer
+        ByteBuffer copy;
+        synchronized (this) {
+            copy = freeBuffers.poll();
+            if (copy == null || copy.capacity() < body.remaining()) {
+                copy = ByteBuffer.allocate(Math.max(body.remaining(), MIN_BUFFER_SIZE));
+            }
+
+            queuedBytes += copy.capacity();
+            if (!paused && queuedBytes >= HIGH_WATERMARK && connection != null) {
+                paused = true;
+                connection.pauseReading();
+            }
+        }
+        copy.put(body);
+        copy.flip();
+
+        ByteBuffer read = copy;
+        dispatch(() -> {
+            try {
+                if (errorBody == null) {
+                    decode(read);
+                    return;
+                }
+
+                errorBody.write(read.array(), read.position(), read.remaining());
+            } finally {
+                consumed(read);
+            }
+        });
+    }
+
+    @Override
+    public void onComplete() {
+        dispatch(() -> {
+            if (errorBody != null) {
+                fail(DockerExceptions.fromResponse(errorCode, new String(errorBody.toByteArray(), StandardCharsets.UTF_8)));
+                return;
+            }
+
+            endOfStream();
+            if (finished.compareAndSet(false, true)) {
+                resultCallback.onComplete();
+            }
+        });
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        try {
+            callbackExecutor.execute(() -> fail(e));
+        } catch (RejectedExecutionException rejected) {
+            // No callback task is running, as none could be started
+            fail(e);
+        }
+    }
+
+    /**
+     * Runs {@code step} after the previous ones, unless the response already failed. A failing step is reported to the
+     * callback, which closes the connection when it is closed, and the rest of the response is ignored.
+     */
+    private void dispatch(Step step) {
+        try {
+            callbackExecutor.execute(() -> {
+                if (finished.get()) {
+                    return;
+                }
+
+                try {
+                    step.run();
+                } catch (Throwable e) {
+                    fail(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The response can't be consumed: fail it rather than keep reading it
+            fail(e);
+            NioConnection connection = this.connection;
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    private void consumed(ByteBuffer buffer) {
+        boolean resume = false;
+        synchronized (this) {
+            queuedBytes -= buffer.capacity();
+            if (paused && queuedBytes <= LOW_WATERMARK) {
+                paused = false;
+                resume = true;
+            }
+
+            if (freeBuffers.size() < MAX_FREE_BUFFERS) {
+                buffer.clear();
+                freeBuffers.add(buffer);
+            }
+        }
+
+        if (resume) {
+            connection.resumeReading();
+        }
+    }
+
+    /**
+     * Reports {@code e} to the callback, unless the response is already finished.
+     */
+    private void fail(Throwable e) {
+        if (finished.compareAndSet(false, true)) {
+            resultCallback.onError(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,91 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import org.apache.commons.io.IOUtils;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.ProtocolFamily;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Opens unix domain socket channels with the JDK's own implementation (JDK 16+), without JNA.
+ * <p>
+ * The API is looked up reflectively so that this class can be compiled for and loaded on older JVMs,
+ * use {@link #isSupported()} before connecting.
+ */
+final class UnixDomainSockets {
+
+    @Nullable
+    private static final ProtocolFamily UNIX = lookupProtocolFamily();
+
+    @Nullable
+    private static final Method OPEN_CHANNEL = lookupMethod("java.nio.channels.SocketChannel", "open", ProtocolFamily.class);
+
+    @Nullable
+    private static final Method CREATE_ADDRESS = lookupMethod("java.net.UnixDomainSocketAddress", "of", String.class);
+
+    private UnixDomainSockets() {
+    }
+
+    /**
+     * @return whether the running JVM supports unix domain socket channels
+     */
+    static boolean isSupported() {
+        return UNIX != null && OPEN_CHANNEL != null && CREATE_ADDRESS != null;
+    }
+
+    /**
+     * Connects a blocking channel to the socket at {@code path}.
+     */
+    static SocketChannel connect(String path) throws IOException {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Unix domain socket channels are not supported by this JVM (" + System.getProperty("java.version") + ")");
+        }
+
+        SocketChannel channel = (SocketChannel) invoke(OPEN_CHANNEL, UNIX);
+        try {
+            channel.connect((SocketAddress) invoke(CREATE_ADDRESS, path));
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    private static Object invoke(Method method, Object argument) throws IOException {
+        try {
+            return method.invoke(null, argument);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Nullable
+    private static ProtocolFamily lookupProtocolFamily() {
+        for (StandardProtocolFamily protocolFamily : StandardProtocolFamily.values()) {
+            if ("UNIX".equals(protocolFamily.name())) {
+                return protocolFamily;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Method lookupMethod(String className, String name, Class<?> parameterType) {
+        try {
+            return Class.forName(className).getMethod(name, parameterType);
+        } catch (Exception e) {
+            // Not available (JDK < 16)
+            return null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import okio.BufferedSource;
+import org.testcontainers.dockerclient.transport.FramePayloadConsumer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Splits an attach/logs/exec stream into frames, reusing a single buffer for all of them.
+ * <p>
+ * Callbacks implementing {@link FramePayloadConsumer} get a view of that buffer,
+ * any other callback gets a copy of every payload wrapped in a {@link Frame}.
+ *
+ * @see <a href="https://docs.docker.com/engine/api/v1.37/#operation/ContainerAttach">Stream format</a>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class FrameDemultiplexer implements Consumer<BufferedSource> {
+
+    static final int HEADER_SIZE = 8;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    final ResultCallback<Frame> resultCallback;
+
+    final FramePayloadConsumer payloadConsumer;
+
+    byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+
+    static FrameDemultiplexer forCallback(ResultCallback<Frame> resultCallback) {
+        if (resultCallback instanceof FramePayloadConsumer) {
+            return new FrameDemultiplexer(resultCallback, (FramePayloadConsumer) resultCallback);
+        }
+
+        return new FrameDemultiplexer(
+            resultCallback,
+            (streamType, buffer, offset, length) -> resultCallback.onNext(new Frame(streamType, Arrays.copyOfRange(buffer, offset, offset + length)))
+        );
+    }
+
+    @Override
+    public void accept(BufferedSource source) {
+        try {
+            boolean multiplexed = false;
+            while (source.request(HEADER_SIZE)) {
+                StreamType streamType = streamType(source.buffer().getByte(0));
+                if (streamType == StreamType.RAW) {
+                    // Not multiplexed (TTY enabled), the "header" is already part of the output
+                    readRaw(source);
+                    return;
+                }
+
+                multiplexed = true;
+                source.skip(4);
+                int payloadSize = source.readInt();
+
+                if (!source.request(payloadSize)) {
+                    return;
+                }
+                ensureCapacity(payloadSize);
+                readFully(source, payloadSize);
+
+                payloadConsumer.onFrame(streamType, buffer, 0, payloadSize);
+            }
+
+            if (!multiplexed) {
+                // TTY output shorter than a header
+                readRaw(source);
+            }
+        } catch (Exception e) {
+            resultCallback.onError(e);
+        }
+    }
+
+    private void readRaw(BufferedSource source) throws IOException {
+        int read;
+        while ((read = source.read(buffer, 0, buffer.length)) != -1) {
+            if (read > 0) {
+                payloadConsumer.onFrame(StreamType.RAW, buffer, 0, read);
+            }
+        }
+    }
+
+    private void readFully(BufferedSource source, int byteCount) throws IOException {
+        int offset = 0;
+        while (offset < byteCount) {
+            int read = source.read(buffer, offset, byteCount - offset);
+            if (read == -1) {
+                throw new EOFException();
+            }
+            offset += read;
+        }
+    }
+
+    private void ensureCapacity(int size) {
+        if (buffer.length < size) {
+            buffer = new byte[Math.max(size, buffer.length * 2)];
+        }
+    }
+
+    private static StreamType streamType(byte streamType) {
+        switch (streamType) {
+            case 0:
+                return StreamType.STDIN;
+            case 1:
+                return StreamType.STDOUT;
+            case 2:
+                return StreamType.STDERR;
+            default:
+                return StreamType.RAW;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Headers;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
+import org.apache.commons.io.IOUtils;
+import org.testcontainers.dockerclient.transport.DockerExceptions;
+
+import javax.net.ssl.SSLSocket;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+
+/**
+ * A full-duplex connection to the daemon, used for requests attaching stdin (exec/attach).
+ * <p>
+ * The request is sent with {@code Connection: Upgrade} and {@code Upgrade: tcp}. Once the daemon
+ * switches protocols, the socket carries the (multiplexed) output in one direction and stdin in the other.
+ * Writes block while the daemon doesn't read, so stdin is never buffered beyond a segment.
+ *
+ * @see <a href="https://docs.docker.com/engine/api/v1.37/#operation/ContainerAttach">Hijacking</a>
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+class HijackedConnection implements Closeable {
+
+    Socket socket;
+
+    /**
+     * Output of the attached process
+     */
+    @Getter
+    BufferedSource source;
+
+    BufferedSink sink;
+
+    static HijackedConnection open(OkHttpClient okHttpClient, Request request) throws IOException {
+        Socket socket = connect(okHttpClient, request.url());
+        try {
+            BufferedSource source = Okio.buffer(Okio.source(socket));
+            BufferedSink sink = Okio.buffer(Okio.sink(socket));
+
+            writeRequest(sink, request);
+            readResponseHead(source);
+
+            return new HijackedConnection(socket, source, sink);
+        } catch (IOException | RuntimeException e) {
+            IOUtils.closeQuietly(socket);
+            throw e;
+        }
+    }
+
+    /**
+     * Copy {@code stdin} to the attached process and signal the end of input by closing the write side of the socket.
+     * {@code stdin} itself is left open.
+     */
+    void writeStdin(InputStream stdin) {
+        try {
+            sink.writeAll(Okio.source(stdin));
+            sink.flush();
+            try {
+                socket.shutdownOutput();
+            } catch (IOException | UnsupportedOperationException e) {
+                // e.g. TLS sockets, the process will only see EOF once the connection is closed
+                log.debug("Could not half-close the connection after writing stdin", e);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to write stdin", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+
+    private static Socket connect(OkHttpClient okHttpClient, HttpUrl url) throws IOException {
+        Socket socket = okHttpClient.socketFactory().createSocket();
+        InetAddress address = okHttpClient.dns().lookup(url.host()).get(0);
+        socket.connect(new InetSocketAddress(address, url.port()), okHttpClient.connectTimeoutMillis());
+
+        if (!url.isHttps()) {
+            return socket;
+        }
+
+        SSLSocket sslSocket = (SSLSocket) okHttpClient.sslSocketFactory().createSocket(socket, url.host(), url.port(), true);
+        sslSocket.startHandshake();
+        return sslSocket;
+    }
+
+    private static void writeRequest(BufferedSink sink, Request request) throws IOException {
+        HttpUrl url = request.url();
+        sink.writeUtf8(request.method()).writeUtf8(" ").writeUtf8(url.encodedPath());
+        if (url.encodedQuery() != null) {
+            sink.writeUtf8("?").writeUtf8(url.encodedQuery());
+        }
+        sink.writeUtf8(" HTTP/1.1\r\n");
+
+        sink.writeUtf8("Host: ").writeUtf8(url.host()).writeUtf8("\r\n");
+        Headers headers = request.headers();
+        for (int i = 0; i < headers.size(); i++) {
+            sink.writeUtf8(headers.name(i)).writeUtf8(": ").writeUtf8(headers.value(i)).writeUtf8("\r\n");
+        }
+
+        RequestBody body = request.body();
+        if (body != null) {
+            MediaType contentType = body.contentType();
+            if (contentType != null) {
+                sink.writeUtf8("Content-Type: ").writeUtf8(contentType.toString()).writeUtf8("\r\n");
+            }
+            sink.writeUtf8("Content-Length: ").writeDecimalLong(body.contentLength()).writeUtf8("\r\n");
+        }
+
+        sink.writeUtf8("Connection: Upgrade\r\n");
+        sink.writeUtf8("Upgrade: tcp\r\n");
+        sink.writeUtf8("\r\n");
+
+        if (body != null) {
+            body.writeTo(sink);
+        }
+        sink.flush();
+    }
+
+    private static void readResponseHead(BufferedSource source) throws IOException {
+        int code = parseStatusCode(source.readUtf8LineStrict());
+
+        long contentLength = -1;
+        String header;
+        while (!(header = source.readUtf8LineStrict()).isEmpty()) {
+            int separatorIndex = header.indexOf(':');
+            if (separatorIndex > 0 && "Content-Length".equalsIgnoreCase(header.substring(0, separatorIndex).trim())) {
+                contentLength = Long.parseLong(header.substring(separatorIndex + 1).trim());
+            }
+        }
+
+        switch (code) {
+            case 101: // Switched to a raw stream
+            case 200: // Daemons not supporting the upgrade send the raw stream right away
+                return;
+            default:
+                String body = contentLength >= 0 ? source.readUtf8(contentLength) : source.readUtf8();
+                throw DockerExceptions.fromResponse(code, body);
+        }
+    }
+
+    private static int parseStatusCode(String statusLine) throws ProtocolException {
+        // HTTP/1.1 101 UPGRADED
+        if (!statusLine.startsWith("HTTP/1.") || statusLine.length() < 12) {
+            throw new ProtocolException("Unexpected status line: " + statusLine);
+        }
+        try {
+            return Integer.parseInt(statusLine.substring(9, 12));
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("Unexpected status line: " + statusLine);
+        }
+    }
+}
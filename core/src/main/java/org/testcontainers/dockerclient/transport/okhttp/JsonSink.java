@@ -0,0 +1,43 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.dockerjava.api.async.ResultCallback;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import okio.BufferedSource;
+
+import java.util.function.Consumer;
+
+/**
+ * Decodes a stream of concatenated JSON values (e.g. pull/build progress or events) straight from the response,
+ * using a single {@link JsonParser} for the whole stream. Every value is passed to the callback as soon as it is complete.
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+class JsonSink<T> implements Consumer<BufferedSource> {
+
+    ObjectMapper objectMapper;
+
+    ObjectReader objectReader;
+
+    ResultCallback<T> resultCallback;
+
+    JsonSink(ObjectMapper objectMapper, TypeReference<T> typeReference, ResultCallback<T> resultCallback) {
+        this.objectMapper = objectMapper;
+        this.objectReader = objectMapper.readerFor(typeReference);
+        this.resultCallback = resultCallback;
+    }
+
+    @Override
+    public void accept(BufferedSource source) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(source.inputStream())) {
+            while (parser.nextToken() != null) {
+                resultCallback.onNext(objectReader.readValue(parser));
+            }
+        } catch (Exception e) {
+            resultCallback.onError(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import lombok.Value;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Response;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiEndpoint;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiMetrics;
+
+import java.io.IOException;
+
+/**
+ * Records every call tagged with a {@link PathTemplate} in {@link DockerApiMetrics}.
+ */
+class MetricsEventListener extends EventListener {
+
+    static final EventListener.Factory FACTORY = call -> {
+        PathTemplate pathTemplate = call.request().tag(PathTemplate.class);
+        if (pathTemplate == null) {
+            return EventListener.NONE;
+        }
+        return new MetricsEventListener(new DockerApiEndpoint(call.request().method(), pathTemplate.getValue()));
+    };
+
+    private final DockerApiEndpoint endpoint;
+
+    private volatile DockerApiMetrics.Recorder recorder;
+
+    private volatile boolean failed;
+
+    private MetricsEventListener(DockerApiEndpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    @Override
+    public void callStart(Call call) {
+        recorder = DockerApiMetrics.start(endpoint);
+    }
+
+    @Override
+    public void requestBodyEnd(Call call, long byteCount) {
+        recorder.setBytesSent(byteCount);
+    }
+
+    @Override
+    public void responseHeadersEnd(Call call, Response response) {
+        failed = !response.isSuccessful();
+    }
+
+    @Override
+    public void responseBodyEnd(Call call, long byteCount) {
+        recorder.setBytesReceived(byteCount);
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        recorder.finish(failed);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        recorder.finish(true);
+    }
+
+    /**
+     * Request tag holding the path of the endpoint before the templates got resolved
+     */
+    @Value
+    static class PathTemplate {
+        String value;
+    }
+}
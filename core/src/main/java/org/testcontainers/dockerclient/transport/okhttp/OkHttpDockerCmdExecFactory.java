@@ -8,6 +8,8 @@ import com.github.dockerjava.core.WebTarget;
 import com.github.dockerjava.core.exec.PingCmdExec;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.MultimapBuilder;
+import lombok.Getter;
+import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.ConnectionPool;
@@ -15,6 +17,8 @@ import okhttp3.Dns;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.apache.commons.io.IOUtils;
+import org.testcontainers.dockerclient.transport.StreamExecutor;
+import org.testcontainers.utility.TestcontainersConfiguration;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.X509TrustManager;
@@ -32,8 +36,31 @@ public class OkHttpDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
 
     private OkHttpClient okHttpClient;
 
+    /**
+     * Client for streaming and hijacked requests, which always get a dedicated connection
+     */
+    private OkHttpClient streamingOkHttpClient;
+
     private HttpUrl baseUrl;
 
+    /**
+     * Executor consuming streamed responses and writing attached stdin
+     */
+    @Getter
+    private StreamExecutor streamExecutor = StreamExecutor.getDefault();
+
+    /**
+     * Use the given executor instead of the {@link StreamExecutor#getDefault() default} one
+     * to consume streamed responses and write attached stdin.
+     *
+     * @param streamExecutor the executor to use
+     * @return this
+     */
+    public OkHttpDockerCmdExecFactory withStreamExecutor(@NonNull StreamExecutor streamExecutor) {
+        this.streamExecutor = streamExecutor;
+        return this;
+    }
+
     @Override
     @SneakyThrows
     public void init(DockerClientConfig dockerClientConfig) {
@@ -41,7 +68,8 @@ public class OkHttpDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
 
         OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder()
             .readTimeout(0, TimeUnit.SECONDS)
-            .retryOnConnectionFailure(true);
+            .retryOnConnectionFailure(true)
+            .eventListenerFactory(MetricsEventListener.FACTORY);
 
         URI dockerHost = dockerClientConfig.getDockerHost();
         switch (dockerHost.getScheme()) {
@@ -51,15 +79,16 @@ public class OkHttpDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
 
                 if ("unix".equals(dockerHost.getScheme())) {
                     clientBuilder
-                        .socketFactory(new UnixSocketFactory(socketPath));
+                        .socketFactory(new UnixSocketFactory(socketPath))
+                        .connectionPool(createUnixSocketConnectionPool());
                 } else {
                     clientBuilder
-                        .socketFactory(new NamedPipeSocketFactory(socketPath));
+                        .socketFactory(new NamedPipeSocketFactory(socketPath))
+                        // Disable pooling
+                        .connectionPool(new ConnectionPool(0, 1, TimeUnit.SECONDS));
                 }
 
                 clientBuilder
-                    // Disable pooling
-                    .connectionPool(new ConnectionPool(0, 1, TimeUnit.SECONDS))
                     .dns(hostname -> {
                         if (hostname.endsWith(SOCKET_SUFFIX)) {
                             return Collections.singletonList(InetAddress.getByAddress(hostname, new byte[]{0, 0, 0, 0}));
@@ -81,6 +110,12 @@ public class OkHttpDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
 
         okHttpClient = clientBuilder.build();
 
+        // Streamed responses may never complete and attached stdin writes to the raw socket,
+        // so such connections must not be shared with other calls
+        streamingOkHttpClient = okHttpClient.newBuilder()
+            .connectionPool(new ConnectionPool(0, 1, TimeUnit.SECONDS))
+            .build();
+
         HttpUrl.Builder baseUrlBuilder;
 
         switch (dockerHost.getScheme()) {
@@ -102,12 +137,26 @@ public class OkHttpDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
         baseUrl = baseUrlBuilder.build();
     }
 
+    private static ConnectionPool createUnixSocketConnectionPool() {
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        int poolSize = configuration.getUnixSocketPoolSize();
+        if (poolSize <= 0) {
+            log.debug("Connection pooling is disabled for the unix socket transport");
+            return new ConnectionPool(0, 1, TimeUnit.SECONDS);
+        }
+
+        return new ConnectionPool(poolSize, configuration.getUnixSocketPoolKeepAlive(), TimeUnit.SECONDS);
+    }
+
     @Override
     protected WebTarget getBaseResource() {
         return new OkHttpWebTarget(
             okHttpClient,
+            streamingOkHttpClient,
+            streamExecutor,
             baseUrl,
             ImmutableList.of(),
+            ImmutableList.of(),
             MultimapBuilder.hashKeys().hashSetValues().build()
         );
     }
@@ -130,7 +179,9 @@ public class OkHttpDockerCmdExecFactory extends AbstractDockerCmdExecFactory {
 
     @Override
     public void close() throws IOException {
-
+        if (okHttpClient != null) {
+            okHttpClient.connectionPool().evictAll();
+        }
     }
 
     private static class TrustAllX509TrustManager implements X509TrustManager {
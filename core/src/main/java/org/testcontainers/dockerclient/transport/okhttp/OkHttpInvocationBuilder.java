@@ -4,19 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.dockerjava.api.async.ResultCallback;
-import com.github.dockerjava.api.exception.BadRequestException;
-import com.github.dockerjava.api.exception.ConflictException;
-import com.github.dockerjava.api.exception.DockerException;
-import com.github.dockerjava.api.exception.InternalServerErrorException;
-import com.github.dockerjava.api.exception.NotAcceptableException;
-import com.github.dockerjava.api.exception.NotFoundException;
-import com.github.dockerjava.api.exception.NotModifiedException;
-import com.github.dockerjava.api.exception.UnauthorizedException;
 import com.github.dockerjava.api.model.Frame;
-import com.github.dockerjava.api.model.StreamType;
 import com.github.dockerjava.core.InvocationBuilder;
 import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -26,16 +16,16 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
-import okhttp3.internal.connection.RealConnection;
 import okio.*;
 import org.jetbrains.annotations.Nullable;
-import org.testcontainers.DockerClientFactory;
+import org.testcontainers.dockerclient.transport.DockerExceptions;
+import org.testcontainers.dockerclient.transport.StreamExecutor;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiEndpoint;
+import org.testcontainers.dockerclient.transport.metrics.DockerApiMetrics;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
-import java.util.Objects;
 import java.util.function.Consumer;
 
 @Slf4j
@@ -46,14 +36,24 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
 
     OkHttpClient okHttpClient;
 
+    OkHttpClient streamingOkHttpClient;
+
+    StreamExecutor streamExecutor;
+
+    String pathTemplate;
+
     Request.Builder requestBuilder;
 
-    public OkHttpInvocationBuilder(ObjectMapper objectMapper, OkHttpClient okHttpClient, HttpUrl httpUrl) {
+    public OkHttpInvocationBuilder(ObjectMapper objectMapper, OkHttpClient okHttpClient, OkHttpClient streamingOkHttpClient, StreamExecutor streamExecutor, HttpUrl httpUrl, String pathTemplate) {
         this.objectMapper = objectMapper;
         this.okHttpClient = okHttpClient;
+        this.streamingOkHttpClient = streamingOkHttpClient;
+        this.streamExecutor = streamExecutor;
+        this.pathTemplate = pathTemplate;
 
         requestBuilder = new Request.Builder()
-            .url(httpUrl);
+            .url(httpUrl)
+            .tag(MetricsEventListener.PathTemplate.class, new MetricsEventListener.PathTemplate(pathTemplate));
     }
 
     @Override
@@ -87,7 +87,7 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
         executeAndStream(
             request,
             resultCallback,
-            new FramedSink(resultCallback)
+            FrameDemultiplexer.forCallback(resultCallback)
         );
     }
 
@@ -123,8 +123,7 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
             .build();
 
         try (Response response = execute(request)) {
-            String inputStream = response.body().string();
-            return objectMapper.readValue(inputStream, typeReference);
+            return objectMapper.readValue(response.body().byteStream(), typeReference);
         }
     }
 
@@ -149,42 +148,30 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
             .post(RequestBody.create(MediaType.parse("application/json"), objectMapper.writeValueAsBytes(entity)))
             .build();
 
-        OkHttpClient okHttpClient = this.okHttpClient;
-
-        if (stdin != null) {
-            // FIXME there must be a better way of handling it
-            okHttpClient = okHttpClient.newBuilder()
-                .addNetworkInterceptor(chain -> {
-                    Response response = chain.proceed(chain.request());
-                    if (response.isSuccessful()) {
-                        Thread thread = new Thread() {
-                            @Override
-                            @SneakyThrows
-                            public void run() {
-                                Field sinkField = RealConnection.class.getDeclaredField("sink");
-                                sinkField.setAccessible(true);
-
-                                try (
-                                    BufferedSink sink = (BufferedSink) sinkField.get(chain.connection());
-                                    Source source = Okio.source(stdin);
-                                ) {
-                                    sink.writeAll(source);
-                                }
-                            }
-                        };
-                        thread.start();
-                    }
-                    return response;
-                })
-                .build();
+        if (stdin == null) {
+            executeAndStream(
+                request,
+                resultCallback,
+                FrameDemultiplexer.forCallback(resultCallback)
+            );
+            return;
         }
 
-        executeAndStream(
-            okHttpClient,
-            request,
-            resultCallback,
-            new FramedSink(resultCallback)
-        );
+        // Output and stdin share one upgraded connection, closing the callback closes it
+        streamExecutor.execute(() -> {
+            // Not an OkHttp call, so the metrics listener doesn't see it
+            DockerApiMetrics.Recorder recorder = DockerApiMetrics.start(new DockerApiEndpoint(request.method(), pathTemplate));
+            try (HijackedConnection connection = HijackedConnection.open(streamingOkHttpClient, request)) {
+                resultCallback.onStart(connection);
+                streamExecutor.execute(() -> connection.writeStdin(stdin));
+                FrameDemultiplexer.forCallback(resultCallback).accept(connection.getSource());
+                recorder.finish(false);
+                resultCallback.onComplete();
+            } catch (Exception e) {
+                recorder.finish(true);
+                resultCallback.onError(e);
+            }
+        });
     }
 
     @Override
@@ -247,6 +234,12 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
                     sink.writeAll(source);
                 }
             }
+
+            @Override
+            public boolean isOneShot() {
+                // The stream can't be read again, so OkHttp must not retry the request on a pooled connection
+                return true;
+            }
         };
     }
 
@@ -258,36 +251,19 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
     protected Response execute(OkHttpClient okHttpClient, Request request) {
         Response response = okHttpClient.newCall(request).execute();
         if (!response.isSuccessful()) {
-            String body = response.body().string();
-            switch (response.code()) {
-                case 304:
-                    throw new NotModifiedException(body);
-                case 400:
-                    throw new BadRequestException(body);
-                case 401:
-                    throw new UnauthorizedException(body);
-                case 404:
-                    throw new NotFoundException(body);
-                case 406:
-                    throw new NotAcceptableException(body);
-                case 409:
-                    throw new ConflictException(body);
-                case 500:
-                    throw new InternalServerErrorException(body);
-                default:
-                    throw new DockerException(body, response.code());
-            }
+            throw DockerExceptions.fromResponse(response.code(), response.body().string());
         } else {
             return response;
         }
     }
 
     protected <T> void executeAndStream(Request request, ResultCallback<T> callback, Consumer<BufferedSource> sourceConsumer) {
-        executeAndStream(okHttpClient, request, callback, sourceConsumer);
+        executeAndStream(streamingOkHttpClient, request, callback, sourceConsumer);
     }
 
     protected <T> void executeAndStream(OkHttpClient okHttpClient, Request request, ResultCallback<T> callback, Consumer<BufferedSource> sourceConsumer) {
-        Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, () -> {
+        // The stream is cancelled by closing the callback, which closes the response and releases the thread
+        streamExecutor.execute(() -> {
             try (
                 Response response = execute(okHttpClient, request.newBuilder().tag("streaming").build());
                 BufferedSource source = response.body().source();
@@ -298,86 +274,6 @@ class OkHttpInvocationBuilder implements InvocationBuilder {
             } catch (Exception e) {
                 callback.onError(e);
             }
-        }, "tc-okhttp-stream-" + Objects.hashCode(request));
-        thread.setDaemon(true);
-
-        thread.start();
-    }
-
-    @RequiredArgsConstructor
-    @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
-    private static class JsonSink<T> implements Consumer<BufferedSource> {
-
-        ObjectMapper objectMapper;
-
-        TypeReference<T> typeReference;
-
-        ResultCallback<T> resultCallback;
-
-        @Override
-        public void accept(BufferedSource source) {
-            try {
-                while (true) {
-                    String line = source.readUtf8Line();
-                    if (line == null) {
-                        break;
-                    }
-
-                    resultCallback.onNext(objectMapper.readValue(line, typeReference));
-                }
-            } catch (Exception e) {
-                resultCallback.onError(e);
-            }
-        }
-    }
-
-    @RequiredArgsConstructor
-    @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
-    private static class FramedSink implements Consumer<BufferedSource> {
-
-        private static final int HEADER_SIZE = 8;
-
-        ResultCallback<Frame> resultCallback;
-
-        @Override
-        public void accept(BufferedSource source) {
-            try {
-                while (!source.exhausted()) {
-                    // See https://docs.docker.com/engine/api/v1.37/#operation/ContainerAttach
-                    if(!source.request(HEADER_SIZE)) {
-                        return;
-                    }
-                    StreamType streamType = streamType(source.readByte());
-                    source.skip(3);
-                    int payloadSize = source.readInt();
-
-                    if (streamType != StreamType.RAW) {
-                        if (!source.request(payloadSize)) {
-                            return;
-                        }
-                        byte[] payload = source.readByteArray(payloadSize);
-
-                        resultCallback.onNext(new Frame(streamType, payload));
-                    } else {
-                        resultCallback.onNext(new Frame(streamType, source.readByteArray()));
-                    }
-                }
-            } catch (Exception e) {
-                resultCallback.onError(e);
-            }
-        }
-
-        private static StreamType streamType(byte streamType) {
-            switch (streamType) {
-                case 0:
-                    return StreamType.STDIN;
-                case 1:
-                    return StreamType.STDOUT;
-                case 2:
-                    return StreamType.STDERR;
-                default:
-                    return StreamType.RAW;
-            }
-        }
+        });
     }
 }
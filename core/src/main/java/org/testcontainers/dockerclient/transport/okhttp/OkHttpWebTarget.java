@@ -14,6 +14,7 @@ import lombok.experimental.Wither;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import org.apache.commons.lang.StringUtils;
+import org.testcontainers.dockerclient.transport.StreamExecutor;
 
 import java.util.Collection;
 import java.util.Map;
@@ -30,23 +31,26 @@ class OkHttpWebTarget implements WebTarget {
 
     OkHttpClient okHttpClient;
 
+    OkHttpClient streamingOkHttpClient;
+
+    StreamExecutor streamExecutor;
+
     HttpUrl baseUrl;
 
     ImmutableList<String> path;
 
+    /**
+     * Same as {@link #path}, without resolving the templates. Identifies the endpoint in the metrics
+     */
+    ImmutableList<String> pathTemplate;
+
     SetMultimap<String, String> queryParams;
 
     @Override
     @SneakyThrows
     public InvocationBuilder request() {
-        String resource = StringUtils.join(path, "/");
-
-        if (!resource.startsWith("/")) {
-            resource = "/" + resource;
-        }
-
         HttpUrl.Builder baseUrlBuilder = baseUrl.newBuilder()
-            .encodedPath(resource);
+            .encodedPath(toResource(path));
 
         for (Map.Entry<String, Collection<String>> queryParamEntry : queryParams.asMap().entrySet()) {
             String key = queryParamEntry.getKey();
@@ -58,18 +62,37 @@ class OkHttpWebTarget implements WebTarget {
         return new OkHttpInvocationBuilder(
             MAPPER,
             okHttpClient,
-            baseUrlBuilder.build()
+            streamingOkHttpClient,
+            streamExecutor,
+            baseUrlBuilder.build(),
+            toResource(pathTemplate)
         );
     }
 
+    private static String toResource(ImmutableList<String> path) {
+        String resource = StringUtils.join(path, "/");
+
+        if (!resource.startsWith("/")) {
+            resource = "/" + resource;
+        }
+        return resource;
+    }
+
     @Override
     public OkHttpWebTarget path(String... components) {
-        return this.withPath(
-            ImmutableList.<String>builder()
-                .addAll(path)
-                .add(components)
-                .build()
-        );
+        return this
+            .withPath(
+                ImmutableList.<String>builder()
+                    .addAll(path)
+                    .add(components)
+                    .build()
+            )
+            .withPathTemplate(
+                ImmutableList.<String>builder()
+                    .addAll(pathTemplate)
+                    .add(components)
+                    .build()
+            );
     }
 
     @Override
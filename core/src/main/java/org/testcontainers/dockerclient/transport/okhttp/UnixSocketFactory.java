@@ -14,6 +14,7 @@ import java.io.OutputStream;
 import java.net.InetAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
 
 @Value
 @EqualsAndHashCode(callSuper = false)
@@ -25,14 +26,39 @@ public class UnixSocketFactory extends SocketFactory {
     @SneakyThrows
     public Socket createSocket() {
         return new UnixDomainSocket(socketPath) {
+
+            int soTimeout = 0;
+
             @Override
             public void connect(SocketAddress endpoint, int timeout) throws IOException {
                 // Do nothing since it's not "connectable"
             }
 
+            @Override
+            public void setSoTimeout(int timeout) {
+                soTimeout = timeout;
+            }
+
+            @Override
+            public int getSoTimeout() {
+                return soTimeout;
+            }
+
             @Override
             public InputStream getInputStream() {
                 return new FilterInputStream(super.getInputStream()) {
+
+                    @Override
+                    public int read(byte[] b, int off, int len) throws IOException {
+                        if (soTimeout > 0) {
+                            // Reads from the unix socket can't time out and OkHttp only sets a timeout
+                            // to check that a pooled connection is still alive before reusing it.
+                            // Report it as alive, a stale connection will be retried by OkHttp anyway.
+                            throw new SocketTimeoutException();
+                        }
+                        return in.read(b, off, len);
+                    }
+
                     @Override
                     public void close() throws IOException {
                         shutdownInput();
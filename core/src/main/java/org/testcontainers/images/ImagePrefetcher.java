@@ -0,0 +1,112 @@
+package org.testcontainers.images;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.LazyFuture;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Pulls and builds images in the background, ahead of the containers needing them, so that a suite using many images
+ * doesn't pull them one after another on the critical path of its tests.
+ * <p>
+ * At most {@code pull.prefetch.parallelism} images are pulled or built at the same time. A {@link RemoteDockerImage}
+ * resolved while its image is being prefetched waits for the prefetch (see {@link ImageResolutionCache}) instead of
+ * pulling the image again, and so does a prefetched {@link org.testcontainers.images.builder.ImageFromDockerfile
+ * ImageFromDockerfile} (or any other {@link LazyFuture}) requested while it is being built.
+ * <pre>
+ * ImagePrefetcher.prefetch("postgres:11", "redis:5.0", "confluentinc/cp-kafka:5.2.1");
+ * </pre>
+ */
+@Slf4j
+@UtilityClass
+public class ImagePrefetcher {
+
+    private static final ExecutorService EXECUTOR;
+
+    static {
+        int parallelism = TestcontainersConfiguration.getInstance().getImagePrefetchParallelism();
+        AtomicLong counter = new AtomicLong(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-image-prefetch-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        EXECUTOR = executor;
+    }
+
+    /**
+     * @return a future completed once all the images are pulled, or completed exceptionally if one of them can't be
+     */
+    public static CompletableFuture<Void> prefetch(@NonNull String... imageNames) {
+        return CompletableFuture.allOf(
+            Stream.of(imageNames)
+                .map(imageName -> pull(new DockerImageName(imageName)))
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    /**
+     * @param images images to pull or build, e.g. {@link RemoteDockerImage}s or
+     *               {@link org.testcontainers.images.builder.ImageFromDockerfile ImageFromDockerfile}s
+     * @return a future completed once all the images are available, or completed exceptionally if one of them can't be
+     */
+    public static CompletableFuture<Void> prefetch(@NonNull Collection<? extends Future<String>> images) {
+        return CompletableFuture.allOf(
+            images.stream()
+                .map(ImagePrefetcher::prefetch)
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    /**
+     * @return a future completed with the name of the image once it is available
+     */
+    public static CompletableFuture<String> prefetch(@NonNull Future<String> image) {
+        if (image instanceof RemoteDockerImage) {
+            return pull(((RemoteDockerImage) image).getImageName());
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return image.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                log.warn("Failed to prefetch image {}", image, e.getCause());
+                throw new CompletionException(e.getCause());
+            } catch (RuntimeException e) {
+                log.warn("Failed to prefetch image {}", image, e);
+                throw e;
+            }
+        }, EXECUTOR);
+    }
+
+    private static CompletableFuture<String> pull(DockerImageName imageName) {
+        // Shared with the containers resolving the image, and with the other prefetches of it
+        return ImageResolutionCache.resolveAsync(imageName, EXECUTOR);
+    }
+}
@@ -0,0 +1,157 @@
+package org.testcontainers.images;
+
+import com.google.common.annotations.VisibleForTesting;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Images known to be available locally, and images being pulled, shared by all the threads resolving images.
+ * <p>
+ * Threads resolving the same image at the same time share a single listing and pull. Images found or pulled are cached
+ * until {@link #invalidate(DockerImageName) invalidated}, images which could not be pulled only for
+ * {@code pull.failure.cache.ttl} seconds, so that a failing pull is not retried by every container needing the image.
+ */
+@UtilityClass
+public class ImageResolutionCache {
+
+    private static final ConcurrentMap<DockerImageName, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    private static final Set<DockerImageName> AVAILABLE_IMAGES = Collections.unmodifiableSet(new AbstractSet<DockerImageName>() {
+
+        @Override
+        public boolean contains(Object imageName) {
+            Entry entry = ENTRIES.get(imageName);
+            return entry != null && entry.isAvailable();
+        }
+
+        @Override
+        public Iterator<DockerImageName> iterator() {
+            return ENTRIES.entrySet().stream()
+                .filter(it -> it.getValue().isAvailable())
+                .map(Map.Entry::getKey)
+                .iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) ENTRIES.values().stream().filter(Entry::isAvailable).count();
+        }
+    });
+
+    /**
+     * Pulls the image if it is not available locally yet, or waits for the pull in progress.
+     *
+     * @return the name of the image, once it is available locally
+     * @throws org.testcontainers.containers.ContainerFetchException if the image can't be pulled
+     */
+    public static String resolve(@NonNull DockerImageName imageName) {
+        // The first caller pulls the image on its own thread
+        return AsyncExecutors.join(resolveAsync(imageName, Runnable::run));
+    }
+
+    /**
+     * Forgets the image, which is then listed (and pulled if needed) again the next time it is resolved.
+     * Called when an image is removed.
+     */
+    public static void invalidate(@NonNull DockerImageName imageName) {
+        Entry entry = ENTRIES.get(imageName);
+        // An image being pulled will be available once the pull is done
+        if (entry != null && entry.future.isDone()) {
+            ENTRIES.remove(imageName, entry);
+        }
+    }
+
+    /**
+     * @return a read-only, live view of the images found or pulled
+     */
+    static Set<DockerImageName> availableImages() {
+        return AVAILABLE_IMAGES;
+    }
+
+    /**
+     * @return the resolution of the image in progress or done, or a new one started on {@code executor}
+     */
+    static CompletableFuture<String> resolveAsync(DockerImageName imageName, Executor executor) {
+        return resolveAsync(imageName, executor, RemoteDockerImage::pullIfMissing);
+    }
+
+    @VisibleForTesting
+    static CompletableFuture<String> resolveAsync(DockerImageName imageName, Executor executor, Function<DockerImageName, String> loader) {
+        while (true) {
+            Entry entry = ENTRIES.get(imageName);
+            if (entry != null) {
+                if (!entry.isExpired()) {
+                    return entry.future;
+                }
+                ENTRIES.remove(imageName, entry);
+                continue;
+            }
+
+            Entry created = new Entry();
+            if (ENTRIES.putIfAbsent(imageName, created) == null) {
+                executor.execute(() -> created.load(imageName, loader));
+                return created.future;
+            }
+        }
+    }
+
+    /**
+     * Records images found while listing the local images.
+     */
+    static void available(Collection<DockerImageName> imageNames) {
+        for (DockerImageName imageName : imageNames) {
+            ENTRIES.computeIfAbsent(imageName, __ -> Entry.available(imageName));
+        }
+    }
+
+    private static final class Entry {
+
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        /**
+         * {@link System#nanoTime()} after which a failed resolution is retried, set once it failed
+         */
+        volatile long expiresAtNanos = Long.MAX_VALUE;
+
+        static Entry available(DockerImageName imageName) {
+            Entry entry = new Entry();
+            entry.future.complete(imageName.toString());
+            return entry;
+        }
+
+        void load(DockerImageName imageName, Function<DockerImageName, String> loader) {
+            try {
+                future.complete(loader.apply(imageName));
+            } catch (Throwable e) {
+                long ttl = TimeUnit.SECONDS.toNanos(TestcontainersConfiguration.getInstance().getImagePullFailureCacheTtl());
+                expiresAtNanos = System.nanoTime() + ttl;
+                future.completeExceptionally(e);
+            }
+        }
+
+        boolean isAvailable() {
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+
+        boolean isExpired() {
+            long expiresAt = expiresAtNanos;
+            return expiresAt != Long.MAX_VALUE && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
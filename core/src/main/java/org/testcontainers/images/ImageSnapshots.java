@@ -0,0 +1,149 @@
+package org.testcontainers.images;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.ConflictException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Image;
+import com.google.common.collect.ImmutableMap;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Images committed from provisioned containers (see {@code GenericContainer#withImageSnapshot(boolean)}), tagged with
+ * a hash of everything the container was provisioned from, so that later sessions can start from them instead.
+ */
+@UtilityClass
+@Slf4j
+public class ImageSnapshots {
+
+    public static final String REPOSITORY = "testcontainers/snapshot";
+
+    /**
+     * Label holding the hash a snapshot was committed with
+     */
+    public static final String HASH_LABEL = DockerClientFactory.TESTCONTAINERS_LABEL + ".snapshot.hash";
+
+    /**
+     * Label holding the name of the image the snapshot was provisioned from
+     */
+    public static final String SOURCE_LABEL = DockerClientFactory.TESTCONTAINERS_LABEL + ".snapshot.source";
+
+    /**
+     * @return the name of the snapshot committed with {@code hash}, if any
+     */
+    public static Optional<String> find(String hash) {
+        return client().listImagesCmd()
+            .withLabelFilter(ImmutableMap.of(HASH_LABEL, hash))
+            .exec()
+            .stream()
+            .findFirst()
+            .map(it -> REPOSITORY + ":" + hash);
+    }
+
+    /**
+     * Commits the container into a snapshot, then evicts the snapshots exceeding the configured age and size limits.
+     *
+     * @return the name of the snapshot
+     */
+    public static String commit(String containerId, String hash, String sourceImage) {
+        client().commitCmd(containerId)
+            .withRepository(REPOSITORY)
+            .withTag(hash)
+            .withLabels(ImmutableMap.of(
+                HASH_LABEL, hash,
+                SOURCE_LABEL, sourceImage,
+                // Committed images keep the labels of the container, this one would get the snapshot reaped with the session
+                DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, ""
+            ))
+            .exec();
+
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        try {
+            evict(Duration.ofHours(configuration.getSnapshotMaxAge()), configuration.getSnapshotMaxSize() * 1024L * 1024L);
+        } catch (Exception e) {
+            log.warn("Failed to evict image snapshots", e);
+        }
+
+        return REPOSITORY + ":" + hash;
+    }
+
+    /**
+     * Removes the snapshots older than {@code maxAge}, then the oldest ones until all of them take at most {@code maxSizeBytes}.
+     * Snapshots used by containers are kept.
+     *
+     * @return the number of removed snapshots
+     */
+    public static int evict(Duration maxAge, long maxSizeBytes) {
+        List<Image> snapshots = list();
+        snapshots.sort(Comparator.comparing(Image::getCreated).reversed());
+
+        long minCreatedSeconds = System.currentTimeMillis() / 1000 - maxAge.getSeconds();
+        long totalSize = 0;
+        int removed = 0;
+        for (Image snapshot : snapshots) {
+            // Size includes the layers shared with the source image, so the limit is approximate
+            long size = snapshot.getSize() != null ? snapshot.getSize() : 0;
+            if (snapshot.getCreated() < minCreatedSeconds || totalSize + size > maxSizeBytes) {
+                if (remove(snapshot)) {
+                    removed++;
+                    continue;
+                }
+            }
+            totalSize += size;
+        }
+        return removed;
+    }
+
+    /**
+     * Removes every snapshot which is not used by a container.
+     *
+     * @return the number of removed snapshots
+     */
+    public static int prune() {
+        return (int) list().stream().filter(ImageSnapshots::remove).count();
+    }
+
+    private static List<Image> list() {
+        return client().listImagesCmd()
+            .withLabelFilter(HASH_LABEL)
+            .exec()
+            .stream()
+            .collect(Collectors.toList());
+    }
+
+    private static boolean remove(Image snapshot) {
+        try {
+            log.debug("Removing image snapshot {}", snapshot.getId());
+            client().removeImageCmd(snapshot.getId()).withForce(true).exec();
+            invalidate(snapshot);
+            return true;
+        } catch (ConflictException e) {
+            log.debug("Image snapshot {} is in use, keeping it", snapshot.getId());
+            return false;
+        } catch (NotFoundException e) {
+            invalidate(snapshot);
+            return true;
+        }
+    }
+
+    private static void invalidate(Image snapshot) {
+        if (snapshot.getRepoTags() != null) {
+            for (String repoTag : snapshot.getRepoTags()) {
+                ImageResolutionCache.invalidate(new DockerImageName(repoTag));
+            }
+        }
+    }
+
+    private static DockerClient client() {
+        return DockerClientFactory.instance().client();
+    }
+}
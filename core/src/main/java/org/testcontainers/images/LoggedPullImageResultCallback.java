@@ -115,7 +115,10 @@ class LoggedPullImageResultCallback extends PullImageResultCallback {
         return currentSizes.values().stream().filter(Objects::nonNull).mapToLong(it -> it).sum();
     }
 
-    private long totalLayerSize() {
+    /**
+     * @return the size of the layers pulled so far, which were not already available locally
+     */
+    long totalLayerSize() {
         return totalSizes.values().stream().filter(Objects::nonNull).mapToLong(it -> it).sum();
     }
 }
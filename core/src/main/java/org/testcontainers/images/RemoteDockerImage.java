@@ -4,17 +4,18 @@ import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.ListImagesCmd;
 import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.api.model.Image;
-import com.github.dockerjava.core.command.PullImageResultCallback;
 import lombok.NonNull;
 import lombok.ToString;
 import org.slf4j.Logger;
 import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.ContainerFetchException;
+import org.testcontainers.jfr.FlightRecorderEvent;
+import org.testcontainers.jfr.FlightRecorderEventType;
+import org.testcontainers.jfr.FlightRecorderEvents;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.DockerLoggerFactory;
 import org.testcontainers.utility.LazyFuture;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -25,10 +26,12 @@ import java.util.stream.Stream;
 public class RemoteDockerImage extends LazyFuture<String> {
 
     /**
+     * Read-only view of the images known to be available locally, maintained by {@link ImageResolutionCache}.
+     *
      * @deprecated this field will become private in a later release
      */
     @Deprecated
-    public static final Set<DockerImageName> AVAILABLE_IMAGE_NAME_CACHE = new HashSet<>();
+    public static final Set<DockerImageName> AVAILABLE_IMAGE_NAME_CACHE = ImageResolutionCache.availableImages();
 
     private DockerImageName imageName;
 
@@ -40,19 +43,27 @@ public class RemoteDockerImage extends LazyFuture<String> {
         imageName = new DockerImageName(repository, tag);
     }
 
+    DockerImageName getImageName() {
+        return imageName;
+    }
+
     @Override
     protected final String resolve() {
+        return ImageResolutionCache.resolve(imageName);
+    }
+
+    /**
+     * Lists the local images, and pulls the image if it is not one of them. Called by {@link ImageResolutionCache} once
+     * per image, which records the listed images.
+     *
+     * @return the name of the image, once it is available locally
+     */
+    static String pullIfMissing(DockerImageName imageName) {
         Logger logger = DockerLoggerFactory.getLogger(imageName.toString());
 
         DockerClient dockerClient = DockerClientFactory.instance().client();
         try {
-            // Does our cache already know the image?
-            if (AVAILABLE_IMAGE_NAME_CACHE.contains(imageName)) {
-                logger.trace("{} is already in image name cache", imageName);
-                return imageName.toString();
-            }
-
-            // Update the cache
+            // Lists the local images, all of them are cached
             ListImagesCmd listImagesCmd = dockerClient.listImagesCmd();
 
             if (Boolean.parseBoolean(System.getProperty("useFilter"))) {
@@ -60,33 +71,37 @@ public class RemoteDockerImage extends LazyFuture<String> {
             }
 
             List<Image> updatedImages = listImagesCmd.exec();
-            updatedImages.stream()
+            Set<DockerImageName> availableImageNames = updatedImages.stream()
                 .map(Image::getRepoTags)
                 .filter(Objects::nonNull)
                 .flatMap(Stream::of)
                 .map(DockerImageName::new)
-                .collect(Collectors.toCollection(() -> AVAILABLE_IMAGE_NAME_CACHE));
+                .collect(Collectors.toSet());
+            ImageResolutionCache.available(availableImageNames);
 
             // And now?
-            if (AVAILABLE_IMAGE_NAME_CACHE.contains(imageName)) {
-                logger.trace("{} is in image name cache following listing of images", imageName);
+            if (availableImageNames.contains(imageName)) {
+                logger.trace("{} is available locally", imageName);
                 return imageName.toString();
             }
 
             logger.info("Pulling docker image: {}. Please be patient; this may take some time but only needs to be done once.", imageName);
 
             // The image is not available locally - pull it
+            FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.IMAGE_PULL).withImage(imageName.toString());
+            final TimeLimitedLoggedPullImageResultCallback callback = new TimeLimitedLoggedPullImageResultCallback(logger);
             try {
-                final PullImageResultCallback callback = new TimeLimitedLoggedPullImageResultCallback(logger);
                 dockerClient
                     .pullImageCmd(imageName.getUnversionedPart())
                     .withTag(imageName.getVersionPart())
                     .exec(callback);
                 callback.awaitCompletion();
-                AVAILABLE_IMAGE_NAME_CACHE.add(imageName);
             } catch (Exception e) {
+                event.withFailed(true);
                 logger.error("Failed to pull image: {}. Please check output of `docker pull {}`", imageName, imageName);
                 throw new ContainerFetchException("Failed to pull image: " + imageName, e);
+            } finally {
+                event.withBytesReceived(callback.totalLayerSize()).commit();
             }
 
             return imageName.toString();
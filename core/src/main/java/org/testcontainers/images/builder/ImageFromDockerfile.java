@@ -2,10 +2,8 @@ package org.testcontainers.images.builder;
 
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.BuildImageCmd;
-import com.github.dockerjava.api.exception.DockerClientException;
 import com.github.dockerjava.api.model.BuildResponseItem;
 import com.github.dockerjava.core.command.BuildImageResultCallback;
-import com.google.common.collect.Sets;
 import lombok.Cleanup;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +12,9 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.jfr.FlightRecorderEvent;
+import org.testcontainers.jfr.FlightRecorderEventType;
+import org.testcontainers.jfr.FlightRecorderEvents;
 import org.testcontainers.images.builder.traits.BuildContextBuilderTrait;
 import org.testcontainers.images.builder.traits.ClasspathTrait;
 import org.testcontainers.images.builder.traits.DockerfileTrait;
@@ -22,6 +23,7 @@ import org.testcontainers.images.builder.traits.StringsTrait;
 import org.testcontainers.utility.Base58;
 import org.testcontainers.utility.DockerLoggerFactory;
 import org.testcontainers.utility.LazyFuture;
+import org.testcontainers.utility.ResourceReaper;
 
 import java.io.IOException;
 import java.io.PipedInputStream;
@@ -30,7 +32,6 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
 @Slf4j
@@ -42,26 +43,6 @@ public class ImageFromDockerfile extends LazyFuture<String> implements
         StringsTrait<ImageFromDockerfile>,
         DockerfileTrait<ImageFromDockerfile> {
 
-    private static final Set<String> imagesToDelete = Sets.newConcurrentHashSet();
-
-    static {
-        Runtime.getRuntime().addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, () -> {
-            DockerClient dockerClientForCleaning = DockerClientFactory.instance().client();
-            try {
-                for (String dockerImageName : imagesToDelete) {
-                    log.info("Removing image tagged {}", dockerImageName);
-                    try {
-                        dockerClientForCleaning.removeImageCmd(dockerImageName).withForce(true).exec();
-                    } catch (Throwable e) {
-                        log.warn("Unable to delete image " + dockerImageName, e);
-                    }
-                }
-            } catch (DockerClientException e) {
-                throw new RuntimeException(e);
-            }
-        }));
-    }
-
     private final String dockerImageName;
 
     private boolean deleteOnExit = true;
@@ -100,9 +81,10 @@ public class ImageFromDockerfile extends LazyFuture<String> implements
         Logger logger = DockerLoggerFactory.getLogger(dockerImageName);
 
         DockerClient dockerClient = DockerClientFactory.instance().client();
+        FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.IMAGE_BUILD).withImage(dockerImageName);
         try {
             if (deleteOnExit) {
-                imagesToDelete.add(dockerImageName);
+                ResourceReaper.instance().registerImageForCleanup(dockerImageName);
             }
 
             BuildImageResultCallback resultCallback = new BuildImageResultCallback() {
@@ -142,6 +124,7 @@ public class ImageFromDockerfile extends LazyFuture<String> implements
                 tarArchive.finish();
             }
 
+            event.withBytesSent(bytesToDockerDaemon);
             log.info("Transferred {} KB to Docker daemon", FileUtils.byteCountToDisplaySize(bytesToDockerDaemon));
             if (bytesToDockerDaemon > FileUtils.ONE_MB * 50) // warn if >50MB sent to docker daemon
                 log.warn("A large amount of data was sent to the Docker daemon ({}). Consider using a .dockerignore file for better performance.",
@@ -151,7 +134,13 @@ public class ImageFromDockerfile extends LazyFuture<String> implements
 
             return dockerImageName;
         } catch(IOException e) {
+            event.withFailed(true);
             throw new RuntimeException("Can't close DockerClient", e);
+        } catch (RuntimeException e) {
+            event.withFailed(true);
+            throw e;
+        } finally {
+            event.commit();
         }
     }
 
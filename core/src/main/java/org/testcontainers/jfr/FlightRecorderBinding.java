@@ -0,0 +1,149 @@
+package org.testcontainers.jfr;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Defines the {@link FlightRecorderEventType event types} with {@code jdk.jfr.EventFactory} and creates their events,
+ * all through reflection so that Testcontainers can be compiled for and run on JVMs without JFR.
+ */
+@Slf4j
+final class FlightRecorderBinding {
+
+    private static final String CATEGORY = "Testcontainers";
+
+    private final Method isInitialized;
+
+    private final Method newEvent;
+
+    private final Method isEnabled;
+
+    private final Method begin;
+
+    private final Method end;
+
+    private final Method set;
+
+    private final Method commit;
+
+    /**
+     * Event factories, indexed by the ordinal of their type
+     */
+    private final Object[] factories;
+
+    private FlightRecorderBinding(ClassLoader classLoader) throws Exception {
+        Class<?> flightRecorderClass = Class.forName("jdk.jfr.FlightRecorder", true, classLoader);
+        Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", true, classLoader);
+        Class<?> eventClass = Class.forName("jdk.jfr.Event", true, classLoader);
+        Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", true, classLoader);
+        Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", true, classLoader);
+
+        isInitialized = flightRecorderClass.getMethod("isInitialized");
+        newEvent = eventFactoryClass.getMethod("newEvent");
+        isEnabled = eventClass.getMethod("isEnabled");
+        begin = eventClass.getMethod("begin");
+        end = eventClass.getMethod("end");
+        set = eventClass.getMethod("set", int.class, Object.class);
+        commit = eventClass.getMethod("commit");
+
+        Constructor<?> annotationElement = annotationElementClass.getConstructor(Class.class, Object.class);
+        Constructor<?> valueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+        Class<? extends Annotation> nameAnnotation = annotation(classLoader, "jdk.jfr.Name");
+        Class<? extends Annotation> labelAnnotation = annotation(classLoader, "jdk.jfr.Label");
+        Class<? extends Annotation> descriptionAnnotation = annotation(classLoader, "jdk.jfr.Description");
+        Class<? extends Annotation> categoryAnnotation = annotation(classLoader, "jdk.jfr.Category");
+        Class<? extends Annotation> dataAmountAnnotation = annotation(classLoader, "jdk.jfr.DataAmount");
+
+        // In the order of the values passed to set(int, Object) by commit()
+        List<Object> fields = Arrays.asList(
+            valueDescriptor.newInstance(String.class, "containerId", Collections.singletonList(annotationElement.newInstance(labelAnnotation, "Container ID"))),
+            valueDescriptor.newInstance(String.class, "image", Collections.singletonList(annotationElement.newInstance(labelAnnotation, "Image"))),
+            valueDescriptor.newInstance(String.class, "detail", Collections.singletonList(annotationElement.newInstance(labelAnnotation, "Detail"))),
+            valueDescriptor.newInstance(long.class, "bytesSent", Arrays.asList(
+                annotationElement.newInstance(labelAnnotation, "Bytes Sent"),
+                annotationElement.newInstance(dataAmountAnnotation, "BYTES")
+            )),
+            valueDescriptor.newInstance(long.class, "bytesReceived", Arrays.asList(
+                annotationElement.newInstance(labelAnnotation, "Bytes Received"),
+                annotationElement.newInstance(dataAmountAnnotation, "BYTES")
+            )),
+            valueDescriptor.newInstance(boolean.class, "failed", Collections.singletonList(annotationElement.newInstance(labelAnnotation, "Failed")))
+        );
+
+        Method create = eventFactoryClass.getMethod("create", List.class, List.class);
+        FlightRecorderEventType[] types = FlightRecorderEventType.values();
+        factories = new Object[types.length];
+        for (FlightRecorderEventType type : types) {
+            List<Object> annotations = new ArrayList<>();
+            annotations.add(annotationElement.newInstance(nameAnnotation, type.getName()));
+            annotations.add(annotationElement.newInstance(labelAnnotation, type.getLabel()));
+            annotations.add(annotationElement.newInstance(descriptionAnnotation, type.getDescription()));
+            annotations.add(annotationElement.newInstance(categoryAnnotation, new String[]{CATEGORY}));
+            factories[type.ordinal()] = create.invoke(null, annotations, fields);
+        }
+    }
+
+    @Nullable
+    static FlightRecorderBinding create() {
+        try {
+            ClassLoader classLoader = FlightRecorderBinding.class.getClassLoader();
+            Class<?> flightRecorderClass = Class.forName("jdk.jfr.FlightRecorder", true, classLoader);
+            if (!(boolean) flightRecorderClass.getMethod("isAvailable").invoke(null)) {
+                log.debug("Java Flight Recorder is not available, no events will be recorded");
+                return null;
+            }
+            return new FlightRecorderBinding(classLoader);
+        } catch (Throwable e) {
+            // Not available (JDK 8 before update 262, or JVMs built without JFR)
+            log.debug("Java Flight Recorder is not supported, no events will be recorded", e);
+            return null;
+        }
+    }
+
+    FlightRecorderEvent begin(FlightRecorderEventType type) {
+        try {
+            // No recording was ever started, avoids creating events which would never be enabled
+            if (!(boolean) isInitialized.invoke(null)) {
+                return FlightRecorderEvent.DISABLED;
+            }
+
+            Object event = newEvent.invoke(factories[type.ordinal()]);
+            if (!(boolean) isEnabled.invoke(event)) {
+                return FlightRecorderEvent.DISABLED;
+            }
+            begin.invoke(event);
+            return new FlightRecorderEvent(this, event);
+        } catch (Exception e) {
+            log.debug("Failed to begin {} event", type, e);
+            return FlightRecorderEvent.DISABLED;
+        }
+    }
+
+    void commit(Object event, String containerId, String image, String detail, long bytesSent, long bytesReceived, boolean failed) {
+        try {
+            end.invoke(event);
+            set.invoke(event, 0, containerId);
+            set.invoke(event, 1, image);
+            set.invoke(event, 2, detail);
+            set.invoke(event, 3, bytesSent);
+            set.invoke(event, 4, bytesReceived);
+            set.invoke(event, 5, failed);
+            commit.invoke(event);
+        } catch (Exception e) {
+            log.debug("Failed to commit event", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(ClassLoader classLoader, String name) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(name, true, classLoader);
+    }
+}
@@ -0,0 +1,104 @@
+package org.testcontainers.jfr;
+
+/**
+ * An event begun with {@link FlightRecorderEvents#begin(FlightRecorderEventType)}, recorded when {@link #commit() committed}.
+ * <p>
+ * Setters do nothing when the event is not recorded, e.g. on JVMs without Java Flight Recorder or when no recording
+ * enables the event type.
+ */
+public final class FlightRecorderEvent {
+
+    static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null, null);
+
+    private final FlightRecorderBinding binding;
+
+    private final Object event;
+
+    private String containerId;
+
+    private String image;
+
+    private String detail;
+
+    private long bytesSent;
+
+    private long bytesReceived;
+
+    private boolean failed;
+
+    private boolean committed;
+
+    FlightRecorderEvent(FlightRecorderBinding binding, Object event) {
+        this.binding = binding;
+        this.event = event;
+    }
+
+    /**
+     * @return whether the event is recorded, e.g. to skip the computation of its values
+     */
+    public boolean isEnabled() {
+        return event != null;
+    }
+
+    public FlightRecorderEvent withContainerId(String containerId) {
+        if (event == null) {
+            // DISABLED is shared by all the threads
+            return this;
+        }
+        this.containerId = containerId;
+        return this;
+    }
+
+    public FlightRecorderEvent withImage(String image) {
+        if (event == null) {
+            return this;
+        }
+        this.image = image;
+        return this;
+    }
+
+    /**
+     * @param detail what the event is about, e.g. the executed command, the copied path or the requested endpoint
+     */
+    public FlightRecorderEvent withDetail(String detail) {
+        if (event == null) {
+            return this;
+        }
+        this.detail = detail;
+        return this;
+    }
+
+    public FlightRecorderEvent withBytesSent(long bytesSent) {
+        if (event == null) {
+            return this;
+        }
+        this.bytesSent = bytesSent;
+        return this;
+    }
+
+    public FlightRecorderEvent withBytesReceived(long bytesReceived) {
+        if (event == null) {
+            return this;
+        }
+        this.bytesReceived = bytesReceived;
+        return this;
+    }
+
+    public FlightRecorderEvent withFailed(boolean failed) {
+        if (event == null) {
+            return this;
+        }
+        this.failed = failed;
+        return this;
+    }
+
+    /**
+     * Ends the event and records it. Only the first invocation has an effect.
+     */
+    public void commit() {
+        if (event != null && !committed) {
+            committed = true;
+            binding.commit(event, containerId, image, detail, bytesSent, bytesReceived, failed);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.testcontainers.jfr;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Types of the Java Flight Recorder events emitted by Testcontainers, all in the {@code Testcontainers} category.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum FlightRecorderEventType {
+
+    IMAGE_PULL("org.testcontainers.ImagePull", "Image Pull", "Pulling an image"),
+
+    IMAGE_BUILD("org.testcontainers.ImageBuild", "Image Build", "Building an image, bytes sent are the size of the build context"),
+
+    CONTAINER_CREATE("org.testcontainers.ContainerCreate", "Container Create", "Creating a container"),
+
+    CONTAINER_START("org.testcontainers.ContainerStart", "Container Start", "Starting a container"),
+
+    CONTAINER_WAIT("org.testcontainers.ContainerWait", "Container Wait", "Waiting for a container to be ready, with its startup check and wait strategies"),
+
+    CONTAINER_EXEC("org.testcontainers.ContainerExec", "Container Exec", "Running a command in a container"),
+
+    CONTAINER_COPY("org.testcontainers.ContainerCopy", "Container Copy", "Copying files to or from a container"),
+
+    CONTAINER_STOP("org.testcontainers.ContainerStop", "Container Stop", "Stopping and removing a container"),
+
+    DOCKER_API_REQUEST("org.testcontainers.DockerApiRequest", "Docker API Request", "A request to the Docker API, until its response is consumed");
+
+    private final String name;
+
+    private final String label;
+
+    private final String description;
+}
@@ -0,0 +1,40 @@
+package org.testcontainers.jfr;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Entry point of the Java Flight Recorder events emitted by Testcontainers, e.g.
+ * <pre>
+ * FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.CONTAINER_START).withContainerId(containerId);
+ * try {
+ *     ...
+ * } finally {
+ *     event.commit();
+ * }
+ * </pre>
+ * The JFR API is only used reflectively, so that events are no-ops on JVMs without it.
+ */
+@UtilityClass
+public class FlightRecorderEvents {
+
+    @Nullable
+    private static final FlightRecorderBinding BINDING = FlightRecorderBinding.create();
+
+    /**
+     * @return whether the running JVM supports Java Flight Recorder
+     */
+    public static boolean isSupported() {
+        return BINDING != null;
+    }
+
+    /**
+     * Begins an event, which is a no-op unless a recording enables its type.
+     */
+    public static FlightRecorderEvent begin(FlightRecorderEventType type) {
+        if (BINDING == null) {
+            return FlightRecorderEvent.DISABLED;
+        }
+        return BINDING.begin(type);
+    }
+}
@@ -1,7 +1,10 @@
 package org.testcontainers.lifecycle;
 
+import org.testcontainers.utility.AsyncExecutors;
+
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface Startable extends AutoCloseable {
 
@@ -11,6 +14,15 @@ public interface Startable extends AutoCloseable {
 
     void start();
 
+    /**
+     * Starts without blocking the calling thread. By default, {@link #start()} is called on a dedicated thread.
+     *
+     * @return a {@link CompletableFuture} that resolves once started
+     */
+    default CompletableFuture<Void> startAsync() {
+        return CompletableFuture.runAsync(this::start, AsyncExecutors.getBlockingExecutor());
+    }
+
     void stop();
 
     @Override
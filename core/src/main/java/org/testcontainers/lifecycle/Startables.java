@@ -5,25 +5,12 @@ import lombok.experimental.UtilityClass;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 @UtilityClass
 public class Startables {
 
-    private static final Executor EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
-
-        private final AtomicLong COUNTER = new AtomicLong(0);
-
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread thread = new Thread(r, "testcontainers-lifecycle-" + COUNTER.getAndIncrement());
-            thread.setDaemon(true);
-            return thread;
-        }
-    });
-
     /**
      * @see #deepStart(Stream)
      */
@@ -46,6 +33,9 @@ public class Startables {
      * If we would call blocking {@link Startable#start()}, "e" would wait for "b", "b" for "a", and only then "c", and then "d".
      * But, since "c" and "d" are independent from "a", there is no point in waiting for "a" to be resolved first.
      *
+     * Each {@link Startable} is started with {@link Startable#startAsync()}, so that containers waiting to be ready don't
+     * hold a thread each.
+     *
      * @param startables a {@link Stream} of {@link Startable}s to start and scan for transitive dependencies.
      * @return a {@link CompletableFuture} that resolves once all {@link Startable}s have started.
      */
@@ -64,7 +54,7 @@ public class Startables {
                 // avoid a recursive update in `computeIfAbsent`
                 Map<Startable, CompletableFuture<Void>> subStarted = new HashMap<>(started);
                 CompletableFuture<Void> future = started.computeIfAbsent(it, startable -> {
-                    return deepStart(subStarted, startable.getDependencies().stream()).thenRunAsync(startable::start, EXECUTOR);
+                    return deepStart(subStarted, startable.getDependencies().stream()).thenCompose(__ -> startable.startAsync());
                 });
                 started.putAll(subStarted);
                 return future;
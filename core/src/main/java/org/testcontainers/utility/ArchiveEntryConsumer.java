@@ -0,0 +1,18 @@
+package org.testcontainers.utility;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+
+import java.io.InputStream;
+
+/**
+ * Visits the entries of an archive copied from a container, in the order they are received.
+ */
+@FunctionalInterface
+public interface ArchiveEntryConsumer {
+
+    /**
+     * @param entry   the header of the entry, named relative to the parent of the copied path
+     * @param content the content of the entry, only readable during the call
+     */
+    void accept(TarArchiveEntry entry, InputStream content) throws Exception;
+}
@@ -0,0 +1,77 @@
+package org.testcontainers.utility;
+
+import com.google.common.collect.ImmutableList;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the entries of an archive copied from a container by their path relative to the copied directory,
+ * using the {@code glob} syntax of {@link java.nio.file.FileSystem#getPathMatcher(String)}, e.g. {@code **}{@code /*.xml}.
+ * <p>
+ * An entry is selected if it matches one of the includes (or if there are none) and none of the excludes.
+ */
+@EqualsAndHashCode(of = {"includes", "excludes"})
+@ToString(of = {"includes", "excludes"})
+public final class ArchiveEntryFilter {
+
+    public static final ArchiveEntryFilter ALL = new ArchiveEntryFilter(ImmutableList.of(), ImmutableList.of());
+
+    private final List<String> includes;
+
+    private final List<String> excludes;
+
+    private final List<PathMatcher> includeMatchers;
+
+    private final List<PathMatcher> excludeMatchers;
+
+    private ArchiveEntryFilter(List<String> includes, List<String> excludes) {
+        this.includes = includes;
+        this.excludes = excludes;
+        this.includeMatchers = toMatchers(includes);
+        this.excludeMatchers = toMatchers(excludes);
+    }
+
+    /**
+     * @return a filter which only selects the entries matching one of {@code globs}
+     */
+    public static ArchiveEntryFilter include(String... globs) {
+        return ALL.withIncludes(globs);
+    }
+
+    /**
+     * @return a filter which selects the entries matching none of {@code globs}
+     */
+    public static ArchiveEntryFilter exclude(String... globs) {
+        return ALL.withExcludes(globs);
+    }
+
+    public ArchiveEntryFilter withIncludes(String... globs) {
+        return new ArchiveEntryFilter(ImmutableList.<String>builder().addAll(includes).add(globs).build(), excludes);
+    }
+
+    public ArchiveEntryFilter withExcludes(String... globs) {
+        return new ArchiveEntryFilter(includes, ImmutableList.<String>builder().addAll(excludes).add(globs).build());
+    }
+
+    /**
+     * @param relativePath path of the entry relative to the copied directory
+     */
+    public boolean accepts(Path relativePath) {
+        if (!includeMatchers.isEmpty() && includeMatchers.stream().noneMatch(it -> it.matches(relativePath))) {
+            return false;
+        }
+        return excludeMatchers.stream().noneMatch(it -> it.matches(relativePath));
+    }
+
+    private static List<PathMatcher> toMatchers(List<String> globs) {
+        return globs.stream()
+            .map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob))
+            .collect(Collectors.toList());
+    }
+}
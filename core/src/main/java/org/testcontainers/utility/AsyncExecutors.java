@@ -0,0 +1,129 @@
+package org.testcontainers.utility;
+
+import lombok.experimental.UtilityClass;
+import org.testcontainers.DockerClientFactory;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executors shared by the asynchronous startups of containers (see {@code GenericContainer#startAsync()}).
+ * <p>
+ * The {@link #getScheduler() scheduler} has a few threads, configured with {@code startup.scheduler.threads}, which run
+ * the timers and the short steps of the startups: waiting for a container never holds one of its threads, and nothing
+ * running on it blocks. Asynchronous readiness probes, which call Docker or the container, run on the
+ * {@link #getProbeExecutor() probe executor}, bounded by {@code wait.poll.concurrency}. Work which may block for long,
+ * such as lifecycle methods and wait strategies which are not asynchronous, runs on the
+ * {@link #getBlockingExecutor() blocking executor} instead, which has a thread per task.
+ */
+@UtilityClass
+public class AsyncExecutors {
+
+    private static final ScheduledExecutorService SCHEDULER;
+
+    private static final ExecutorService PROBE_EXECUTOR;
+
+    private static final ExecutorService BLOCKING_EXECUTOR;
+
+    static {
+        AtomicLong schedulerCounter = new AtomicLong(0);
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(
+            TestcontainersConfiguration.getInstance().getStartupSchedulerThreads(),
+            runnable -> {
+                Thread thread = new SchedulerThread(runnable, "testcontainers-scheduler-" + schedulerCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        scheduler.setRemoveOnCancelPolicy(true);
+        SCHEDULER = scheduler;
+
+        int probeThreads = Math.max(1, TestcontainersConfiguration.getInstance().getPollMaxConcurrency());
+        AtomicLong probeCounter = new AtomicLong(0);
+        ThreadPoolExecutor probeExecutor = new ThreadPoolExecutor(
+            probeThreads,
+            probeThreads,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-probe-" + probeCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        probeExecutor.allowCoreThreadTimeOut(true);
+        PROBE_EXECUTOR = probeExecutor;
+
+        AtomicLong blockingCounter = new AtomicLong(0);
+        BLOCKING_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-lifecycle-" + blockingCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static ScheduledExecutorService getScheduler() {
+        return SCHEDULER;
+    }
+
+    /**
+     * @return the executor running the readiness probes, which block while calling Docker or the container
+     */
+    public static Executor getProbeExecutor() {
+        return PROBE_EXECUTOR;
+    }
+
+    public static Executor getBlockingExecutor() {
+        return BLOCKING_EXECUTOR;
+    }
+
+    /**
+     * @return whether the current thread belongs to the {@link #getScheduler() scheduler}, so that it must not wait for
+     * other startups, which may need the scheduler's threads to progress
+     */
+    public static boolean isSchedulerThread() {
+        return Thread.currentThread() instanceof SchedulerThread;
+    }
+
+    /**
+     * Waits for {@code stage} and rethrows its unchecked failures as they are, instead of wrapped in a {@link CompletionException}.
+     */
+    public static <T> T join(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return the actual failure of a stage, without the {@link CompletionException} wrapping it in dependent stages
+     */
+    public static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static final class SchedulerThread extends Thread {
+
+        SchedulerThread(Runnable runnable, String name) {
+            super(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, name);
+        }
+    }
+}
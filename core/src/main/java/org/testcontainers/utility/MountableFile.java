@@ -8,19 +8,23 @@ import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
 import org.apache.commons.lang.SystemUtils;
 import org.jetbrains.annotations.NotNull;
-import org.testcontainers.DockerClientFactory;
 import org.testcontainers.images.builder.Transferable;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.Set;
@@ -28,7 +32,6 @@ import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import static lombok.AccessLevel.PACKAGE;
-import static org.testcontainers.utility.PathUtils.recursiveDeleteDir;
 
 /**
  * An abstraction over files and classpath resources aimed at encapsulating all the complexity of generating
@@ -281,7 +284,7 @@ public class MountableFile implements Transferable {
     }
 
     private void deleteOnExit(final Path path) {
-        Runtime.getRuntime().addShutdownHook(new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, () -> recursiveDeleteDir(path)));
+        ResourceReaper.instance().registerPathForCleanup(path);
     }
 
     /**
@@ -292,6 +295,24 @@ public class MountableFile implements Transferable {
         recursiveTar(destinationPathInTar, this.getResolvedPath(), this.getResolvedPath(), outputStream);
     }
 
+    /**
+     * Copies exactly {@code size} bytes (the size declared in the entry header) through a {@link FileChannel},
+     * so that arbitrarily large files are copied with a constant amount of memory.
+     */
+    private static void copyFileContent(Path file, long size, OutputStream outputStream) throws IOException {
+        WritableByteChannel target = Channels.newChannel(outputStream);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            while (position < size) {
+                long transferred = channel.transferTo(position, size - position, target);
+                if (transferred <= 0 && position >= channel.size()) {
+                    throw new IOException("File " + file + " was truncated while being copied");
+                }
+                position += transferred;
+            }
+        }
+    }
+
     /*
      * Recursively copies a file/directory into a TarArchiveOutputStream
      */
@@ -315,7 +336,7 @@ public class MountableFile implements Transferable {
             tarArchive.putArchiveEntry(tarEntry);
 
             if (sourceFile.isFile()) {
-                Files.copy(sourceFile.toPath(), tarArchive);
+                copyFileContent(sourceFile.toPath(), tarEntry.getSize(), tarArchive);
             }
             // a directory entry merely needs to exist in the TAR file - there is no data stored yet
             tarArchive.closeArchiveEntry();
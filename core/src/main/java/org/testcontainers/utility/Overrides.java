@@ -0,0 +1,34 @@
+package org.testcontainers.utility;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tells whether subclasses override blocking extension points, which asynchronous code paths must then keep calling.
+ */
+@UtilityClass
+public class Overrides {
+
+    private static final Map<List<Object>, Boolean> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * @return whether {@code type}, or one of its superclasses below {@code base}, declares the method {@code name}
+     */
+    public static boolean isOverridden(Class<?> type, Class<?> base, String name, Class<?>... parameterTypes) {
+        return CACHE.computeIfAbsent(Arrays.asList(type, base, name, Arrays.asList(parameterTypes)), __ -> {
+            for (Class<?> current = type; current != null && current != base; current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod(name, parameterTypes);
+                    return true;
+                } catch (NoSuchMethodException e) {
+                    // Not declared at this level
+                }
+            }
+            return false;
+        });
+    }
+}
@@ -0,0 +1,275 @@
+package org.testcontainers.utility;
+
+import lombok.Getter;
+import org.rnorth.ducttape.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Schedules readiness probes: every waiting target gets its own {@link Schedule}, which probes quickly at first and then
+ * backs off exponentially (with jitter, so that targets started together don't probe in lockstep), while the number of
+ * probes running at the same time is capped for the whole JVM.
+ * <p>
+ * The blocking variants probe on the calling thread. The asynchronous variants run the probes on
+ * {@link AsyncExecutors#getProbeExecutor()} and schedule the next ones on {@link AsyncExecutors#getScheduler()} instead
+ * of sleeping, so that waiting targets don't hold a thread, and a probe which hangs doesn't delay the timers of the other
+ * targets.
+ */
+public class PollingScheduler {
+
+    private static final double MULTIPLIER = 1.5;
+
+    private static final double JITTER = 0.2;
+
+    private static final PollingScheduler DEFAULT = new PollingScheduler(
+        Duration.ofMillis(TestcontainersConfiguration.getInstance().getPollInitialInterval()),
+        Duration.ofMillis(TestcontainersConfiguration.getInstance().getPollMaxInterval()),
+        TestcontainersConfiguration.getInstance().getPollMaxConcurrency()
+    );
+
+    private final long initialIntervalNanos;
+
+    private final long maxIntervalNanos;
+
+    @Getter
+    private final int maxConcurrency;
+
+    private final Semaphore permits;
+
+    public PollingScheduler(Duration initialInterval, Duration maxInterval, int maxConcurrency) {
+        this.initialIntervalNanos = initialInterval.toNanos();
+        this.maxIntervalNanos = Math.max(initialIntervalNanos, maxInterval.toNanos());
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency), true);
+    }
+
+    /**
+     * @return the scheduler configured with {@code wait.poll.*}
+     */
+    public static PollingScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    public Schedule newSchedule() {
+        return new Schedule();
+    }
+
+    /**
+     * Runs {@code probe} once a slot is available.
+     */
+    public <T> T probe(Callable<T> probe) throws Exception {
+        permits.acquire();
+        try {
+            return probe.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Runs {@code probe} on the {@link AsyncExecutors#getProbeExecutor() probe executor} once a slot is available, without
+     * blocking a thread while waiting for it. The future is completed on the {@link AsyncExecutors#getScheduler() scheduler}.
+     */
+    public <T> CompletableFuture<T> probeAsync(Callable<T> probe) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AsyncExecutors.getScheduler().execute(() -> runProbe(probe, result));
+        return result;
+    }
+
+    /**
+     * Like {@link #probeAsync(Callable)}, failed with a {@link TimeoutException} once {@code deadlineNanos} (compared to
+     * {@link System#nanoTime()}) has passed. A probe still running at the deadline is interrupted, and its slot is
+     * released even if it doesn't return.
+     */
+    public <T> CompletableFuture<T> probeAsync(Callable<T> probe, long deadlineNanos) {
+        CompletableFuture<T> result = probeAsync(probe);
+        ScheduledFuture<?> timer = AsyncExecutors.getScheduler().schedule(
+            () -> result.completeExceptionally(new TimeoutException("Probe still running at the deadline", null)),
+            Math.max(0, deadlineNanos - System.nanoTime()),
+            TimeUnit.NANOSECONDS
+        );
+        result.whenComplete((__, e) -> timer.cancel(false));
+        return result;
+    }
+
+    private <T> void runProbe(Callable<T> probe, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // Timed out while waiting for a slot
+            return;
+        }
+
+        if (!permits.tryAcquire()) {
+            AsyncExecutors.getScheduler().schedule(() -> runProbe(probe, result), initialIntervalNanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            T value = null;
+            Throwable failure = null;
+            try {
+                value = probe.call();
+            } catch (Throwable e) {
+                failure = e;
+            } finally {
+                release.run();
+            }
+
+            // Completing runs the dependent stages, which belong on the scheduler
+            T completedValue = value;
+            Throwable completedFailure = failure;
+            AsyncExecutors.getScheduler().execute(() -> {
+                if (completedFailure != null) {
+                    result.completeExceptionally(completedFailure);
+                } else {
+                    result.complete(completedValue);
+                }
+            });
+        }, null);
+
+        // Timed out or cancelled while the probe still runs: don't let it hold its thread and its slot
+        result.whenComplete((__, e) -> {
+            if (!released.get()) {
+                task.cancel(true);
+                release.run();
+            }
+        });
+
+        AsyncExecutors.getProbeExecutor().execute(task);
+    }
+
+    /**
+     * Like {@link #retryUntilSuccess(Duration, Callable)}, without blocking a thread between the attempts.
+     *
+     * @return a future failed with a {@link TimeoutException} if {@code action} still fails after {@code timeout}
+     */
+    public <T> CompletableFuture<T> retryUntilSuccessAsync(Duration timeout, Callable<T> action) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        retry(action, System.nanoTime() + timeout.toNanos(), newSchedule(), result);
+        return result;
+    }
+
+    /**
+     * Like {@link #retryUntilTrue(Duration, Callable)}, without blocking a thread between the attempts.
+     *
+     * @return a future failed with a {@link TimeoutException} if {@code condition} is still not true after {@code timeout}
+     */
+    public CompletableFuture<Void> retryUntilTrueAsync(Duration timeout, Callable<Boolean> condition) {
+        return retryUntilSuccessAsync(timeout, () -> {
+            if (!Boolean.TRUE.equals(condition.call())) {
+                throw new IllegalStateException("Condition not satisfied yet");
+            }
+            return null;
+        });
+    }
+
+    private <T> void retry(Callable<T> action, long deadline, Schedule schedule, CompletableFuture<T> result) {
+        if (result.isDone()) {
+            // e.g. cancelled
+            return;
+        }
+
+        probeAsync(action, deadline).whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                result.completeExceptionally(new TimeoutException("Timeout waiting for result with exception", failure instanceof Exception ? (Exception) failure : new RuntimeException(failure)));
+                return;
+            }
+            AsyncExecutors.getScheduler().schedule(
+                () -> retry(action, deadline, schedule, result),
+                Math.min(remaining, schedule.nextIntervalNanos()),
+                TimeUnit.NANOSECONDS
+            );
+        });
+    }
+
+    /**
+     * Like {@link org.rnorth.ducttape.unreliables.Unreliables#retryUntilSuccess(int, TimeUnit, Callable)}, on a new schedule.
+     * Attempts run on the calling thread, which holds a slot only while {@code action} runs.
+     *
+     * @throws TimeoutException if {@code action} still fails after {@code timeout}
+     */
+    public <T> T retryUntilSuccess(Duration timeout, Callable<T> action) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        Schedule schedule = newSchedule();
+        Exception lastException = null;
+        try {
+            while (true) {
+                if (!permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    throw new TimeoutException("Timeout waiting for result with exception", lastException);
+                }
+                try {
+                    return action.call();
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    lastException = e;
+                } finally {
+                    permits.release();
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("Timeout waiting for result with exception", lastException);
+                }
+                TimeUnit.NANOSECONDS.sleep(Math.min(remaining, schedule.nextIntervalNanos()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException(e);
+        }
+    }
+
+    /**
+     * Like {@link org.rnorth.ducttape.unreliables.Unreliables#retryUntilTrue(int, TimeUnit, Callable)}, on a new schedule.
+     *
+     * @throws TimeoutException if {@code condition} is still not true after {@code timeout}
+     */
+    public void retryUntilTrue(Duration timeout, Callable<Boolean> condition) {
+        retryUntilSuccess(timeout, () -> {
+            if (!Boolean.TRUE.equals(condition.call())) {
+                throw new IllegalStateException("Condition not satisfied yet");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Intervals between the probes of a single target, not thread-safe.
+     */
+    public final class Schedule {
+
+        private long nextIntervalNanos = initialIntervalNanos;
+
+        private Schedule() {
+        }
+
+        /**
+         * @return the interval before the next probe, which grows with every call until the maximum interval
+         */
+        public long nextIntervalNanos() {
+            long interval = nextIntervalNanos;
+            nextIntervalNanos = Math.min(maxIntervalNanos, (long) (nextIntervalNanos * MULTIPLIER));
+            return (long) (interval * (1 + JITTER * (2 * ThreadLocalRandom.current().nextDouble() - 1)));
+        }
+    }
+}
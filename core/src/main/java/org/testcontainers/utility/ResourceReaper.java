@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.ImageResolutionCache;
 
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -27,21 +28,36 @@ import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.Socket;
 import java.net.URLEncoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Component that responsible for container removal and automatic cleanup of dead containers at JVM shutdown.
+ * <p>
+ * A single shutdown hook removes everything registered for cleanup: the containers in parallel, then their networks
+ * and the images, while the temporary paths are deleted. Whatever is left once {@code cleanup.timeout} is reached is
+ * left to Ryuk.
  */
 @Slf4j
 public final class ResourceReaper {
@@ -51,13 +67,21 @@ public final class ResourceReaper {
     private static final List<List<Map.Entry<String, String>>> DEATH_NOTE = new ArrayList<>();
 
     private static ResourceReaper instance;
-    private final DockerClient dockerClient;
+    private final Supplier<DockerClient> dockerClient;
     private Map<String, String> registeredContainers = new ConcurrentHashMap<>();
     private Set<String> registeredNetworks = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private Set<String> registeredImages = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private Set<Path> registeredPaths = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private AtomicBoolean hookIsSet = new AtomicBoolean(false);
 
     private ResourceReaper() {
-        dockerClient = DockerClientFactory.instance().client();
+        // Resolved lazily, so that registering a path does not require Docker
+        this(() -> DockerClientFactory.instance().client());
+    }
+
+    @VisibleForTesting
+    ResourceReaper(Supplier<DockerClient> dockerClient) {
+        this.dockerClient = dockerClient;
     }
 
     @Deprecated
@@ -164,8 +188,94 @@ public final class ResourceReaper {
      * Perform a cleanup.
      */
     public synchronized void performCleanup() {
-        registeredContainers.forEach(this::stopContainer);
-        registeredNetworks.forEach(this::removeNetwork);
+        TestcontainersConfiguration configuration = TestcontainersConfiguration.getInstance();
+        performCleanup(Duration.ofSeconds(configuration.getCleanupTimeout()), configuration.getCleanupParallelism());
+    }
+
+    /**
+     * Removes the registered containers in parallel, then their networks, while the registered paths are deleted.
+     * A registered image is removed once the containers using it are, so that a container which can't be removed only
+     * keeps its own image.
+     *
+     * @return whether everything was removed before {@code timeout}
+     */
+    @VisibleForTesting
+    synchronized boolean performCleanup(Duration timeout, int parallelism) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        AtomicLong counter = new AtomicLong(0);
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-cleanup-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<CompletableFuture<?>> tasks = new ArrayList<>();
+            for (Path path : new ArrayList<>(registeredPaths)) {
+                tasks.add(CompletableFuture.runAsync(() -> deletePath(path), executor));
+            }
+
+            Map<String, List<CompletableFuture<?>>> containersByImage = new HashMap<>();
+            List<CompletableFuture<?>> containers = new ArrayList<>();
+            new HashMap<>(registeredContainers).forEach((containerId, imageName) -> {
+                CompletableFuture<?> container = CompletableFuture.runAsync(() -> stopAndRemoveContainer(containerId, imageName), executor);
+                containers.add(container);
+                containersByImage.computeIfAbsent(imageName, __ -> new ArrayList<>()).add(container);
+            });
+            tasks.addAll(containers);
+
+            // Networks can't be removed while containers are connected to them, nor images while containers use them
+            CompletableFuture<Void> allContainers = allDone(containers);
+            for (String networkId : new ArrayList<>(registeredNetworks)) {
+                tasks.add(allContainers.thenRunAsync(() -> removeNetwork(networkId), executor));
+            }
+            for (String imageName : new ArrayList<>(registeredImages)) {
+                CompletableFuture<Void> imageContainers = allDone(containersByImage.getOrDefault(imageName, Collections.emptyList()));
+                tasks.add(imageContainers.thenRunAsync(() -> removeImage(imageName), executor));
+            }
+
+            boolean completed = await(tasks, deadline);
+            if (!completed) {
+                LOGGER.warn(
+                    "Cleanup did not complete within {} seconds: {} container(s) and {} network(s) are left to Ryuk, {} image(s) and {} path(s) were not removed",
+                    timeout.getSeconds(),
+                    registeredContainers.size(),
+                    registeredNetworks.size(),
+                    registeredImages.size(),
+                    registeredPaths.size()
+                );
+            }
+            return completed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return a future completed once all the {@code futures} are, whether they failed or not
+     */
+    private static CompletableFuture<Void> allDone(List<CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(
+            futures.stream()
+                .map(future -> future.handle((__, e) -> null))
+                .toArray(CompletableFuture[]::new)
+        );
+    }
+
+    private static boolean await(List<CompletableFuture<?>> futures, long deadline) {
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                LOGGER.trace("Error encountered during cleanup", e.getCause());
+            } catch (java.util.concurrent.TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -215,49 +325,17 @@ public final class ResourceReaper {
     }
 
     private void stopContainer(String containerId, String imageName) {
-        boolean running;
-        try {
-            InspectContainerResponse containerInfo = dockerClient.inspectContainerCmd(containerId).exec();
-            running = containerInfo.getState().getRunning();
-        } catch (NotFoundException e) {
-            LOGGER.trace("Was going to stop container but it apparently no longer exists: {}", containerId);
-            return;
-        } catch (DockerException e) {
-            LOGGER.trace("Error encountered when checking container for shutdown (ID: {}) - it may not have been stopped, or may already be stopped: {}", containerId, e.getMessage());
-            return;
-        }
-
-        if (running) {
-            try {
-                LOGGER.trace("Stopping container: {}", containerId);
-                dockerClient.killContainerCmd(containerId).exec();
-                LOGGER.trace("Stopped container: {}", imageName);
-            } catch (ConflictException e) {
-                if ( e.getMessage().startsWith("Cannot kill container: ") && e.getMessage().endsWith(containerId + " is not running")) {
-                    LOGGER.trace("Was going to kill the container but it apparently already dead : {}", e.getMessage());
-                } else {
-                    throw e;
-                }
-            } catch (DockerException e) {
-                LOGGER.trace("Error encountered shutting down container (ID: {}) - it may not have been stopped, or may already be stopped: {}", containerId, e.getMessage());
-            }
-        }
-
         try {
-            dockerClient.inspectContainerCmd(containerId).exec();
+            LOGGER.trace("Removing container: {}", containerId);
+            // Forcing the removal kills a running container in the same call
+            dockerClient.get().removeContainerCmd(containerId).withRemoveVolumes(true).withForce(true).exec();
+            LOGGER.debug("Removed container and associated volume(s): {}", imageName);
         } catch (NotFoundException e) {
             LOGGER.trace("Was going to remove container but it apparently no longer exists: {}", containerId);
-            return;
-        }
-
-        try {
-            LOGGER.trace("Removing container: {}", containerId);
-            try {
-                dockerClient.removeContainerCmd(containerId).withRemoveVolumes(true).withForce(true).exec();
-                LOGGER.debug("Removed container and associated volume(s): {}", imageName);
-            } catch (InternalServerErrorException e) {
-                LOGGER.trace("Exception when removing container with associated volume(s): {} (due to {})", imageName, e.getMessage());
-            }
+        } catch (ConflictException e) {
+            LOGGER.trace("Was going to remove container but it is apparently already being removed: {}", e.getMessage());
+        } catch (InternalServerErrorException e) {
+            LOGGER.trace("Exception when removing container with associated volume(s): {} (due to {})", imageName, e.getMessage());
         } catch (DockerException e) {
             LOGGER.trace("Error encountered shutting down container (ID: {}) - it may not have been stopped, or may already be stopped: {}", containerId, e.getMessage());
         }
@@ -281,7 +359,7 @@ public final class ResourceReaper {
     public void registerNetworkForCleanup(String networkName) {
         try {
             // Try to find the network by name, so that we can register its ID for later deletion
-            dockerClient.listNetworksCmd()
+            dockerClient.get().listNetworksCmd()
                     .withNameFilter(networkName)
                     .exec()
             .forEach(network -> registerNetworkIdForCleanup(network.getId()));
@@ -314,7 +392,7 @@ public final class ResourceReaper {
             try {
                 // Try to find the network if it still exists
                 // Listing by ID first prevents docker-java logging an error if we just go blindly into removeNetworkCmd
-                networks = dockerClient.listNetworksCmd().withIdFilter(id).exec();
+                networks = dockerClient.get().listNetworksCmd().withIdFilter(id).exec();
             } catch (Exception e) {
                 LOGGER.trace("Error encountered when looking up network for removal (name: {}) - it may not have been removed", id);
                 return;
@@ -324,7 +402,7 @@ public final class ResourceReaper {
             // using a for loop we essentially treat the network like an optional, only applying the removal if it exists
             for (Network network : networks) {
                 try {
-                    dockerClient.removeNetworkCmd(network.getId()).exec();
+                    dockerClient.get().removeNetworkCmd(network.getId()).exec();
                     registeredNetworks.remove(network.getId());
                     LOGGER.debug("Removed network: {}", id);
                 } catch (Exception e) {
@@ -336,6 +414,50 @@ public final class ResourceReaper {
         }
     }
 
+    /**
+     * Register an image to be removed at JVM shutdown, once the registered containers using it are removed.
+     *
+     * @param imageName the name of the image
+     */
+    public void registerImageForCleanup(String imageName) {
+        setHook();
+        registeredImages.add(imageName);
+    }
+
+    /**
+     * Register a file or directory to be deleted, recursively, at JVM shutdown.
+     *
+     * @param path the path to delete
+     */
+    public void registerPathForCleanup(Path path) {
+        setHook();
+        registeredPaths.add(path);
+    }
+
+    private void removeImage(String imageName) {
+        try {
+            LOGGER.info("Removing image tagged {}", imageName);
+            dockerClient.get().removeImageCmd(imageName).withForce(true).exec();
+        } catch (NotFoundException e) {
+            LOGGER.trace("Was going to remove image but it apparently no longer exists: {}", imageName);
+        } catch (Exception e) {
+            LOGGER.warn("Unable to delete image " + imageName, e);
+        } finally {
+            registeredImages.remove(imageName);
+            ImageResolutionCache.invalidate(new DockerImageName(imageName));
+        }
+    }
+
+    private void deletePath(Path path) {
+        try {
+            if (Files.exists(path)) {
+                PathUtils.recursiveDeleteDir(path);
+            }
+        } finally {
+            registeredPaths.remove(path);
+        }
+    }
+
     public void unregisterNetwork(String identifier) {
         registeredNetworks.remove(identifier);
     }
@@ -0,0 +1,225 @@
+package org.testcontainers.utility;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang.StringUtils;
+import org.testcontainers.DockerClientFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Extracts an archive returned by {@code GET /containers/{id}/archive} into a host directory while it is received.
+ * <p>
+ * Small files are buffered and written by a small pool of writer threads, so that trees of many files are not
+ * limited by the latency of the file system, while larger files are written directly by the reading thread.
+ * Entries are filtered before anything is written. Permissions and modification times are kept, links are created
+ * once all the files are written, and the permissions of directories are applied last, so that read-only directories
+ * can still be filled.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TarArchiveExtractor {
+
+    private static final int WRITER_THREADS = 4;
+
+    private static final int MAX_BUFFERED_FILE_SIZE = 1024 * 1024;
+
+    private static final int MAX_BUFFERED_BYTES = 16 * 1024 * 1024;
+
+    private static final ExecutorService WRITERS;
+
+    static {
+        AtomicLong counter = new AtomicLong(0);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            WRITER_THREADS,
+            WRITER_THREADS,
+            1,
+            TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+                Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-archive-writer-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        WRITERS = executor;
+    }
+
+    private final Path destination;
+
+    private final ArchiveEntryFilter filter;
+
+    /**
+     * @param tarArchive an archive whose first entry is the copied file or directory: the content of a directory is
+     *                   extracted into the destination, a file is extracted into the destination under its own name
+     * @throws IOException if an entry can't be read or written, or if it would be extracted outside of the destination
+     */
+    public void extract(TarArchiveInputStream tarArchive) throws IOException, InterruptedException {
+        Path root = destination.toAbsolutePath().normalize();
+        Files.createDirectories(root);
+
+        Semaphore bufferedBytes = new Semaphore(MAX_BUFFERED_BYTES);
+        AtomicReference<Throwable> writeFailure = new AtomicReference<>();
+        List<Future<?>> writes = new ArrayList<>();
+        List<PendingLink> links = new ArrayList<>();
+        Map<Path, TarArchiveEntry> directories = new LinkedHashMap<>();
+
+        try {
+            String prefix = null;
+            TarArchiveEntry entry;
+            while ((entry = tarArchive.getNextTarEntry()) != null) {
+                if (writeFailure.get() != null) {
+                    break;
+                }
+
+                if (prefix == null) {
+                    prefix = entry.isDirectory() ? StringUtils.removeEnd(entry.getName(), "/") + "/" : "";
+                }
+
+                Path target = resolve(root, prefix, entry.getName());
+                if (target.equals(root) || !filter.accepts(root.relativize(target))) {
+                    continue;
+                }
+
+                if (entry.isDirectory()) {
+                    Files.createDirectories(target);
+                    directories.put(target, entry);
+                } else if (entry.isSymbolicLink() || entry.isLink()) {
+                    Path linkTarget = entry.isLink() ? resolve(root, prefix, entry.getLinkName()) : Paths.get(entry.getLinkName());
+                    links.add(new PendingLink(target, linkTarget, entry.isSymbolicLink()));
+                } else if (entry.isFile()) {
+                    Files.createDirectories(target.getParent());
+                    if (entry.getSize() <= MAX_BUFFERED_FILE_SIZE) {
+                        byte[] content = IOUtils.toByteArray(tarArchive, entry.getSize());
+                        TarArchiveEntry fileEntry = entry;
+                        bufferedBytes.acquire(content.length);
+                        writes.add(WRITERS.submit(() -> {
+                            try {
+                                Files.write(target, content);
+                                applyAttributes(target, fileEntry);
+                            } catch (Throwable e) {
+                                writeFailure.compareAndSet(null, e);
+                            } finally {
+                                bufferedBytes.release(content.length);
+                            }
+                        }));
+                    } else {
+                        Files.copy(tarArchive, target, StandardCopyOption.REPLACE_EXISTING);
+                        applyAttributes(target, entry);
+                    }
+                } else {
+                    log.debug("Skipping archive entry {} of unsupported type", entry.getName());
+                }
+            }
+        } finally {
+            // Never return while files are still being written
+            for (Future<?> write : writes) {
+                try {
+                    write.get();
+                } catch (ExecutionException e) {
+                    writeFailure.compareAndSet(null, e.getCause());
+                }
+            }
+        }
+
+        Throwable failure = writeFailure.get();
+        if (failure != null) {
+            throw failure instanceof IOException ? (IOException) failure : new IOException(failure);
+        }
+
+        // Created last, so that no entry is ever written through a link
+        for (PendingLink link : links) {
+            link.create();
+        }
+
+        for (Map.Entry<Path, TarArchiveEntry> directory : directories.entrySet()) {
+            applyAttributes(directory.getKey(), directory.getValue());
+        }
+    }
+
+    private static Path resolve(Path root, String prefix, String entryName) throws IOException {
+        String name = StringUtils.removeEnd(entryName, "/");
+        String relativeName;
+        if (prefix.isEmpty() || !name.startsWith(prefix)) {
+            relativeName = name.equals(StringUtils.removeEnd(prefix, "/")) ? "" : name;
+        } else {
+            relativeName = name.substring(prefix.length());
+        }
+
+        Path target = root.resolve(relativeName).normalize();
+        if (!target.startsWith(root)) {
+            throw new IOException("Archive entry " + entryName + " is outside of the destination " + root);
+        }
+        return target;
+    }
+
+    private static void applyAttributes(Path path, TarArchiveEntry entry) throws IOException {
+        Files.setLastModifiedTime(path, FileTime.fromMillis(entry.getModTime().getTime()));
+
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Set<PosixFilePermission> permissions = EnumSet.noneOf(PosixFilePermission.class);
+            // Declared from OWNER_READ (0400) to OTHERS_EXECUTE (0001)
+            for (PosixFilePermission permission : PosixFilePermission.values()) {
+                if ((entry.getMode() & (0400 >> permission.ordinal())) != 0) {
+                    permissions.add(permission);
+                }
+            }
+            Files.setPosixFilePermissions(path, permissions);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class PendingLink {
+
+        private final Path path;
+
+        private final Path target;
+
+        private final boolean symbolic;
+
+        void create() throws IOException {
+            Files.deleteIfExists(path);
+            Files.createDirectories(path.getParent());
+            if (!symbolic) {
+                if (Files.exists(target)) {
+                    Files.createLink(path, target);
+                } else {
+                    log.debug("Skipping hard link {} to {}, which was not extracted", path, target);
+                }
+                return;
+            }
+
+            try {
+                Files.createSymbolicLink(path, target);
+            } catch (IOException | UnsupportedOperationException e) {
+                // e.g. on Windows without the required privilege
+                log.warn("Failed to create symbolic link {} -> {}", path, target, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package org.testcontainers.utility;
+
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Pipe;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.testcontainers.DockerClientFactory;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A tar archive written on another thread while it is read, so that archives are uploaded
+ * without being buffered in memory.
+ * <p>
+ * Failures of the writer are thrown by the reading side once it reaches the end of the written data,
+ * so a partial archive is never mistaken for a complete one. Closing the reading side aborts the writer.
+ */
+public final class TarArchivePipe extends FilterInputStream {
+
+    private static final long BUFFER_SIZE = 256 * 1024;
+
+    private static final AtomicLong WRITER_COUNTER = new AtomicLong(0);
+
+    private volatile Throwable writerFailure;
+
+    private TarArchivePipe(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Runs {@code writer} on a thread of its own, so that the archive is written whatever the executors writing request
+     * bodies are busy with.
+     *
+     * @param writer writes the entries of the archive, which is finished and closed afterwards
+     * @return the archive
+     */
+    public static InputStream open(Writer writer) {
+        return open(
+            runnable -> {
+                Thread thread = new Thread(DockerClientFactory.TESTCONTAINERS_THREAD_GROUP, runnable, "testcontainers-archive-writer-" + WRITER_COUNTER.getAndIncrement());
+                thread.setDaemon(true);
+                thread.start();
+            },
+            writer
+        );
+    }
+
+    /**
+     * @param executor runs {@code writer}
+     * @param writer   writes the entries of the archive, which is finished and closed afterwards
+     * @return the archive
+     */
+    public static InputStream open(Executor executor, Writer writer) {
+        Pipe pipe = new Pipe(BUFFER_SIZE);
+        TarArchivePipe archive = new TarArchivePipe(Okio.buffer(pipe.source()).inputStream());
+
+        executor.execute(() -> {
+            BufferedSink sink = Okio.buffer(pipe.sink());
+            try {
+                TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(sink.outputStream());
+                tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+                tarArchive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+                writer.writeTo(tarArchive);
+                tarArchive.finish();
+            } catch (Throwable e) {
+                // Set before the sink is closed, so the reader sees it at the end of the stream
+                archive.writerFailure = e;
+            } finally {
+                IOUtils.closeQuietly(sink);
+            }
+        });
+
+        return archive;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int result = super.read();
+        if (result == -1) {
+            checkWriter();
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int result = super.read(b, off, len);
+        if (result == -1) {
+            checkWriter();
+        }
+        return result;
+    }
+
+    private void checkWriter() throws IOException {
+        Throwable failure = writerFailure;
+        if (failure != null) {
+            throw new IOException("Failed to write the archive", failure);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+
+        void writeTo(TarArchiveOutputStream tarArchive) throws IOException;
+    }
+}
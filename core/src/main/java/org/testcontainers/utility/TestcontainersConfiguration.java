@@ -62,6 +62,20 @@ public class TestcontainersConfiguration {
         return Integer.parseInt((String) properties.getOrDefault("ryuk.container.timeout", "30"));
     }
 
+    /**
+     * @return time (in seconds) the cleanup at JVM shutdown may take before leaving the remaining resources to Ryuk
+     */
+    public Integer getCleanupTimeout() {
+        return Integer.parseInt((String) properties.getOrDefault("cleanup.timeout", "30"));
+    }
+
+    /**
+     * @return number of resources removed at the same time by the cleanup at JVM shutdown
+     */
+    public Integer getCleanupParallelism() {
+        return Integer.parseInt((String) properties.getOrDefault("cleanup.parallelism", "8"));
+    }
+
     public String getKafkaImage() {
         return (String) properties.getOrDefault("kafka.container.image", "confluentinc/cp-kafka");
     }
@@ -82,10 +96,129 @@ public class TestcontainersConfiguration {
         return properties.getProperty("transport.type", "okhttp");
     }
 
+    /**
+     * @return maximum number of idle keep-alive connections to a unix socket daemon, or 0 to disable pooling
+     */
+    public Integer getUnixSocketPoolSize() {
+        return Integer.parseInt((String) properties.getOrDefault("transport.unix.pool.size", "5"));
+    }
+
+    /**
+     * @return time (in seconds) after which an idle unix socket connection is evicted from the pool
+     */
+    public Integer getUnixSocketPoolKeepAlive() {
+        return Integer.parseInt((String) properties.getOrDefault("transport.unix.pool.keepalive", "30"));
+    }
+
+    /**
+     * @return type of the executor consuming streamed Docker responses: {@code auto}, {@code bounded} or {@code virtual}
+     */
+    public String getStreamExecutorType() {
+        return properties.getProperty("transport.stream.executor", "auto");
+    }
+
+    /**
+     * @return maximum number of threads of the {@code bounded} stream executor
+     */
+    public Integer getStreamExecutorThreads() {
+        return Integer.parseInt((String) properties.getOrDefault("transport.stream.threads", "64"));
+    }
+
+    /**
+     * @return number of event loop threads of the {@code nio} transport
+     */
+    public Integer getNioEventLoopThreads() {
+        return Integer.parseInt((String) properties.getOrDefault("transport.nio.threads", "2"));
+    }
+
+    /**
+     * @return interval (in milliseconds) between the first two readiness probes of a container
+     */
+    public Integer getPollInitialInterval() {
+        return Integer.parseInt((String) properties.getOrDefault("wait.poll.interval.initial", "50"));
+    }
+
+    /**
+     * @return maximum interval (in milliseconds) between two readiness probes of a container
+     */
+    public Integer getPollMaxInterval() {
+        return Integer.parseInt((String) properties.getOrDefault("wait.poll.interval.max", "1000"));
+    }
+
+    /**
+     * @return maximum number of readiness probes running at the same time in the JVM
+     */
+    public Integer getPollMaxConcurrency() {
+        return Integer.parseInt((String) properties.getOrDefault("wait.poll.concurrency", "8"));
+    }
+
+    /**
+     * @return number of threads running the steps and readiness probes of asynchronous container startups
+     */
+    public Integer getStartupSchedulerThreads() {
+        return Integer.parseInt((String) properties.getOrDefault("startup.scheduler.threads", "8"));
+    }
+
+    /**
+     * @return how long (in milliseconds) an inspected container state may be reused when no event invalidated it
+     */
+    public Integer getContainerStateCacheTtl() {
+        return Integer.parseInt((String) properties.getOrDefault("container.state.cache.ttl", "1000"));
+    }
+
+    /**
+     * @return whether to log the Docker API metrics summary at INFO (instead of DEBUG) level at shutdown
+     */
+    public boolean isDockerApiMetricsSummaryEnabled() {
+        return Boolean.parseBoolean((String) properties.getOrDefault("transport.metrics.summary", "false"));
+    }
+
+    /**
+     * @return whether containers created with {@code withReuse(true)} may be reused across sessions
+     */
+    public boolean isContainerReuseEnabled() {
+        return Boolean.parseBoolean((String) properties.getOrDefault("container.reuse.enable", "false"));
+    }
+
+    /**
+     * @return how long (in hours) image snapshots are kept
+     */
+    public Integer getSnapshotMaxAge() {
+        return Integer.parseInt((String) properties.getOrDefault("snapshot.max.age", "168"));
+    }
+
+    /**
+     * @return maximum total size (in megabytes) of the image snapshots
+     */
+    public Integer getSnapshotMaxSize() {
+        return Integer.parseInt((String) properties.getOrDefault("snapshot.max.size", "10240"));
+    }
+
+    /**
+     * @return file the startup report is written to at shutdown, empty if no report should be written
+     */
+    public String getStartupReportFile() {
+        return properties.getProperty("startup.report.file", "");
+    }
+
     public Integer getImagePullPauseTimeout() {
         return Integer.parseInt((String) properties.getOrDefault("pull.pause.timeout", "30"));
     }
 
+    /**
+     * @return maximum number of images pulled or built at the same time by {@code ImagePrefetcher}
+     */
+    public Integer getImagePrefetchParallelism() {
+        return Integer.parseInt((String) properties.getOrDefault("pull.prefetch.parallelism", "4"));
+    }
+
+    /**
+     * @return how long (in seconds) a failure to pull an image is reported again without retrying the pull
+     */
+    public Integer getImagePullFailureCacheTtl() {
+        return Integer.parseInt((String) properties.getOrDefault("pull.failure.cache.ttl", "5"));
+    }
+
     @Synchronized
     public boolean updateGlobalConfig(@NonNull String prop, @NonNull String value) {
         try {
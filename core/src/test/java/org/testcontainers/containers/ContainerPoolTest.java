@@ -0,0 +1,146 @@
+package org.testcontainers.containers;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNotSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class ContainerPoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final Supplier<GenericContainer<?>> factory = () -> {
+        created.incrementAndGet();
+        return mock(GenericContainer.class);
+    };
+
+    private ContainerPool<GenericContainer<?>> pool;
+
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.stop();
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void replacesReleasedInstancesWithoutResetHook() throws Exception {
+        pool = new ContainerPool<>(factory, 2);
+        pool.start();
+        awaitIdle(2);
+
+        GenericContainer<?> container = pool.checkout();
+        verify(container).start();
+        assertEquals("an idle instance is a hit", 1L, pool.getMetrics().getHits());
+
+        pool.release(container);
+        verify(container, timeout(5_000)).stop();
+        awaitIdle(2);
+        assertEquals("the released instance is replaced", 3, created.get());
+    }
+
+    @Test(timeout = 10_000)
+    public void reusesReleasedInstancesWithResetHook() throws Exception {
+        AtomicInteger resets = new AtomicInteger();
+        pool = new ContainerPool<>(factory, 1).withResetHook(it -> resets.incrementAndGet());
+        pool.start();
+
+        GenericContainer<?> container = pool.checkout();
+        pool.release(container);
+        GenericContainer<?> again = pool.checkout();
+
+        assertSame("the reset instance is checked out again", container, again);
+        assertEquals("the instance is reset once", 1, resets.get());
+        assertEquals("no other instance is created", 1, created.get());
+        verify(container, never()).stop();
+    }
+
+    @Test(timeout = 10_000)
+    public void replacesInstancesFailingToReset() throws Exception {
+        pool = new ContainerPool<>(factory, 1).withResetHook(it -> {
+            throw new IllegalStateException("can't reset");
+        });
+        pool.start();
+
+        GenericContainer<?> container = pool.checkout();
+        pool.release(container);
+        GenericContainer<?> replacement = pool.checkout();
+
+        assertNotSame("the instance is replaced", container, replacement);
+        verify(container, timeout(5_000)).stop();
+    }
+
+    @Test(timeout = 10_000)
+    public void waitsForInstancesWhenAllAreCheckedOut() throws Exception {
+        pool = new ContainerPool<>(factory, 1);
+        pool.start();
+
+        GenericContainer<?> container = pool.checkout();
+        try {
+            pool.checkout(Duration.ofMillis(100));
+            fail("checkout times out when the pool is exhausted");
+        } catch (org.rnorth.ducttape.TimeoutException expected) {
+        }
+
+        pool.release(container);
+        pool.checkout();
+
+        ContainerPool.Metrics metrics = pool.getMetrics();
+        assertEquals("checkouts which waited are misses", 3L, metrics.getHits() + metrics.getMisses());
+        assertEquals("the instance is checked out", 1, metrics.getCheckedOut());
+    }
+
+    @Test(timeout = 10_000)
+    public void reportsStartFailures() {
+        pool = new ContainerPool<GenericContainer<?>>(() -> {
+            GenericContainer<?> container = mock(GenericContainer.class);
+            doThrow(new ContainerLaunchException("can't start")).when(container).start();
+            return container;
+        }, 1);
+        pool.start();
+
+        try {
+            pool.checkout();
+            fail("checkout fails when instances can't be started");
+        } catch (ContainerLaunchException e) {
+            assertEquals("the start failure is the cause", "can't start", e.getCause().getMessage());
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void doesNotRestartFailingInstancesWhileWaiting() {
+        pool = new ContainerPool<GenericContainer<?>>(() -> {
+            created.incrementAndGet();
+            GenericContainer<?> container = mock(GenericContainer.class);
+            doThrow(new ContainerLaunchException("can't start")).when(container).start();
+            return container;
+        }, 2);
+        pool.start();
+
+        try {
+            pool.checkout();
+            fail("checkout fails when instances can't be started");
+        } catch (ContainerLaunchException expected) {
+        }
+        assertTrue("failed instances are replaced at most once per checkout", created.get() <= 4);
+    }
+
+    private void awaitIdle(int expected) throws InterruptedException {
+        while (pool.getMetrics().getIdle() != expected) {
+            Thread.sleep(10);
+        }
+    }
+}
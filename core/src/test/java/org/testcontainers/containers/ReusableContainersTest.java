@@ -0,0 +1,65 @@
+package org.testcontainers.containers;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.Collections;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNotEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class ReusableContainersTest {
+
+    @Before
+    public void enableReuse() {
+        TestcontainersConfiguration.getInstance().getProperties().setProperty("container.reuse.enable", "true");
+    }
+
+    @After
+    public void disableReuse() {
+        TestcontainersConfiguration.getInstance().getProperties().remove("container.reuse.enable");
+        ReusableContainers.prune();
+    }
+
+    @Test
+    public void reusesRunningContainerWithSameConfiguration() {
+        GenericContainer first = reusableContainer("first");
+        first.start();
+        String containerId = first.getContainerId();
+        assertFalse("a new container is created at first", first.isReused());
+
+        first.stop();
+        assertTrue("stopping a reusable container leaves it running", isRunning(containerId));
+
+        GenericContainer second = reusableContainer("first");
+        second.start();
+        assertEquals("a container with the same configuration is reused", containerId, second.getContainerId());
+        assertTrue("the container is reported as reused", second.isReused());
+
+        GenericContainer other = reusableContainer("other");
+        other.start();
+        assertNotEquals("a container with another configuration is not reused", containerId, other.getContainerId());
+
+        assertEquals("prune removes every reusable container", 2, ReusableContainers.prune());
+        assertFalse("pruned containers are removed", isRunning(containerId));
+    }
+
+    private static GenericContainer reusableContainer(String value) {
+        return new GenericContainer<>("alpine:3.6")
+            .withEnv("VALUE", value)
+            .withCommand("sleep", "60")
+            .withReuse(true);
+    }
+
+    private static boolean isRunning(String containerId) {
+        return DockerClientFactory.instance().client().listContainersCmd()
+            .withIdFilter(Collections.singletonList(containerId))
+            .exec()
+            .size() == 1;
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -157,6 +158,70 @@ public class FrameConsumerResultCallbackTest {
         assertEquals(payload, consumer.toUtf8String());
     }
 
+    @Test
+    public void passStdoutFramePayloadView() {
+        byte[] payload = FRAME_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[payload.length + 10];
+        System.arraycopy(payload, 0, buffer, 5, payload.length);
+
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer();
+        callback.addConsumer(OutputType.STDOUT, consumer);
+        callback.onFrame(StreamType.STDOUT, buffer, 5, payload.length);
+        assertEquals(LOG_RESULT, consumer.toUtf8String());
+    }
+
+    @Test
+    public void passRawFramePayloadViewWithReusedBuffer() throws IOException {
+        byte[] buffer = "Test1\nTe".getBytes(StandardCharsets.UTF_8);
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer();
+        callback.addConsumer(OutputType.STDOUT, consumer);
+        callback.onFrame(StreamType.RAW, buffer, 0, buffer.length);
+
+        // The transport overwrites the buffer with the next frame
+        byte[] next = "st2\n".getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(next, 0, buffer, 0, next.length);
+        callback.onFrame(StreamType.RAW, buffer, 0, next.length);
+        callback.close();
+
+        assertEquals("Test1\nTest2", consumer.toUtf8String());
+    }
+
+    @Test
+    public void passStdoutFramePayloadViewWithColors() {
+        byte[] payload = FRAME_PAYLOAD.getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[payload.length + 10];
+        System.arraycopy(payload, 0, buffer, 5, payload.length);
+
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer().withRemoveAnsiCodes(false);
+        callback.addConsumer(OutputType.STDOUT, consumer);
+        callback.onFrame(StreamType.STDOUT, buffer, 5, payload.length);
+
+        // The transport overwrites the buffer with the next frame
+        Arrays.fill(buffer, (byte) 0);
+        assertEquals(FRAME_PAYLOAD, consumer.toUtf8String());
+    }
+
+    @Test
+    public void passRawFramePayloadViewWithBrokenCharacterAndReusedBuffer() throws IOException {
+        byte[] payload = "Test1\n\u2603\n".getBytes(StandardCharsets.UTF_8);
+        byte[] buffer = new byte[payload.length];
+        FrameConsumerResultCallback callback = new FrameConsumerResultCallback();
+        ToStringConsumer consumer = new ToStringConsumer();
+        callback.addConsumer(OutputType.STDOUT, consumer);
+
+        // The snowman is split after its first byte
+        System.arraycopy(payload, 0, buffer, 0, 7);
+        callback.onFrame(StreamType.RAW, buffer, 0, 7);
+        System.arraycopy(payload, 7, buffer, 0, payload.length - 7);
+        callback.onFrame(StreamType.RAW, buffer, 0, payload.length - 7);
+        callback.close();
+
+        assertEquals("Test1\n\u2603", consumer.toUtf8String());
+    }
+
     private static class BasicConsumer implements Consumer<OutputFrame> {
         private boolean firstLine = true;
         private StringBuilder input = new StringBuilder();
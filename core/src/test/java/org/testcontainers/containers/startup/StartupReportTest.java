@@ -0,0 +1,74 @@
+package org.testcontainers.containers.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+
+public class StartupReportTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void aggregatesStartupsPerImageAndTestClass() throws Exception {
+        StartupReport.record("startup-report-test:1", StartupReportTest.class.getName(), startup(true));
+        StartupReport.record("startup-report-test:1", StartupReportTest.class.getName(), startup(false));
+        StartupReport.record("startup-report-test:2", "com.example.OtherTest", startup(true));
+
+        Path file = temporaryFolder.getRoot().toPath().resolve("reports/startup.json");
+        StartupReport.write(file);
+        JsonNode report = new ObjectMapper().readTree(file.toFile());
+
+        JsonNode image = report.at("/images/startup-report-test:1");
+        assertEquals("the startups of an image are aggregated", 2, image.get("starts").asInt());
+        assertEquals("failed startups are counted", 1, image.get("failures").asInt());
+        assertEquals("the phases are reported", true, image.at("/phases/WAIT/totalMillis").isNumber());
+
+        JsonNode testClass = report.at("/testClasses/" + StartupReportTest.class.getName());
+        assertEquals("the startups of a test class are aggregated", 2, testClass.get("starts").asInt());
+        assertEquals("the report tells the startups apart", 1, report.at("/images/startup-report-test:2/starts").asInt());
+    }
+
+    @Test
+    public void findsTheTestClassStartingContainers() {
+        assertEquals("the test class is found in the stack trace", StartupReportTest.class.getName(), StartupReport.findTestClass());
+    }
+
+    @Test
+    public void usesTheTestClassGivenByTheTestFramework() {
+        String[] testClass = new String[1];
+        StartupReport.runForTestClass(Nested.class, () -> testClass[0] = StartupReport.findTestClass());
+
+        assertEquals("the given test class is used, under its top level class", StartupReportTest.class.getName(), testClass[0]);
+        assertEquals("the given test class is only used while running the action", StartupReportTest.class.getName(), StartupReport.findTestClass());
+    }
+
+    @Test
+    public void reportsAnUnknownTestClassWithoutOneInTheStackTrace() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals("no test class is found on a pool thread", "unknown", executor.submit(StartupReport::findTestClass).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static StartupTimeline startup(boolean succeeded) throws InterruptedException {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.begin(StartupPhase.WAIT);
+        Thread.sleep(2);
+        timeline.finish(succeeded);
+        return timeline;
+    }
+
+    private static class Nested {
+    }
+}
@@ -0,0 +1,51 @@
+package org.testcontainers.containers.startup;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class StartupTimelineTest {
+
+    @Test
+    public void recordsEveryPhaseOfEveryAttempt() throws Exception {
+        StartupTimeline timeline = new StartupTimeline();
+
+        timeline.beginAttempt(1);
+        timeline.begin(StartupPhase.CREATE);
+        timeline.begin(StartupPhase.WAIT);
+        Thread.sleep(20);
+        timeline.end(true);
+
+        timeline.beginAttempt(2);
+        timeline.begin(StartupPhase.CREATE);
+        timeline.begin(StartupPhase.WAIT);
+        Thread.sleep(20);
+        timeline.finish(true);
+
+        List<StartupTimeline.Span> spans = timeline.getSpans();
+        assertEquals("every phase of every attempt is recorded", 4, spans.size());
+        assertEquals("spans belong to their attempt", 2, spans.get(2).getAttempt());
+        assertTrue("the phase ending an attempt is failed", spans.get(1).isFailed());
+        assertFalse("the last phase of a successful startup is not failed", spans.get(3).isFailed());
+
+        assertEquals("the attempts are counted", 2, timeline.getAttempts());
+        assertTrue("the durations of a phase are summed over the attempts", timeline.getDuration(StartupPhase.WAIT).compareTo(Duration.ofMillis(40)) >= 0);
+        assertTrue("the total covers every phase", timeline.getTotal().compareTo(timeline.getDuration(StartupPhase.WAIT)) >= 0);
+        assertTrue("the startup is successful", timeline.isFinished() && timeline.isSucceeded());
+    }
+
+    @Test
+    public void marksTheCurrentPhaseFailedWhenTheStartupFails() {
+        StartupTimeline timeline = new StartupTimeline();
+        timeline.begin(StartupPhase.IMAGE_RESOLUTION);
+        timeline.finish(false);
+
+        assertTrue("the current phase is failed", timeline.getSpans().get(0).isFailed());
+        assertFalse("the startup is failed", timeline.isSucceeded());
+    }
+}
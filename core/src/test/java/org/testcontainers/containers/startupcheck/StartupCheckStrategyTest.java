@@ -0,0 +1,45 @@
+package org.testcontainers.containers.startupcheck;
+
+import com.github.dockerjava.api.DockerClient;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class StartupCheckStrategyTest {
+
+    private final DockerClient dockerClient = mock(DockerClient.class);
+
+    @Test(timeout = 10_000)
+    public void pollsTheStateWithTheGivenClient() {
+        CountingStrategy strategy = new CountingStrategy();
+
+        assertTrue("startup succeeds", strategy.withTimeout(Duration.ofSeconds(5)).waitUntilStartupSuccessful(dockerClient, "container"));
+        assertEquals("the state is checked until known", 3, strategy.checks.get());
+    }
+
+    @Test(timeout = 10_000)
+    public void pollsTheStateAsynchronouslyWithTheGivenClient() {
+        CountingStrategy strategy = new CountingStrategy();
+
+        assertTrue("startup succeeds", strategy.withTimeout(Duration.ofSeconds(5)).waitUntilStartupSuccessfulAsync(dockerClient, "container").join());
+        assertEquals("the state is checked until known", 3, strategy.checks.get());
+    }
+
+    private class CountingStrategy extends StartupCheckStrategy {
+
+        final AtomicInteger checks = new AtomicInteger();
+
+        @Override
+        public StartupStatus checkStartupState(DockerClient client, String containerId) {
+            if (client != dockerClient) {
+                throw new AssertionError("the given client is used");
+            }
+            return checks.incrementAndGet() < 3 ? StartupStatus.NOT_YET_KNOWN : StartupStatus.SUCCESSFUL;
+        }
+    }
+}
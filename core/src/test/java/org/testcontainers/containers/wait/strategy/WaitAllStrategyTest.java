@@ -9,6 +9,8 @@ import org.rnorth.ducttape.TimeoutException;
 import org.testcontainers.containers.GenericContainer;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -160,6 +162,60 @@ public class WaitAllStrategyTest {
         verify(strategy1).withStartupTimeout(someSeconds);
     }
 
+    @Test(timeout = 10_000)
+    public void asyncWaitRunsNestedStrategiesInOrder() {
+        AsyncWaitStrategy async1 = mock(AsyncWaitStrategy.class);
+        AsyncWaitStrategy async2 = mock(AsyncWaitStrategy.class);
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        when(async1.waitUntilReadyAsync(eq(container))).thenReturn(first);
+        when(async2.waitUntilReadyAsync(eq(container))).thenReturn(CompletableFuture.completedFuture(null));
+
+        CompletableFuture<Void> ready = new WaitAllStrategy()
+            .withStrategy(async1)
+            .withStrategy(async2)
+            .waitUntilReadyAsync(container)
+            .toCompletableFuture();
+
+        verify(async2, never()).waitUntilReadyAsync(any());
+        first.complete(null);
+        ready.join();
+
+        InOrder inOrder = inOrder(async1, async2);
+        inOrder.verify(async1).waitUntilReadyAsync(eq(container));
+        inOrder.verify(async2).waitUntilReadyAsync(eq(container));
+        verify(async1, never()).waitUntilReady(any());
+    }
+
+    @Test(timeout = 10_000)
+    public void asyncWaitAppliesOuterTimeout() {
+        AsyncWaitStrategy async1 = mock(AsyncWaitStrategy.class);
+        when(async1.waitUntilReadyAsync(eq(container))).thenReturn(new CompletableFuture<>());
+
+        CompletableFuture<Void> ready = new WaitAllStrategy()
+            .withStrategy(async1)
+            .withStartupTimeout(Duration.ofMillis(50))
+            .waitUntilReadyAsync(container)
+            .toCompletableFuture();
+
+        try {
+            ready.join();
+            fail("the outer timeout fails the wait");
+        } catch (CompletionException e) {
+            assertTrue("the wait times out", e.getCause() instanceof TimeoutException);
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void asyncWaitBlocksWithSynchronousStrategies() {
+        CompletableFuture<Void> ready = new WaitAllStrategy()
+            .withStrategy(strategy1)
+            .waitUntilReadyAsync(container)
+            .toCompletableFuture();
+
+        ready.join();
+        verify(strategy1).waitUntilReady(eq(container));
+    }
+
     static class DummyStrategy extends AbstractWaitStrategy {
         DummyStrategy(Duration defaultInnerWait) {
             super.startupTimeout = defaultInnerWait;
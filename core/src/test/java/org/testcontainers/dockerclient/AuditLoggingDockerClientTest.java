@@ -0,0 +1,54 @@
+package org.testcontainers.dockerclient;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.StartContainerCmd;
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.utility.AuditLogger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNotSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+
+public class AuditLoggingDockerClientTest {
+
+    private final Logger auditLogger = (Logger) LoggerFactory.getLogger(AuditLogger.class);
+
+    private final Level initialLevel = auditLogger.getLevel();
+
+    private final DockerClient wrappedClient = mock(DockerClient.class);
+
+    private final StartContainerCmd command = mock(StartContainerCmd.class);
+
+    @After
+    public void tearDown() {
+        auditLogger.setLevel(initialLevel);
+    }
+
+    @Test
+    public void returnsCommandsAsTheyAreWhenDisabled() {
+        auditLogger.setLevel(Level.INFO);
+        when(wrappedClient.startContainerCmd("id")).thenReturn(command);
+
+        StartContainerCmd returned = new AuditLoggingDockerClient(wrappedClient).startContainerCmd("id");
+
+        assertSame("the command of the wrapped client is returned", command, returned);
+    }
+
+    @Test
+    public void interceptsCommandsWhenEnabled() {
+        auditLogger.setLevel(Level.TRACE);
+        when(wrappedClient.startContainerCmd("id")).thenReturn(command);
+
+        StartContainerCmd returned = new AuditLoggingDockerClient(wrappedClient).startContainerCmd("id");
+        returned.exec();
+
+        assertNotSame("the command is wrapped", command, returned);
+        verify(command).exec();
+    }
+}
@@ -0,0 +1,78 @@
+package org.testcontainers.dockerclient;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerCmd;
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertSame;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class ContainerStateCacheTest {
+
+    private final DockerClient client = mock(DockerClient.class);
+
+    private final InspectContainerCmd inspectCmd = mock(InspectContainerCmd.class);
+
+    private final InspectContainerResponse response = mock(InspectContainerResponse.class);
+
+    @Before
+    public void setUp() {
+        when(client.inspectContainerCmd("abc")).thenReturn(inspectCmd);
+    }
+
+    @Test
+    public void reusesStateUntilInvalidated() {
+        when(inspectCmd.exec()).thenReturn(response);
+        ContainerStateCache cache = new ContainerStateCache(client, Duration.ofMinutes(1));
+
+        assertSame("inspect result is returned", response, cache.inspect("abc"));
+        assertSame("cached result is returned", response, cache.inspect("abc"));
+        verify(inspectCmd, times(1)).exec();
+
+        cache.invalidate("abc");
+        cache.inspect("abc");
+        verify(inspectCmd, times(2)).exec();
+    }
+
+    @Test
+    public void expiresStateAfterTtl() {
+        when(inspectCmd.exec()).thenReturn(response);
+        ContainerStateCache cache = new ContainerStateCache(client, Duration.ZERO);
+
+        cache.inspect("abc");
+        cache.inspect("abc");
+        verify(inspectCmd, times(2)).exec();
+    }
+
+    @Test(timeout = 10_000)
+    public void sharesConcurrentInspects() throws Exception {
+        CountDownLatch inspecting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(inspectCmd.exec()).thenAnswer(__ -> {
+            inspecting.countDown();
+            release.await();
+            return response;
+        });
+        ContainerStateCache cache = new ContainerStateCache(client, Duration.ofMinutes(1));
+
+        CompletableFuture<InspectContainerResponse> first = CompletableFuture.supplyAsync(() -> cache.inspect("abc"));
+        assertTrue("first inspect is in flight", inspecting.await(5, TimeUnit.SECONDS));
+        CompletableFuture<InspectContainerResponse> second = CompletableFuture.supplyAsync(() -> cache.inspect("abc"));
+
+        release.countDown();
+        assertSame("first caller gets the response", response, first.get());
+        assertSame("second caller joins the same inspect", response, second.get());
+        verify(inspectCmd, times(1)).exec();
+    }
+}
@@ -0,0 +1,33 @@
+package org.testcontainers.dockerclient;
+
+import org.junit.Test;
+import org.rnorth.ducttape.unreliables.Unreliables;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class DockerEventBusTest {
+
+    @Test(timeout = 60_000)
+    public void wakesUpWaitersOnContainerEvents() {
+        DockerEventBus eventBus = DockerClientFactory.instance().eventBus();
+        Unreliables.retryUntilTrue(10, TimeUnit.SECONDS, eventBus::isConnected);
+
+        try (GenericContainer container = new GenericContainer<>("alpine:3.6").withCommand("sleep", "3")) {
+            container.start();
+            assertTrue("container is running", container.isRunning());
+
+            long start = System.nanoTime();
+            // The recheck interval is longer than the timeout, only the die event can complete the wait
+            eventBus.waitUntil(container.getContainerId(), Duration.ofSeconds(20), Duration.ofMinutes(1), () -> !container.isRunning());
+
+            assertFalse("container has exited", container.isRunning());
+            assertTrue("waiter is woken up by the die event", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+        }
+    }
+}
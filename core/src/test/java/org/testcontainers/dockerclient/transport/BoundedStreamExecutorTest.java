@@ -0,0 +1,68 @@
+package org.testcontainers.dockerclient.transport;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class BoundedStreamExecutorTest {
+
+    @Test(timeout = 10_000)
+    public void rejectsTasksWhenAllThreadsAreBusy() throws Exception {
+        BoundedStreamExecutor executor = new BoundedStreamExecutor(2);
+
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        assertTrue("all tasks are running", started.await(5, TimeUnit.SECONDS));
+        assertThrows("a third task is rejected", RejectedExecutionException.class, () -> {
+            executor.execute(() -> {
+            });
+            return null;
+        });
+        assertEquals("the rejection is counted", 1L, executor.getRejectedCount());
+        assertEquals("two tasks are active", 2, executor.getActiveCount());
+
+        release.countDown();
+
+        assertTrue("all tasks finish", finished.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test(timeout = 10_000)
+    public void runsTasksWaitingForEachOther() throws Exception {
+        BoundedStreamExecutor executor = new BoundedStreamExecutor(2);
+
+        // Like an attach, whose output reader waits for the stdin writer it submits
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+        executor.execute(() -> {
+            executor.execute(written::countDown);
+            try {
+                written.await();
+                read.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertTrue("the inner task runs while the outer one waits for it", read.await(5, TimeUnit.SECONDS));
+    }
+}
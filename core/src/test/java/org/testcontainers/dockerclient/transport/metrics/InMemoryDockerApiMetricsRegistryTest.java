@@ -0,0 +1,57 @@
+package org.testcontainers.dockerclient.transport.metrics;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class InMemoryDockerApiMetricsRegistryTest {
+
+    private static final DockerApiEndpoint INSPECT = new DockerApiEndpoint("GET", "/containers/{id}/json");
+
+    private static final DockerApiEndpoint PULL = new DockerApiEndpoint("POST", "/images/create");
+
+    private final InMemoryDockerApiMetricsRegistry registry = new InMemoryDockerApiMetricsRegistry();
+
+    @Test
+    public void aggregatesCallsPerEndpoint() {
+        for (int i = 1; i <= 100; i++) {
+            registry.requestStarted(INSPECT);
+            registry.requestFinished(new DockerApiCall(INSPECT, TimeUnit.MILLISECONDS.toNanos(i <= 90 ? 1 : 40), 0, 1000, i == 100));
+        }
+        registry.requestStarted(PULL);
+
+        List<DockerApiEndpointMetrics> snapshot = registry.getSnapshot();
+        assertEquals("both endpoints are listed", 2, snapshot.size());
+
+        DockerApiEndpointMetrics inspect = snapshot.get(0);
+        assertEquals("endpoint with the most total time comes first", INSPECT, inspect.getEndpoint());
+        assertEquals("calls are counted", 100L, inspect.getCount());
+        assertEquals("failures are counted", 1L, inspect.getFailures());
+        assertEquals("no call is in flight", 0L, inspect.getInFlight());
+        assertEquals("received bytes are summed", 100_000L, inspect.getBytesReceived());
+        assertEquals("max latency is kept", Duration.ofMillis(40), inspect.getMax());
+        assertEquals("p50 is the upper bound of its bucket", Duration.ofMillis(1), inspect.getPercentile(50));
+        assertEquals("p99 is capped by the max latency", Duration.ofMillis(40), inspect.getPercentile(99));
+
+        DockerApiEndpointMetrics pull = snapshot.get(1);
+        assertEquals("started calls are in flight", 1L, pull.getInFlight());
+        assertEquals("in-flight calls are not counted yet", 0L, pull.getCount());
+    }
+
+    @Test
+    public void formatsSummary() {
+        registry.requestStarted(PULL);
+        registry.requestFinished(new DockerApiCall(PULL, TimeUnit.SECONDS.toNanos(2), 10, 2048, false));
+
+        String summary = registry.formatSummary();
+        assertTrue("summary lists the endpoint template", summary.contains("POST /images/create"));
+
+        registry.reset();
+        assertTrue("reset clears the metrics", registry.getSnapshot().isEmpty());
+    }
+}
@@ -0,0 +1,177 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class FrameDecoderTest {
+
+    private static final HttpResponseHead OK = new HttpResponseHead(200, Collections.emptyMap());
+
+    @Test
+    public void decodesFramesSplitAcrossReads() throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        writeFrame(stream, 1, "out");
+        writeFrame(stream, 2, "");
+        writeFrame(stream, 2, "err");
+
+        CollectingCallback callback = new CollectingCallback();
+        FrameDecoder decoder = new FrameDecoder(callback, Runnable::run);
+        decoder.onHead(OK);
+        for (byte b : stream.toByteArray()) {
+            decoder.onBody(ByteBuffer.wrap(new byte[]{b}));
+        }
+        decoder.onComplete();
+
+        assertEquals("three frames", 3, callback.frames.size());
+        assertEquals("first frame type", StreamType.STDOUT, callback.frames.get(0).getStreamType());
+        assertEquals("first frame payload", "out", new String(callback.frames.get(0).getPayload(), StandardCharsets.UTF_8));
+        assertEquals("empty frame payload", 0, callback.frames.get(1).getPayload().length);
+        assertEquals("last frame type", StreamType.STDERR, callback.frames.get(2).getStreamType());
+        assertEquals("last frame payload", "err", new String(callback.frames.get(2).getPayload(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void passesTtyOutputAsRaw() throws Exception {
+        CollectingCallback callback = new CollectingCallback();
+        FrameDecoder decoder = new FrameDecoder(callback, Runnable::run);
+        decoder.onHead(OK);
+        decoder.onBody(ByteBuffer.wrap("hello, ".getBytes(StandardCharsets.UTF_8)));
+        decoder.onBody(ByteBuffer.wrap("world\n".getBytes(StandardCharsets.UTF_8)));
+        decoder.onComplete();
+
+        StringBuilder output = new StringBuilder();
+        for (Frame frame : callback.frames) {
+            assertEquals("frame type", StreamType.RAW, frame.getStreamType());
+            output.append(new String(frame.getPayload(), StandardCharsets.UTF_8));
+        }
+        assertEquals("whole output is passed", "hello, world\n", output.toString());
+    }
+
+    @Test
+    public void reportsErrorResponses() throws Exception {
+        CollectingCallback callback = new CollectingCallback();
+        FrameDecoder decoder = new FrameDecoder(callback, Runnable::run);
+        decoder.onHead(new HttpResponseHead(404, Collections.emptyMap()));
+        decoder.onBody(ByteBuffer.wrap("{\"message\":\"No such container\"}".getBytes(StandardCharsets.UTF_8)));
+        decoder.onComplete();
+
+        assertTrue("the error body is not passed as a frame", callback.frames.isEmpty());
+        assertTrue("the status is mapped to an exception", callback.error instanceof NotFoundException);
+    }
+
+    @Test(timeout = 10_000)
+    public void invokesTheCallbackOnTheExecutorInOrder() throws Exception {
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch completed = new CountDownLatch(1);
+            List<String> threads = new ArrayList<>();
+            CollectingCallback callback = new CollectingCallback() {
+                @Override
+                public void onNext(Frame frame) {
+                    threads.add(Thread.currentThread().getName());
+                    super.onNext(frame);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            };
+
+            FrameDecoder decoder = new FrameDecoder(callback, executor);
+            decoder.onHead(OK);
+            ByteBuffer body = ByteBuffer.allocate(64);
+            for (int i = 0; i < 10; i++) {
+                ByteArrayOutputStream stream = new ByteArrayOutputStream();
+                writeFrame(stream, 1, String.valueOf(i));
+                body.clear();
+                body.put(stream.toByteArray());
+                body.flip();
+                // The buffer is reused like the read buffer of the event loop
+                decoder.onBody(body);
+            }
+            decoder.onComplete();
+            completed.await();
+
+            assertEquals("all frames are passed", 10, callback.frames.size());
+            for (int i = 0; i < 10; i++) {
+                assertEquals("frames are passed in order", String.valueOf(i), new String(callback.frames.get(i).getPayload(), StandardCharsets.UTF_8));
+            }
+            assertTrue("the callback runs on the executor", threads.stream().noneMatch(Thread.currentThread().getName()::equals));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void pausesReadingWhileTheCallbackIsBehind() throws Exception {
+        List<Runnable> tasks = new ArrayList<>();
+        NioConnection connection = mock(NioConnection.class);
+        CollectingCallback callback = new CollectingCallback();
+        FrameDecoder decoder = new FrameDecoder(callback, tasks::add);
+        decoder.onStart(connection);
+        decoder.onHead(OK);
+
+        // TTY output, read faster than the callback consumes it
+        byte[] read = new byte[64 * 1024];
+        Arrays.fill(read, (byte) 'a');
+        for (int i = 0; i < 32; i++) {
+            decoder.onBody(ByteBuffer.wrap(read));
+        }
+        verify(connection, times(1)).pauseReading();
+        verify(connection, never()).resumeReading();
+
+        // The callback catches up: the serial executor has a single drain task
+        new ArrayList<>(tasks).forEach(Runnable::run);
+        verify(connection, times(1)).resumeReading();
+        assertEquals("all the output is passed", 32 * read.length, callback.frames.stream().mapToInt(frame -> frame.getPayload().length).sum());
+    }
+
+    private static void writeFrame(ByteArrayOutputStream stream, int streamType, String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        stream.write(streamType);
+        stream.write(0);
+        stream.write(0);
+        stream.write(0);
+        stream.write(ByteBuffer.allocate(4).putInt(bytes.length).array(), 0, 4);
+        stream.write(bytes, 0, bytes.length);
+    }
+
+    private static class CollectingCallback extends ResultCallbackTemplate<CollectingCallback, Frame> {
+
+        final List<Frame> frames = new ArrayList<>();
+
+        Throwable error;
+
+        @Override
+        public void onNext(Frame frame) {
+            frames.add(frame);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class HttpResponseParserTest {
+
+    @Test
+    public void parsesFixedLengthResponses() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        HttpResponseParser parser = new HttpResponseParser(listener);
+
+        feed(parser, "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 2\r\n\r\n{}", false);
+
+        assertEquals("status code", 200, listener.heads.get(0).getCode());
+        assertEquals("headers are case insensitive", "application/json", listener.heads.get(0).getHeader("content-type"));
+        assertEquals("body", "{}", listener.body.toString());
+        assertEquals("keep-alive", "[true]", listener.completions.toString());
+    }
+
+    @Test
+    public void parsesChunkedResponsesFedByteByByte() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        HttpResponseParser parser = new HttpResponseParser(listener);
+
+        String chunked = "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n5\r\nhello\r\n7;ext=1\r\n, world\r\n0\r\n\r\n";
+        feed(parser, chunked + chunked, true);
+
+        assertEquals("both responses are parsed", 2, listener.heads.size());
+        assertEquals("chunk framing is removed", "hello, worldhello, world", listener.body.toString());
+        assertEquals("keep-alive", "[true, true]", listener.completions.toString());
+    }
+
+    @Test
+    public void readsUntilEndOfStreamWithoutLength() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        HttpResponseParser parser = new HttpResponseParser(listener);
+
+        feed(parser, "HTTP/1.1 101 UPGRADED\r\nConnection: Upgrade\r\nUpgrade: tcp\r\n\r\nraw stream", false);
+        assertTrue("not complete before the end of the stream", listener.completions.isEmpty());
+
+        parser.onEndOfStream();
+
+        assertEquals("body", "raw stream", listener.body.toString());
+        assertEquals("connection can't be reused", "[false]", listener.completions.toString());
+    }
+
+    @Test
+    public void honoursConnectionClose() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        HttpResponseParser parser = new HttpResponseParser(listener);
+
+        feed(parser, "HTTP/1.1 204 No Content\r\nConnection: close\r\n\r\n", false);
+
+        assertFalse("connection can't be reused", listener.completions.get(0));
+    }
+
+    @Test
+    public void failsOnTruncatedResponses() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        HttpResponseParser parser = new HttpResponseParser(listener);
+
+        feed(parser, "HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n{}", false);
+
+        assertThrows("truncated body is detected", EOFException.class, () -> {
+            parser.onEndOfStream();
+            return null;
+        });
+    }
+
+    private static void feed(HttpResponseParser parser, String data, boolean byteByByte) throws Exception {
+        byte[] bytes = data.getBytes(StandardCharsets.ISO_8859_1);
+        if (!byteByByte) {
+            parser.feed(ByteBuffer.wrap(bytes));
+            return;
+        }
+        for (byte b : bytes) {
+            parser.feed(ByteBuffer.wrap(new byte[]{b}));
+        }
+    }
+
+    private static class RecordingListener implements HttpResponseParser.Listener {
+
+        final List<HttpResponseHead> heads = new ArrayList<>();
+
+        final StringBuilder body = new StringBuilder();
+
+        final List<Boolean> completions = new ArrayList<>();
+
+        @Override
+        public void onHead(HttpResponseHead head) {
+            heads.add(head);
+        }
+
+        @Override
+        public void onBody(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            body.append(new String(bytes, StandardCharsets.ISO_8859_1));
+        }
+
+        @Override
+        public void onComplete(boolean keepAlive) {
+            completions.add(keepAlive);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.testcontainers.dockerclient.transport.nio;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNotNull;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNull;
+
+public class JsonStreamDecoderTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void decodesValuesSplitAcrossReads() throws Exception {
+        String stream = "{\"status\":\"Pulling fs layer\",\"id\":\"a\",\"progressDetail\":{}}\r\n" +
+            "{\"status\":\"Downloading\",\"id\":\"a\"}{\"status\":\"Download complete\",\"id\":\"a\"}\n\n" +
+            "{\"status\":\"Pull complete\",\"id\":\"a\"}";
+
+        CollectingCallback callback = new CollectingCallback();
+        JsonStreamDecoder<PullResponseItem> decoder = new JsonStreamDecoder<>(OBJECT_MAPPER, new TypeReference<PullResponseItem>() {}, callback, Runnable::run);
+        decoder.onHead(new HttpResponseHead(200, Collections.emptyMap()));
+        for (byte b : stream.getBytes(StandardCharsets.UTF_8)) {
+            decoder.onBody(ByteBuffer.wrap(new byte[]{b}));
+            if (callback.items.size() == 1) {
+                assertEquals("values are passed as soon as they are complete", "Pulling fs layer", callback.items.get(0).getStatus());
+            }
+        }
+        decoder.onComplete();
+
+        assertNull("no error", callback.error);
+        assertEquals("all values are decoded", 4, callback.items.size());
+        assertEquals("values are decoded in order", "Download complete", callback.items.get(2).getStatus());
+    }
+
+    @Test
+    public void reportsTruncatedValues() throws Exception {
+        CollectingCallback callback = new CollectingCallback();
+        JsonStreamDecoder<PullResponseItem> decoder = new JsonStreamDecoder<>(OBJECT_MAPPER, new TypeReference<PullResponseItem>() {}, callback, Runnable::run);
+        decoder.onHead(new HttpResponseHead(200, Collections.emptyMap()));
+        decoder.onBody(ByteBuffer.wrap("{\"status\":\"Downloading\"}\n{\"status\":".getBytes(StandardCharsets.UTF_8)));
+        decoder.onComplete();
+
+        assertEquals("complete values are passed", 1, callback.items.size());
+        assertNotNull("truncated value is reported", callback.error);
+    }
+
+    private static class CollectingCallback extends ResultCallbackTemplate<CollectingCallback, PullResponseItem> {
+
+        final List<PullResponseItem> items = new ArrayList<>();
+
+        Throwable error;
+
+        @Override
+        public void onNext(PullResponseItem item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+}
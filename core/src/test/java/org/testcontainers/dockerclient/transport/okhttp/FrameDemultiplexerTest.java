@@ -0,0 +1,118 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import com.github.dockerjava.api.model.Frame;
+import com.github.dockerjava.api.model.StreamType;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import okio.Buffer;
+import org.junit.Test;
+import org.testcontainers.dockerclient.transport.FramePayloadConsumer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class FrameDemultiplexerTest {
+
+    @Test
+    public void demultiplexesFramesForFrameCallbacks() {
+        Buffer source = new Buffer();
+        writeFrame(source, 1, "out");
+        writeFrame(source, 2, "err");
+
+        CollectingCallback callback = new CollectingCallback();
+        FrameDemultiplexer.forCallback(callback).accept(source);
+
+        assertEquals("two frames", 2, callback.frames.size());
+        assertEquals("first frame type", StreamType.STDOUT, callback.frames.get(0).getStreamType());
+        assertEquals("first frame payload", "out", new String(callback.frames.get(0).getPayload(), StandardCharsets.UTF_8));
+        assertEquals("second frame type", StreamType.STDERR, callback.frames.get(1).getStreamType());
+        assertEquals("second frame payload", "err", new String(callback.frames.get(1).getPayload(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void reusesBufferForPayloadConsumers() {
+        Buffer source = new Buffer();
+        writeFrame(source, 1, "first");
+        writeFrame(source, 1, "second");
+
+        PayloadCollectingCallback callback = new PayloadCollectingCallback();
+        FrameDemultiplexer.forCallback(callback).accept(source);
+
+        assertEquals("payloads are passed as views", "[first, second]", callback.payloads.toString());
+        assertTrue("buffer is reused", callback.buffers.get(0) == callback.buffers.get(1));
+        assertTrue("onNext is not called", callback.frames.isEmpty());
+    }
+
+    @Test
+    public void passesTtyOutputAsRaw() {
+        Buffer source = new Buffer().writeUtf8("hello, world\n");
+
+        CollectingCallback callback = new CollectingCallback();
+        FrameDemultiplexer.forCallback(callback).accept(source);
+
+        StringBuilder output = new StringBuilder();
+        for (Frame frame : callback.frames) {
+            assertEquals("frame type", StreamType.RAW, frame.getStreamType());
+            output.append(new String(frame.getPayload(), StandardCharsets.UTF_8));
+        }
+        assertEquals("whole output is passed, including the first 8 bytes", "hello, world\n", output.toString());
+    }
+
+    @Test
+    public void passesShortTtyOutputAsRaw() {
+        Buffer source = new Buffer().writeUtf8("ok\n");
+
+        CollectingCallback callback = new CollectingCallback();
+        FrameDemultiplexer.forCallback(callback).accept(source);
+
+        assertEquals("one frame", 1, callback.frames.size());
+        assertEquals("frame payload", "ok\n", new String(callback.frames.get(0).getPayload(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void growsBufferForLargeFrames() {
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            payload.append(i % 10);
+        }
+
+        Buffer source = new Buffer();
+        writeFrame(source, 1, payload.toString());
+
+        CollectingCallback callback = new CollectingCallback();
+        FrameDemultiplexer.forCallback(callback).accept(source);
+
+        assertEquals("large payload is passed in one frame", payload.toString(), new String(callback.frames.get(0).getPayload(), StandardCharsets.UTF_8));
+    }
+
+    private static void writeFrame(Buffer buffer, int streamType, String payload) {
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        buffer.writeByte(streamType).writeByte(0).writeByte(0).writeByte(0).writeInt(bytes.length).write(bytes);
+    }
+
+    private static class CollectingCallback extends ResultCallbackTemplate<CollectingCallback, Frame> {
+
+        final List<Frame> frames = new ArrayList<>();
+
+        @Override
+        public void onNext(Frame frame) {
+            frames.add(frame);
+        }
+    }
+
+    private static class PayloadCollectingCallback extends CollectingCallback implements FramePayloadConsumer {
+
+        final List<String> payloads = new ArrayList<>();
+
+        final List<byte[]> buffers = new ArrayList<>();
+
+        @Override
+        public void onFrame(StreamType streamType, byte[] buffer, int offset, int length) {
+            payloads.add(new String(buffer, offset, length, StandardCharsets.UTF_8));
+            buffers.add(buffer);
+        }
+    }
+}
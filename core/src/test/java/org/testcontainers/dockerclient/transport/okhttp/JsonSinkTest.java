@@ -0,0 +1,65 @@
+package org.testcontainers.dockerclient.transport.okhttp;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.core.async.ResultCallbackTemplate;
+import okio.Buffer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNotNull;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNull;
+
+public class JsonSinkTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void decodesConcatenatedValues() {
+        Buffer source = new Buffer()
+            .writeUtf8("{\"status\":\"Pulling fs layer\",\"id\":\"a\"}\r\n")
+            .writeUtf8("{\"status\":\"Downloading\",\"id\":\"a\"}{\"status\":\"Download complete\",\"id\":\"a\"}\n\n")
+            .writeUtf8("{\"status\":\"Pull complete\",\"id\":\"a\"}");
+
+        CollectingCallback callback = new CollectingCallback();
+        new JsonSink<>(OBJECT_MAPPER, new TypeReference<PullResponseItem>() {}, callback).accept(source);
+
+        assertNull("no error", callback.error);
+        assertEquals("all values are decoded", 4, callback.items.size());
+        assertEquals("values are decoded in order", "Download complete", callback.items.get(2).getStatus());
+    }
+
+    @Test
+    public void reportsMalformedValues() {
+        Buffer source = new Buffer()
+            .writeUtf8("{\"status\":\"Downloading\"}\n")
+            .writeUtf8("{\"status\":");
+
+        CollectingCallback callback = new CollectingCallback();
+        new JsonSink<>(OBJECT_MAPPER, new TypeReference<PullResponseItem>() {}, callback).accept(source);
+
+        assertEquals("complete values are passed", 1, callback.items.size());
+        assertNotNull("truncated value is reported", callback.error);
+    }
+
+    private static class CollectingCallback extends ResultCallbackTemplate<CollectingCallback, PullResponseItem> {
+
+        final List<PullResponseItem> items = new ArrayList<>();
+
+        Throwable error;
+
+        @Override
+        public void onNext(PullResponseItem item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+    }
+}
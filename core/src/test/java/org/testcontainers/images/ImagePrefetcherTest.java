@@ -0,0 +1,104 @@
+package org.testcontainers.images;
+
+import org.junit.Test;
+import org.testcontainers.utility.LazyFuture;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class ImagePrefetcherTest {
+
+    @Test(timeout = 10_000)
+    public void sharesTheResolutionWithLaterCallers() throws Exception {
+        CountDownLatch resolving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger resolutions = new AtomicInteger();
+        LazyFuture<String> image = new LazyFuture<String>() {
+            @Override
+            protected String resolve() {
+                resolutions.incrementAndGet();
+                resolving.countDown();
+                await(release);
+                return "built:latest";
+            }
+        };
+
+        CompletableFuture<String> prefetch = ImagePrefetcher.prefetch(image);
+        resolving.await();
+        CompletableFuture<String> later = CompletableFuture.supplyAsync(() -> {
+            try {
+                return image.get();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+        release.countDown();
+
+        assertEquals("the prefetch resolves the image", "built:latest", prefetch.get());
+        assertEquals("later callers get the prefetched image", "built:latest", later.get());
+        assertEquals("the image is resolved once", 1, resolutions.get());
+    }
+
+    @Test(timeout = 10_000)
+    public void boundsTheNumberOfConcurrentResolutions() throws Exception {
+        int parallelism = TestcontainersConfiguration.getInstance().getImagePrefetchParallelism();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<LazyFuture<String>> images = new ArrayList<>();
+        for (int i = 0; i < parallelism * 3; i++) {
+            images.add(new LazyFuture<String>() {
+                @Override
+                protected String resolve() {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return "image:latest";
+                }
+            });
+        }
+
+        ImagePrefetcher.prefetch(images).get();
+
+        assertTrue("images are resolved concurrently", maxRunning.get() > 1);
+        assertTrue("at most " + parallelism + " images are resolved at the same time", maxRunning.get() <= parallelism);
+    }
+
+    @Test(timeout = 10_000)
+    public void reportsFailures() throws Exception {
+        LazyFuture<String> image = new LazyFuture<String>() {
+            @Override
+            protected String resolve() {
+                throw new IllegalStateException("can't build");
+            }
+        };
+
+        try {
+            ImagePrefetcher.prefetch(image).join();
+            fail("the prefetch fails when the image can't be resolved");
+        } catch (CompletionException e) {
+            assertEquals("the failure is the cause", "can't build", e.getCause().getMessage());
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
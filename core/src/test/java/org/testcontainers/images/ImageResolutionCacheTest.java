@@ -0,0 +1,126 @@
+package org.testcontainers.images;
+
+import org.junit.After;
+import org.junit.Test;
+import org.testcontainers.containers.ContainerFetchException;
+import org.testcontainers.utility.AsyncExecutors;
+import org.testcontainers.utility.Base58;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class ImageResolutionCacheTest {
+
+    private final DockerImageName imageName = new DockerImageName("resolution-cache-test/" + Base58.randomString(8).toLowerCase() + ":latest");
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        TestcontainersConfiguration.getInstance().getProperties().remove("pull.failure.cache.ttl");
+        ImageResolutionCache.invalidate(imageName);
+    }
+
+    @Test(timeout = 10_000)
+    public void sharesTheResolutionBetweenConcurrentCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Function<DockerImageName, String> loader = name -> {
+            loads.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return name.toString();
+        };
+
+        List<Future<String>> resolutions = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            resolutions.add(executor.submit(() -> resolve(loader)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> resolution : resolutions) {
+            assertEquals("every caller gets the image", imageName.toString(), resolution.get());
+        }
+        assertEquals("the image is resolved once", 1, loads.get());
+    }
+
+    @Test
+    public void keepsResolvedImagesUntilInvalidated() {
+        Function<DockerImageName, String> loader = name -> {
+            loads.incrementAndGet();
+            return name.toString();
+        };
+
+        resolve(loader);
+        resolve(loader);
+        assertEquals("a resolved image is cached", 1, loads.get());
+        assertTrue("a resolved image is listed as available", RemoteDockerImage.AVAILABLE_IMAGE_NAME_CACHE.contains(imageName));
+
+        ImageResolutionCache.invalidate(imageName);
+        assertFalse("an invalidated image is not listed anymore", RemoteDockerImage.AVAILABLE_IMAGE_NAME_CACHE.contains(imageName));
+        resolve(loader);
+        assertEquals("an invalidated image is resolved again", 2, loads.get());
+    }
+
+    @Test
+    public void keepsFailuresUntilTheyExpire() {
+        Function<DockerImageName, String> loader = name -> {
+            loads.incrementAndGet();
+            throw new ContainerFetchException("can't pull " + name);
+        };
+
+        assertFetchFails(loader);
+        assertFetchFails(loader);
+        assertEquals("a failure is cached", 1, loads.get());
+
+        TestcontainersConfiguration.getInstance().getProperties().setProperty("pull.failure.cache.ttl", "0");
+        ImageResolutionCache.invalidate(imageName);
+        assertFetchFails(loader);
+        assertFetchFails(loader);
+        assertEquals("an expired failure is resolved again", 3, loads.get());
+    }
+
+    @Test
+    public void recordsListedImages() {
+        ImageResolutionCache.available(Collections.singleton(imageName));
+
+        String resolved = resolve(name -> {
+            throw new AssertionError("listed images are not resolved again");
+        });
+        assertEquals("the listed image is resolved", imageName.toString(), resolved);
+    }
+
+    private String resolve(Function<DockerImageName, String> loader) {
+        CompletableFuture<String> resolution = ImageResolutionCache.resolveAsync(imageName, Runnable::run, loader);
+        return AsyncExecutors.join(resolution);
+    }
+
+    private void assertFetchFails(Function<DockerImageName, String> loader) {
+        try {
+            resolve(loader);
+            fail("the resolution fails");
+        } catch (ContainerFetchException expected) {
+        }
+    }
+}
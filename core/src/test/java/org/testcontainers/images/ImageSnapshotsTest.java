@@ -0,0 +1,60 @@
+package org.testcontainers.images;
+
+import com.github.dockerjava.api.command.InspectContainerResponse;
+import lombok.SneakyThrows;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.testcontainers.containers.GenericContainer;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class ImageSnapshotsTest {
+
+    @Before
+    @After
+    public void removeSnapshots() {
+        ImageSnapshots.prune();
+    }
+
+    @Test
+    public void createsContainersFromTheSnapshotOfTheProvisionedOne() throws Exception {
+        try (ProvisionedContainer first = new ProvisionedContainer("first")) {
+            first.start();
+            assertFalse("the first container is provisioned", first.isRestoredFromSnapshot());
+        }
+
+        try (ProvisionedContainer second = new ProvisionedContainer("first")) {
+            second.start();
+            assertTrue("a container with the same configuration is created from the snapshot", second.isRestoredFromSnapshot());
+            assertEquals("the snapshot contains the provisioned files", 0, second.execInContainer("test", "-f", "/provisioned").getExitCode());
+        }
+
+        try (ProvisionedContainer other = new ProvisionedContainer("other")) {
+            other.start();
+            assertFalse("a container with another configuration is provisioned", other.isRestoredFromSnapshot());
+        }
+
+        assertEquals("prune removes every snapshot", 2, ImageSnapshots.prune());
+    }
+
+    private static class ProvisionedContainer extends GenericContainer<ProvisionedContainer> {
+
+        ProvisionedContainer(String value) {
+            super("alpine:3.6");
+            withEnv("VALUE", value);
+            withCommand("sleep", "60");
+            withImageSnapshot(true);
+        }
+
+        @Override
+        @SneakyThrows
+        protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+            if (!isRestoredFromSnapshot()) {
+                execInContainer("touch", "/provisioned");
+            }
+        }
+    }
+}
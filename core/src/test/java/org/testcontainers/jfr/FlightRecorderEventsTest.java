@@ -0,0 +1,61 @@
+package org.testcontainers.jfr;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assume.assumeTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class FlightRecorderEventsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void eventsAreNoOpsWhenNotRecorded() {
+        FlightRecorderEvent event = FlightRecorderEvents.begin(FlightRecorderEventType.CONTAINER_STOP);
+
+        assertFalse("events are disabled without a recording", event.isEnabled());
+        event.withContainerId("id").withBytesSent(1).commit();
+    }
+
+    @Test
+    public void recordsCommittedEvents() throws Exception {
+        assumeTrue("Java Flight Recorder is supported", FlightRecorderEvents.isSupported());
+
+        // The JFR API is only available reflectively, as the tests are compiled for Java 8
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingClass.getConstructor().newInstance();
+        recordingClass.getMethod("enable", String.class).invoke(recording, FlightRecorderEventType.CONTAINER_EXEC.getName());
+        recordingClass.getMethod("start").invoke(recording);
+        try {
+            FlightRecorderEvents.begin(FlightRecorderEventType.CONTAINER_EXEC)
+                .withContainerId("container-id")
+                .withImage("alpine:3.6")
+                .withDetail("ls /")
+                .withBytesReceived(42)
+                .commit();
+        } finally {
+            recordingClass.getMethod("stop").invoke(recording);
+        }
+
+        Path file = temporaryFolder.getRoot().toPath().resolve("recording.jfr");
+        recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+        recordingClass.getMethod("close").invoke(recording);
+
+        List<?> events = (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile").getMethod("readAllEvents", Path.class).invoke(null, file);
+        assertEquals("the committed event is recorded", 1, events.size());
+
+        Object event = events.get(0);
+        Class<?> recordedObjectClass = Class.forName("jdk.jfr.consumer.RecordedObject");
+        assertEquals("the container ID is recorded", "container-id", recordedObjectClass.getMethod("getString", String.class).invoke(event, "containerId"));
+        assertEquals("the byte counts are recorded", 42L, recordedObjectClass.getMethod("getLong", String.class).invoke(event, "bytesReceived"));
+        assertTrue("the event is not failed", !(boolean) recordedObjectClass.getMethod("getBoolean", String.class).invoke(event, "failed"));
+    }
+}
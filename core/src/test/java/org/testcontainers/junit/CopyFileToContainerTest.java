@@ -22,4 +22,25 @@ public class CopyFileToContainerTest {
             Assert.assertTrue(filesList.contains(fileName));
         }
     }
+
+    @Test
+    public void checkFilesCopiedInOneArchive() throws IOException, InterruptedException {
+        try(
+            GenericContainer container = new GenericContainer("alpine:latest")
+                .withCommand("sleep","3000")
+                .withCopyFileToContainer(MountableFile.forClasspathResource("/mappable-resource/"), "/tmp/first/mappable-resource")
+                .withCopyFileToContainer(MountableFile.forClasspathResource("/test_copy_to_container.txt", 0700), "/tmp/second/")
+                .withCopyFileToContainer(MountableFile.forClasspathResource("/test-recursive-file.txt"), "/tmp/third/renamed.txt")
+        ) {
+            container.start();
+            String filesList = container.execInContainer("ls","/tmp/first/mappable-resource").getStdout();
+            Assert.assertTrue(filesList.contains(fileName));
+
+            String fileMode = container.execInContainer("stat", "-c", "%a", "/tmp/second/test_copy_to_container.txt").getStdout();
+            Assert.assertEquals("700", fileMode.trim());
+
+            String renamedFile = container.execInContainer("ls", "/tmp/third").getStdout();
+            Assert.assertEquals("renamed.txt", renamedFile.trim());
+        }
+    }
 }
@@ -10,6 +10,9 @@ import org.testcontainers.utility.MountableFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
 
@@ -102,4 +105,44 @@ public class FileOperationsTest {
             assertTrue("Files aren't same ", FileUtils.contentEquals(expectedFile, actualFile));
         }
     }
+
+    @Test
+    public void shouldCopyDirectoryFromContainerTest() throws Exception {
+        try (
+            GenericContainer alpineCopyToContainer = new GenericContainer("alpine:3.2")
+                .withCommand("top")
+        ) {
+
+            alpineCopyToContainer.start();
+            final MountableFile mountableFile = MountableFile.forClasspathResource("mappable-resource/");
+            alpineCopyToContainer.copyFileToContainer(mountableFile, "/home/test/");
+            alpineCopyToContainer.execInContainer("ln", "-s", "test-resource.txt", "/home/test/link.txt");
+
+            File actualDirectory = temporaryFolder.newFolder("copied");
+            alpineCopyToContainer.copyDirectoryFromContainer("/home/test", actualDirectory.getPath());
+
+            File expectedFile = new File(mountableFile.getResolvedPath() + "/test-resource.txt");
+            assertTrue("Files aren't same ", FileUtils.contentEquals(expectedFile, new File(actualDirectory, "test-resource.txt")));
+            assertTrue("Symbolic links are kept", Files.isSymbolicLink(new File(actualDirectory, "link.txt").toPath()));
+        }
+    }
+
+    @Test
+    public void shouldVisitEveryEntryCopiedFromContainerTest() throws Exception {
+        try (
+            GenericContainer alpineCopyToContainer = new GenericContainer("alpine:3.2")
+                .withCommand("top")
+        ) {
+
+            alpineCopyToContainer.start();
+            final MountableFile mountableFile = MountableFile.forClasspathResource("mappable-resource/");
+            alpineCopyToContainer.copyFileToContainer(mountableFile, "/home/test/");
+
+            List<String> entryNames = new ArrayList<>();
+            alpineCopyToContainer.copyFromContainer("/home/test", (entry, content) -> entryNames.add(entry.getName()));
+
+            assertTrue("The directory is visited", entryNames.contains("test/"));
+            assertTrue("The files of the directory are visited", entryNames.contains("test/test-resource.txt"));
+        }
+    }
 }
@@ -345,6 +345,18 @@ public class GenericContainerRuleTest {
         // We expect to reach this point for modern Docker versions.
     }
 
+    @Test
+    public void testExecInContainerWithStdin() throws Exception {
+        Assume.assumeTrue(TestEnvironment.dockerExecutionDriverSupportsExec());
+
+        byte[] input = new byte[1024 * 1024];
+        Arrays.fill(input, (byte) 'a');
+
+        final GenericContainer.ExecResult result = redis.execInContainer(new ByteArrayInputStream(input), "wc", "-c");
+        assertEquals("The command should read stdin until EOF", String.valueOf(input.length), result.getStdout().trim());
+        assertEquals("Stderr for \"wc -c\" command should be empty", "", result.getStderr());
+    }
+
 
     @Test
     public void extraHostTest() throws IOException {
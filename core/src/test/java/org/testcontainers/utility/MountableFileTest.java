@@ -2,8 +2,10 @@ package org.testcontainers.utility;
 
 import lombok.Cleanup;
 import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
 
@@ -13,6 +15,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.function.Consumer;
 
 import static org.rnorth.visibleassertions.VisibleAssertions.*;
@@ -122,6 +126,21 @@ public class MountableFileTest {
         }
     }
 
+    @Test
+    public void fileContentIsCopiedCompletely() throws Exception {
+        final Path file = createTempDir().resolve("large.bin");
+        final byte[] content = new byte[5 * 1024 * 1024 + 7];
+        new Random(42).nextBytes(content);
+        Files.write(file, content);
+        final MountableFile mountableFile = MountableFile.forHostPath(file);
+
+        @Cleanup final TarArchiveInputStream tais = intoTarArchive((taos) -> mountableFile.transferTo(taos, "large.bin"));
+
+        final TarArchiveEntry entry = tais.getNextTarEntry();
+        assertEquals("the entry has the size of the file", (long) content.length, entry.getSize());
+        assertTrue("the entry has the content of the file", Arrays.equals(content, IOUtils.toByteArray(tais)));
+    }
+
     private TarArchiveInputStream intoTarArchive(Consumer<TarArchiveOutputStream> consumer) throws IOException {
         @Cleanup final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         @Cleanup final TarArchiveOutputStream taos = new TarArchiveOutputStream(baos);
@@ -0,0 +1,148 @@
+package org.testcontainers.utility;
+
+import org.junit.Test;
+import org.rnorth.ducttape.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertThrows;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class PollingSchedulerTest {
+
+    @Test
+    public void backsOffUpToTheMaximumInterval() {
+        PollingScheduler.Schedule schedule = new PollingScheduler(Duration.ofMillis(100), Duration.ofSeconds(1), 1).newSchedule();
+
+        long first = schedule.nextIntervalNanos();
+        assertTrue("first interval is the initial one, with jitter", first >= TimeUnit.MILLISECONDS.toNanos(80) && first <= TimeUnit.MILLISECONDS.toNanos(120));
+
+        long second = schedule.nextIntervalNanos();
+        assertTrue("second interval is longer", second >= TimeUnit.MILLISECONDS.toNanos(120) && second <= TimeUnit.MILLISECONDS.toNanos(180));
+
+        for (int i = 0; i < 20; i++) {
+            schedule.nextIntervalNanos();
+        }
+        assertTrue("intervals are capped", schedule.nextIntervalNanos() <= TimeUnit.MILLISECONDS.toNanos(1200));
+    }
+
+    @Test(timeout = 10_000)
+    public void retriesQuicklyUntilSuccess() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        scheduler.retryUntilTrue(Duration.ofSeconds(5), () -> attempts.incrementAndGet() == 3);
+
+        assertEquals("condition is probed until true", 3, attempts.get());
+        assertTrue("early probes are fast", System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test(timeout = 10_000)
+    public void throwsOnTimeout() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 1);
+
+        assertThrows("timeout is reported", TimeoutException.class, () ->
+            scheduler.retryUntilSuccess(Duration.ofMillis(300), () -> {
+                throw new IllegalStateException("not ready");
+            })
+        );
+    }
+
+    @Test(timeout = 10_000)
+    public void probesOnTheCallingThreadAndReleasesTheSlot() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 1);
+        Thread caller = Thread.currentThread();
+
+        scheduler.retryUntilTrue(Duration.ofSeconds(5), () -> Thread.currentThread() == caller);
+        scheduler.retryUntilTrue(Duration.ofSeconds(5), () -> Thread.currentThread() == caller);
+    }
+
+    @Test(timeout = 10_000)
+    public void capsConcurrentProbes() throws Exception {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(8);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    try {
+                        scheduler.probe(() -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.sleep(50);
+                            return running.decrementAndGet();
+                        });
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertTrue("all probes ran", done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("at most two probes ran at the same time", 2, maxRunning.get());
+    }
+
+    @Test(timeout = 10_000)
+    public void retriesAsynchronouslyUntilTrue() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<Void> ready = scheduler.retryUntilTrueAsync(Duration.ofSeconds(5), () -> attempts.incrementAndGet() == 3);
+
+        ready.join();
+        assertEquals("condition is probed until true", 3, attempts.get());
+    }
+
+    @Test(timeout = 10_000)
+    public void failsAsynchronouslyOnTimeout() {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 1);
+
+        CompletableFuture<Object> ready = scheduler.retryUntilSuccessAsync(Duration.ofMillis(300), () -> {
+            throw new IllegalStateException("not ready");
+        });
+
+        assertThrows("timeout is reported", TimeoutException.class, () -> AsyncExecutors.join(ready));
+    }
+
+    @Test(timeout = 10_000)
+    public void failsAsynchronouslyOnTimeoutWhileAProbeHangs() throws Exception {
+        PollingScheduler scheduler = new PollingScheduler(Duration.ofMillis(10), Duration.ofMillis(100), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            CompletableFuture<Object> ready = scheduler.retryUntilSuccessAsync(Duration.ofMillis(300), () -> {
+                // Hangs past the deadline, even when interrupted
+                while (true) {
+                    try {
+                        release.await();
+                        return null;
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                }
+            });
+
+            assertThrows("timeout is reported while the probe still runs", TimeoutException.class, () -> AsyncExecutors.join(ready));
+            assertTrue("the scheduler is not held by the probe", AsyncExecutors.getScheduler().schedule(() -> true, 0, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS));
+            assertTrue("the probe is interrupted at the deadline", interrupted.await(5, TimeUnit.SECONDS));
+            assertEquals("the slot of the hanging probe is released", 1, scheduler.probeAsync(() -> 1).get(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.testcontainers.utility;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.ListNetworksCmd;
+import com.github.dockerjava.api.command.RemoveContainerCmd;
+import com.github.dockerjava.api.command.RemoveImageCmd;
+import com.github.dockerjava.api.command.RemoveNetworkCmd;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Network;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.InOrder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+
+public class ResourceReaperTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final DockerClient client = mock(DockerClient.class);
+
+    private final RemoveContainerCmd removeContainer = mock(RemoveContainerCmd.class, RETURNS_SELF);
+
+    private final RemoveNetworkCmd removeNetwork = mock(RemoveNetworkCmd.class, RETURNS_SELF);
+
+    private final RemoveImageCmd removeImage = mock(RemoveImageCmd.class, RETURNS_SELF);
+
+    private final ResourceReaper resourceReaper = new ResourceReaper(() -> client);
+
+    @Before
+    public void setUp() {
+        when(client.removeContainerCmd(anyString())).thenReturn(removeContainer);
+        when(client.removeNetworkCmd(anyString())).thenReturn(removeNetwork);
+        when(client.removeImageCmd(anyString())).thenReturn(removeImage);
+
+        Network network = mock(Network.class);
+        when(network.getId()).thenReturn("network");
+        ListNetworksCmd listNetworks = mock(ListNetworksCmd.class, RETURNS_SELF);
+        when(listNetworks.exec()).thenReturn(Collections.singletonList(network));
+        when(client.listNetworksCmd()).thenReturn(listNetworks);
+    }
+
+    @Test(timeout = 10_000)
+    public void removesContainersWithASingleCallThenNetworksAndImages() {
+        resourceReaper.registerContainerForCleanup("container", "image");
+        resourceReaper.registerNetworkIdForCleanup("network");
+        resourceReaper.registerImageForCleanup("image");
+
+        assertTrue("cleanup completes", resourceReaper.performCleanup(Duration.ofSeconds(5), 2));
+
+        verify(removeContainer).withForce(true);
+        verify(removeContainer).withRemoveVolumes(true);
+        verify(client, never()).inspectContainerCmd(anyString());
+        verify(client, never()).killContainerCmd(anyString());
+
+        InOrder inOrder = inOrder(removeContainer, removeNetwork);
+        inOrder.verify(removeContainer).exec();
+        inOrder.verify(removeNetwork).exec();
+        verify(removeImage).exec();
+    }
+
+    @Test(timeout = 10_000)
+    public void treatsMissingContainersAsRemoved() {
+        when(removeContainer.exec()).thenThrow(new NotFoundException("No such container"));
+        resourceReaper.registerContainerForCleanup("container", "image");
+        resourceReaper.registerNetworkIdForCleanup("network");
+
+        assertTrue("cleanup completes", resourceReaper.performCleanup(Duration.ofSeconds(5), 2));
+        verify(removeNetwork).exec();
+    }
+
+    @Test(timeout = 10_000)
+    public void deletesRegisteredPaths() throws Exception {
+        Path directory = temporaryFolder.newFolder("volume").toPath();
+        Files.write(directory.resolve("file.txt"), "content".getBytes());
+        resourceReaper.registerPathForCleanup(directory);
+
+        assertTrue("cleanup completes", resourceReaper.performCleanup(Duration.ofSeconds(5), 2));
+        assertFalse("the directory is deleted", Files.exists(directory));
+    }
+
+    @Test(timeout = 10_000)
+    public void givesUpAtTheDeadline() {
+        when(removeContainer.exec()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+        resourceReaper.registerContainerForCleanup("container", "image");
+        resourceReaper.registerNetworkIdForCleanup("network");
+
+        long start = System.nanoTime();
+        assertFalse("cleanup does not complete", resourceReaper.performCleanup(Duration.ofMillis(200), 2));
+        assertTrue("cleanup returns at the deadline", System.nanoTime() - start < Duration.ofSeconds(2).toNanos());
+        verify(removeNetwork, never()).exec();
+    }
+
+    @Test(timeout = 10_000)
+    public void removesImagesAndPathsWhileAnotherContainerHangs() throws Exception {
+        RemoveContainerCmd removeHangingContainer = mock(RemoveContainerCmd.class, RETURNS_SELF);
+        when(removeHangingContainer.exec()).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+        when(client.removeContainerCmd("hanging")).thenReturn(removeHangingContainer);
+        Path directory = temporaryFolder.newFolder("volume").toPath();
+        resourceReaper.registerContainerForCleanup("hanging", "other");
+        resourceReaper.registerContainerForCleanup("container", "image");
+        resourceReaper.registerImageForCleanup("image");
+        resourceReaper.registerPathForCleanup(directory);
+
+        assertFalse("cleanup does not complete", resourceReaper.performCleanup(Duration.ofMillis(500), 3));
+        verify(removeImage).exec();
+        assertFalse("the directory is deleted", Files.exists(directory));
+    }
+}
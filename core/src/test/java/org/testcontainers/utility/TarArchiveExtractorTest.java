@@ -0,0 +1,131 @@
+package org.testcontainers.utility;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertFalse;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertTrue;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class TarArchiveExtractorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void extractsTheContentOfTheCopiedDirectory() throws Exception {
+        byte[] largeContent = new byte[3 * 1024 * 1024];
+        new Random(42).nextBytes(largeContent);
+
+        byte[] archive = archive(tarArchive -> {
+            directory(tarArchive, "logs/", 0755);
+            directory(tarArchive, "logs/nested/", 0750);
+            file(tarArchive, "logs/app.log", "started".getBytes(), 0640);
+            file(tarArchive, "logs/nested/run.sh", "#!/bin/sh".getBytes(), 0755);
+            file(tarArchive, "logs/nested/large.bin", largeContent, 0644);
+            symbolicLink(tarArchive, "logs/latest.log", "app.log");
+        });
+
+        Path destination = temporaryFolder.getRoot().toPath().resolve("copy");
+        new TarArchiveExtractor(destination, ArchiveEntryFilter.ALL).extract(new TarArchiveInputStream(new ByteArrayInputStream(archive)));
+
+        assertEquals("small files are extracted", "started", new String(Files.readAllBytes(destination.resolve("app.log"))));
+        assertTrue("large files are extracted", Arrays.equals(largeContent, Files.readAllBytes(destination.resolve("nested/large.bin"))));
+        assertEquals("file permissions are kept", "rwxr-xr-x", PosixFilePermissions.toString(Files.getPosixFilePermissions(destination.resolve("nested/run.sh"))));
+        assertEquals("directory permissions are kept", "rwxr-x---", PosixFilePermissions.toString(Files.getPosixFilePermissions(destination.resolve("nested"))));
+        assertTrue("symbolic links are kept", Files.isSymbolicLink(destination.resolve("latest.log")));
+        assertEquals("symbolic links keep their target", Paths.get("app.log"), Files.readSymbolicLink(destination.resolve("latest.log")));
+    }
+
+    @Test
+    public void filtersEntriesBeforeWritingThem() throws Exception {
+        byte[] archive = archive(tarArchive -> {
+            directory(tarArchive, "reports/", 0755);
+            directory(tarArchive, "reports/tmp/", 0755);
+            file(tarArchive, "reports/tmp/result.xml", "<tmp/>".getBytes(), 0644);
+            file(tarArchive, "reports/sub/result.xml", "<result/>".getBytes(), 0644);
+            file(tarArchive, "reports/sub/result.txt", "result".getBytes(), 0644);
+        });
+
+        Path destination = temporaryFolder.getRoot().toPath();
+        ArchiveEntryFilter filter = ArchiveEntryFilter.include("**/*.xml").withExcludes("tmp/**");
+        new TarArchiveExtractor(destination, filter).extract(new TarArchiveInputStream(new ByteArrayInputStream(archive)));
+
+        assertTrue("included files are extracted", Files.exists(destination.resolve("sub/result.xml")));
+        assertFalse("files which are not included are skipped", Files.exists(destination.resolve("sub/result.txt")));
+        assertFalse("excluded files are skipped", Files.exists(destination.resolve("tmp/result.xml")));
+    }
+
+    @Test
+    public void extractsASingleFileUnderItsName() throws Exception {
+        byte[] archive = archive(tarArchive -> file(tarArchive, "result.txt", "result".getBytes(), 0644));
+
+        Path destination = temporaryFolder.getRoot().toPath();
+        new TarArchiveExtractor(destination, ArchiveEntryFilter.ALL).extract(new TarArchiveInputStream(new ByteArrayInputStream(archive)));
+
+        assertEquals("the file is extracted under its name", "result", new String(Files.readAllBytes(destination.resolve("result.txt"))));
+    }
+
+    @Test
+    public void rejectsEntriesOutsideOfTheDestination() throws Exception {
+        byte[] archive = archive(tarArchive -> {
+            directory(tarArchive, "logs/", 0755);
+            file(tarArchive, "logs/../../escaped.txt", "escaped".getBytes(), 0644);
+        });
+
+        Path destination = temporaryFolder.getRoot().toPath().resolve("copy");
+        try {
+            new TarArchiveExtractor(destination, ArchiveEntryFilter.ALL).extract(new TarArchiveInputStream(new ByteArrayInputStream(archive)));
+            fail("entries outside of the destination are rejected");
+        } catch (IOException e) {
+            assertFalse("nothing is written outside of the destination", Files.exists(temporaryFolder.getRoot().toPath().resolve("escaped.txt")));
+        }
+    }
+
+    private static byte[] archive(TarArchivePipe.Writer writer) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tarArchive = new TarArchiveOutputStream(outputStream)) {
+            tarArchive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+            writer.writeTo(tarArchive);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private static void directory(TarArchiveOutputStream tarArchive, String name, int mode) throws IOException {
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setMode(TarArchiveEntry.DEFAULT_DIR_MODE & ~0777 | mode);
+        tarArchive.putArchiveEntry(entry);
+        tarArchive.closeArchiveEntry();
+    }
+
+    private static void file(TarArchiveOutputStream tarArchive, String name, byte[] content, int mode) throws IOException {
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setMode(TarArchiveEntry.DEFAULT_FILE_MODE & ~0777 | mode);
+        entry.setSize(content.length);
+        tarArchive.putArchiveEntry(entry);
+        tarArchive.write(content);
+        tarArchive.closeArchiveEntry();
+    }
+
+    private static void symbolicLink(TarArchiveOutputStream tarArchive, String name, String target) throws IOException {
+        TarArchiveEntry entry = new TarArchiveEntry(name, TarArchiveEntry.LF_SYMLINK);
+        entry.setLinkName(target);
+        tarArchive.putArchiveEntry(entry);
+        tarArchive.closeArchiveEntry();
+    }
+}
@@ -0,0 +1,69 @@
+package org.testcontainers.utility;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Test;
+import org.testcontainers.images.builder.Transferable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertEquals;
+import static org.rnorth.visibleassertions.VisibleAssertions.assertNull;
+import static org.rnorth.visibleassertions.VisibleAssertions.fail;
+
+public class TarArchivePipeTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void streamsEntriesLargerThanTheBuffer() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024];
+        new Random(42).nextBytes(content);
+
+        try (
+            InputStream archive = TarArchivePipe.open(executor, tarArchive -> {
+                Transferable.of(content, 0755).transferTo(tarArchive, "tmp/large.bin");
+                Transferable.of("small".getBytes()).transferTo(tarArchive, "tmp/small.txt");
+            });
+            TarArchiveInputStream tarInput = new TarArchiveInputStream(archive)
+        ) {
+            TarArchiveEntry large = tarInput.getNextTarEntry();
+            assertEquals("the first entry is named as written", "tmp/large.bin", large.getName());
+            assertEquals("the mode of the first entry is kept", 0755, large.getMode() & 0777);
+            assertArrayEquals("the content of the first entry is complete", content, IOUtils.toByteArray(tarInput));
+
+            TarArchiveEntry small = tarInput.getNextTarEntry();
+            assertEquals("the second entry is named as written", "tmp/small.txt", small.getName());
+            assertEquals("the content of the second entry is complete", "small", IOUtils.toString(tarInput));
+
+            assertNull("there are no other entries", tarInput.getNextTarEntry());
+        }
+    }
+
+    @Test
+    public void failsTheReaderWhenTheWriterFails() {
+        InputStream archive = TarArchivePipe.open(executor, tarArchive -> {
+            Transferable.of("partial".getBytes()).transferTo(tarArchive, "partial.txt");
+            throw new IOException("Source went away");
+        });
+
+        try {
+            IOUtils.toByteArray(archive);
+            fail("the failure of the writer is thrown by the reader");
+        } catch (IOException e) {
+            assertEquals("the failure of the writer is the cause", "Source went away", e.getCause().getMessage());
+        }
+    }
+}
@@ -51,8 +51,11 @@ public class CassandraContainer<SELF extends CassandraContainer<SELF>> extends G
     }
 
     @Override
-    protected void containerIsStarted(InspectContainerResponse containerInfo) {
-        runInitScriptIfRequired();
+    protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+        // A reused database was initialized by the session that created it
+        if (!reused) {
+            runInitScriptIfRequired();
+        }
     }
 
     /**
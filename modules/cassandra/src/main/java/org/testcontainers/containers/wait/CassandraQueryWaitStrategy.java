@@ -6,10 +6,6 @@ import org.testcontainers.containers.delegate.CassandraDatabaseDelegate;
 import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
 import org.testcontainers.delegate.DatabaseDelegate;
 
-import java.util.concurrent.TimeUnit;
-
-import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
-
 /**
  * Waits until Cassandra returns its version
  *
@@ -24,12 +20,10 @@ public class CassandraQueryWaitStrategy extends AbstractWaitStrategy {
     protected void waitUntilReady() {
         // execute select version query until success or timeout
         try {
-            retryUntilSuccess((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, () -> {
-                getRateLimiter().doWhenReady(() -> {
-                    try (DatabaseDelegate databaseDelegate = getDatabaseDelegate()) {
-                        databaseDelegate.execute(SELECT_VERSION_QUERY, "", 1, false, false);
-                    }
-                });
+            getPollingScheduler().retryUntilSuccess(startupTimeout, () -> {
+                try (DatabaseDelegate databaseDelegate = getDatabaseDelegate()) {
+                    databaseDelegate.execute(SELECT_VERSION_QUERY, "", 1, false, false);
+                }
                 return true;
             });
         } catch (TimeoutException e) {
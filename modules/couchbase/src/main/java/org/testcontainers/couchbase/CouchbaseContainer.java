@@ -209,6 +209,18 @@ public class CouchbaseContainer extends GenericContainer<CouchbaseContainer> {
         return self();
     }
 
+    /**
+     * Not supported: the cluster is reached through a proxy container and a network created by every session, and is
+     * provisioned over its REST API once it is started.
+     */
+    @Override
+    public CouchbaseContainer withReuse(boolean reusable) {
+        if (reusable) {
+            throw new UnsupportedOperationException("Couchbase containers can't be reused");
+        }
+        return super.withReuse(false);
+    }
+
     @SneakyThrows
     public void initCluster() {
         urlBase = String.format("http://%s:%s", getContainerIpAddress(), getMappedPort(REST));
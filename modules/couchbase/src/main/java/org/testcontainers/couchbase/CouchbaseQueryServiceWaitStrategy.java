@@ -10,9 +10,6 @@ import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
 
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
-
-import static org.rnorth.ducttape.unreliables.Unreliables.retryUntilSuccess;
 
 /**
  * @author ctayeb
@@ -34,18 +31,16 @@ public class CouchbaseQueryServiceWaitStrategy extends AbstractWaitStrategy {
 
         // try to connect to the URL
         try {
-            retryUntilSuccess((int) startupTimeout.getSeconds(), TimeUnit.SECONDS, () -> {
-                getRateLimiter().doWhenReady(() -> {
-                    GetClusterConfigResponse clusterConfig = bucket.core()
-                        .<GetClusterConfigResponse>send(new GetClusterConfigRequest())
-                        .toBlocking().single();
-                    boolean queryServiceEnabled = clusterConfig.config()
-                        .bucketConfig(bucket.name())
-                        .serviceEnabled(ServiceType.QUERY);
-                    if (!queryServiceEnabled) {
-                        throw new ContainerLaunchException("Query service not ready yet");
-                    }
-                });
+            getPollingScheduler().retryUntilSuccess(startupTimeout, () -> {
+                GetClusterConfigResponse clusterConfig = bucket.core()
+                    .<GetClusterConfigResponse>send(new GetClusterConfigRequest())
+                    .toBlocking().single();
+                boolean queryServiceEnabled = clusterConfig.config()
+                    .bucketConfig(bucket.name())
+                    .serviceEnabled(ServiceType.QUERY);
+                if (!queryServiceEnabled) {
+                    throw new ContainerLaunchException("Query service not ready yet");
+                }
                 return true;
             });
         } catch (TimeoutException e) {
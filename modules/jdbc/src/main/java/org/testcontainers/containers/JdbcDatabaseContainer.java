@@ -12,7 +12,9 @@ import org.testcontainers.utility.MountableFile;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Future;
@@ -150,8 +152,20 @@ public abstract class JdbcDatabaseContainer<SELF extends JdbcDatabaseContainer<S
     }
 
     @Override
-    protected void containerIsStarted(InspectContainerResponse containerInfo) {
-        runInitScriptIfRequired();
+    protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+        super.containerIsStarted(containerInfo, reused);
+        // A reused or restored database was initialized by the session that created it
+        if (!reused && !isRestoredFromSnapshot()) {
+            runInitScriptIfRequired();
+        }
+    }
+
+    @Override
+    protected List<MountableFile> getSnapshotInputFiles() {
+        if (initScriptPath == null) {
+            return super.getSnapshotInputFiles();
+        }
+        return Collections.singletonList(MountableFile.forClasspathResource(initScriptPath));
     }
 
     /**
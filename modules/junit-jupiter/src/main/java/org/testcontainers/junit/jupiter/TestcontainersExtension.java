@@ -9,13 +9,19 @@ import org.junit.platform.commons.util.AnnotationUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.startup.StartupReport;
+import org.testcontainers.images.ImagePrefetcher;
 import org.testcontainers.lifecycle.Startable;
 
 import java.lang.reflect.Field;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 class TestcontainersExtension implements BeforeEachCallback, BeforeAllCallback, ExecutionCondition, TestInstancePostProcessor {
@@ -37,17 +43,39 @@ class TestcontainersExtension implements BeforeEachCallback, BeforeAllCallback,
 
         ExtensionContext.Store store = context.getStore(NAMESPACE);
 
-        findSharedContainers(testClass)
+        List<StoreAdapter> sharedContainers = findSharedContainers(testClass).collect(Collectors.toList());
+        prefetchImages(store, sharedContainers);
+        sharedContainers
             .forEach(adapter -> store.getOrComputeIfAbsent(adapter.getKey(), k -> adapter.start()));
     }
 
     @Override
     public void beforeEach(final ExtensionContext context) {
-        collectParentTestInstances(context)
-            .parallelStream()
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+
+        List<StoreAdapter> restartContainers = collectParentTestInstances(context).stream()
             .flatMap(this::findRestartContainers)
-            .forEach(adapter -> context.getStore(NAMESPACE)
-                .getOrComputeIfAbsent(adapter.getKey(), k -> adapter.start()));
+            .collect(Collectors.toList());
+        prefetchImages(store, restartContainers);
+        restartContainers
+            .parallelStream()
+            .forEach(adapter -> store.getOrComputeIfAbsent(adapter.getKey(), k -> adapter.start()));
+    }
+
+    /**
+     * Pulls the images of the containers which are not started yet in the background, so that they are pulled at the
+     * same time rather than one after another as the containers are started.
+     */
+    private static void prefetchImages(ExtensionContext.Store store, List<StoreAdapter> adapters) {
+        List<Future<String>> images = adapters.stream()
+            .filter(adapter -> store.get(adapter.getKey()) == null)
+            .map(StoreAdapter::getContainer)
+            .filter(GenericContainer.class::isInstance)
+            .map(container -> ((GenericContainer<?>) container).getImage())
+            .collect(Collectors.toList());
+        if (images.size() > 1) {
+            ImagePrefetcher.prefetch(images);
+        }
     }
 
     @Override
@@ -107,7 +135,7 @@ class TestcontainersExtension implements BeforeEachCallback, BeforeAllCallback,
                 isSharedContainer(),
                 ReflectionUtils.HierarchyTraversalMode.TOP_DOWN)
             .stream()
-            .map(f -> getContainerInstance(null, f));
+            .map(f -> getContainerInstance(testClass, null, f));
     }
 
     private Predicate<Field> isSharedContainer() {
@@ -120,7 +148,7 @@ class TestcontainersExtension implements BeforeEachCallback, BeforeAllCallback,
                 isRestartContainer(),
                 ReflectionUtils.HierarchyTraversalMode.TOP_DOWN)
             .stream()
-            .map(f -> getContainerInstance(testInstance, f));
+            .map(f -> getContainerInstance(testInstance.getClass(), testInstance, f));
     }
 
     private Predicate<Field> isRestartContainer() {
@@ -142,11 +170,11 @@ class TestcontainersExtension implements BeforeEachCallback, BeforeAllCallback,
         };
     }
 
-    private static StoreAdapter getContainerInstance(final Object testInstance, final Field field) {
+    private static StoreAdapter getContainerInstance(final Class<?> testClass, final Object testInstance, final Field field) {
         try {
             field.setAccessible(true);
             Startable containerInstance = Preconditions.notNull((Startable) field.get(testInstance), "Container " + field.getName() + " needs to be initialized");
-            return new StoreAdapter(field.getDeclaringClass(), field.getName(), containerInstance);
+            return new StoreAdapter(testClass, field.getDeclaringClass(), field.getName(), containerInstance);
         } catch (IllegalAccessException e) {
             throw new ExtensionConfigurationException("Can not access container defined in field " + field.getName());
         }
@@ -162,15 +190,20 @@ class TestcontainersExtension implements BeforeEachCallback, BeforeAllCallback,
         @Getter
         private String key;
 
+        @Getter
         private Startable container;
 
-        private StoreAdapter(Class<?> declaringClass, String fieldName, Startable container) {
+        private Class<?> testClass;
+
+        private StoreAdapter(Class<?> testClass, Class<?> declaringClass, String fieldName, Startable container) {
             this.key = declaringClass.getName() + "." + fieldName;
             this.container = container;
+            this.testClass = testClass;
         }
 
         private StoreAdapter start() {
-            container.start();
+            // Restarted containers are started in parallel, on threads whose stack doesn't contain the test class
+            StartupReport.runForTestClass(testClass, container::start);
             return this;
         }
 
@@ -80,11 +80,16 @@ public class KafkaContainer extends GenericContainer<KafkaContainer> {
 
     @Override
     @SneakyThrows
-    protected void containerIsStarting(InspectContainerResponse containerInfo) {
-        super.containerIsStarting(containerInfo);
+    protected void containerIsStarting(InspectContainerResponse containerInfo, boolean reused) {
+        super.containerIsStarting(containerInfo, reused);
 
         port = getMappedPort(KAFKA_PORT);
 
+        if (reused) {
+            // Zookeeper and Kafka were started by the session which created the container
+            return;
+        }
+
         final String zookeeperConnect;
         if (externalZookeeperConnect != null) {
             zookeeperConnect = externalZookeeperConnect;
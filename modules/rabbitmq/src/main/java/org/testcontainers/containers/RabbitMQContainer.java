@@ -69,7 +69,11 @@ public class RabbitMQContainer extends GenericContainer<RabbitMQContainer> {
     }
 
     @Override
-    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+    protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+        if (reused) {
+            // Already declared by the session which created the container
+            return;
+        }
 
         values.forEach(command -> {
             try {
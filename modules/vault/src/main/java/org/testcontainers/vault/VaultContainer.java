@@ -48,8 +48,11 @@ public class VaultContainer<SELF extends VaultContainer<SELF>> extends GenericCo
     }
 
     @Override
-    protected void containerIsStarted(InspectContainerResponse containerInfo) {
-        addSecrets();
+    protected void containerIsStarted(InspectContainerResponse containerInfo, boolean reused) {
+        // A reused container got its secrets from the session that created it
+        if (!reused) {
+            addSecrets();
+        }
     }
 
     private void addSecrets() {
@@ -103,7 +106,7 @@ public class VaultContainer<SELF extends VaultContainer<SELF>> extends GenericCo
      * that is specified. Thus this can be called more than once for multiple paths to be added to Vault.
      *
      * The secrets are added to vault directly after the container is up via the
-     * {@link #addSecrets() addSecrets}, called from {@link #containerIsStarted(InspectContainerResponse) containerIsStarted}
+     * {@link #addSecrets() addSecrets}, called from {@link #containerIsStarted(InspectContainerResponse, boolean) containerIsStarted}
      *
      * @param path specific Vault path to store specified secrets
      * @param firstSecret first secret to add to specifed path